@@ -0,0 +1,98 @@
+package com.blog.api.cache;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.blog.api.dto.response.CategoryResponse;
+import com.blog.api.entity.Category;
+import com.blog.api.mapper.CategoryMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 分类树快照
+ * 不可变的树结构，记录构建时的 CATEGORY / POST 内容版本号（分类节点包含已发布文章数）；
+ * 读取时发现版本号变化才重新查询构建，构建完成后整体替换引用，读路径无锁。
+ * 版本号在查询数据库之前读取，与 {@link com.blog.api.web.ConditionalGet} 的 ETag 保持一致。
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryTree {
+
+    private final CategoryMapper categoryMapper;
+    private final ContentVersions contentVersions;
+
+    private final Object rebuildLock = new Object();
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param categoryVersion 构建时的分类版本号
+     * @param postVersion     构建时的文章版本号
+     * @param roots           顶级分类（按排序值、ID 升序，子分类同序）
+     */
+    private record Snapshot(long categoryVersion, long postVersion, List<CategoryResponse> roots) {
+    }
+
+    public List<CategoryResponse> getRoots() {
+        long categoryVersion = contentVersions.get(ContentScope.CATEGORY);
+        long postVersion = contentVersions.get(ContentScope.POST);
+        Snapshot current = snapshot;
+        if (isFresh(current, categoryVersion, postVersion)) {
+            return current.roots();
+        }
+        synchronized (rebuildLock) {
+            current = snapshot;
+            if (!isFresh(current, categoryVersion, postVersion)) {
+                current = new Snapshot(categoryVersion, postVersion, build());
+                snapshot = current;
+            }
+            return current.roots();
+        }
+    }
+
+    private static boolean isFresh(Snapshot snapshot, long categoryVersion, long postVersion) {
+        return snapshot != null && snapshot.categoryVersion() >= categoryVersion && snapshot.postVersion() >= postVersion;
+    }
+
+    private List<CategoryResponse> build() {
+        List<Category> categories = categoryMapper.selectList(new LambdaQueryWrapper<Category>()
+                .orderByAsc(Category::getSortOrder)
+                .orderByAsc(Category::getId));
+        Set<Long> ids = new HashSet<>();
+        categories.forEach(category -> ids.add(category.getId()));
+
+        Map<Long, List<Category>> childrenByParent = new HashMap<>();
+        List<Category> roots = new ArrayList<>();
+        for (Category category : categories) {
+            Long parentId = category.getParentId();
+            // 父分类不存在时按顶级分类处理
+            if (parentId != null && !parentId.equals(category.getId()) && ids.contains(parentId)) {
+                childrenByParent.computeIfAbsent(parentId, k -> new ArrayList<>()).add(category);
+            } else {
+                roots.add(category);
+            }
+        }
+        Set<Long> visited = new HashSet<>();
+        return roots.stream().map(root -> toNode(root, childrenByParent, visited)).toList();
+    }
+
+    private static CategoryResponse toNode(Category category, Map<Long, List<Category>> childrenByParent, Set<Long> visited) {
+        visited.add(category.getId());
+        List<CategoryResponse> children = childrenByParent.getOrDefault(category.getId(), List.of()).stream()
+                .filter(child -> !visited.contains(child.getId()))
+                .map(child -> toNode(child, childrenByParent, visited))
+                .toList();
+        return CategoryResponse.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .slug(category.getSlug())
+                .description(category.getDescription())
+                .parentId(category.getParentId())
+                .sortOrder(category.getSortOrder())
+                .postCount(category.getPostCount() != null ? category.getPostCount().longValue() : 0L)
+                .createdAt(category.getCreatedAt())
+                .updatedAt(category.getUpdatedAt())
+                .children(children)
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.blog.api.cache;
+
+/**
+ * 内容变更事件
+ *
+ * @param scope    变更的作用域
+ * @param entityId 变更的实体 ID，为 null 表示整个作用域（如定时同步发现的远端变更）
+ * @param version  变更后的版本号
+ * @param remote   是否来自其他节点
+ */
+public record ContentChange(ContentScope scope, Long entityId, long version, boolean remote) {
+}
@@ -0,0 +1,13 @@
+package com.blog.api.cache;
+
+/**
+ * 内容版本的作用域，每个作用域维护一个单调递增的版本号（毫秒时间戳）
+ */
+public enum ContentScope {
+
+    POST,
+    CATEGORY,
+    TAG,
+    FRIEND_LINK,
+    CONFIG
+}
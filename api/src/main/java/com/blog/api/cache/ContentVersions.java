@@ -0,0 +1,170 @@
+package com.blog.api.cache;
+
+import com.blog.api.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 内容版本戳
+ * 每个 {@link ContentScope} 一个版本号（毫秒时间戳，单调递增），写操作提交后递增，
+ * 读路径（ETag、响应缓存等）只比较内存中的版本号，不需要查询数据库。
+ * 版本号保存在 Redis Hash 中并通过 Pub/Sub 广播，多节点保持一致；Redis 不可用时退化为单节点版本。
+ */
+@Slf4j
+@Component
+public class ContentVersions {
+
+    private static final String REDIS_KEY = "content:versions";
+    private static final String CHANGE_CHANNEL = "content:versions:change";
+
+    /**
+     * 只在新版本号更大时写入，返回最终生效的版本号
+     */
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>(
+            "local cur = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') " +
+            "local next = tonumber(ARGV[2]) " +
+            "if next <= cur then next = cur + 1 end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], tostring(next)) " +
+            "return next", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<ContentScope, AtomicLong> versions = new EnumMap<>(ContentScope.class);
+    private final List<Consumer<ContentChange>> listeners = new CopyOnWriteArrayList<>();
+
+    public ContentVersions(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        // 以启动时间作为初始版本，保证重启后旧的 ETag 不会误命中
+        long now = System.currentTimeMillis();
+        for (ContentScope scope : ContentScope.values()) {
+            versions.put(scope, new AtomicLong(now));
+        }
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this::onChange, new ChannelTopic(CHANGE_CHANNEL));
+    }
+
+    public long get(ContentScope scope) {
+        return versions.get(scope).get();
+    }
+
+    /**
+     * 注册变更监听器（本节点写入和其他节点广播的变更都会通知）
+     */
+    public void addListener(Consumer<ContentChange> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 在当前事务提交后递增版本号
+     *
+     * @param scope    作用域
+     * @param entityId 变更的实体 ID，可为空
+     */
+    public void bumpAfterCommit(ContentScope scope, Long entityId) {
+        TransactionUtils.afterCommit(() -> bump(scope, entityId));
+    }
+
+    /**
+     * 立即递增版本号
+     */
+    public void bump(ContentScope scope, Long entityId) {
+        AtomicLong local = versions.get(scope);
+        long candidate = Math.max(System.currentTimeMillis(), local.get() + 1);
+        long version = candidate;
+        try {
+            Long effective = redisTemplate.execute(BUMP_SCRIPT, List.of(REDIS_KEY), scope.name(), Long.toString(candidate));
+            if (effective != null) {
+                version = effective;
+            }
+            redisTemplate.convertAndSend(CHANGE_CHANNEL, scope.name() + ":" + (entityId != null ? entityId : "") + ":" + version);
+        } catch (Exception e) {
+            log.warn("Failed to publish content version, scope: {}, error: {}", scope, e.getMessage());
+        }
+        local.accumulateAndGet(version, Math::max);
+        notifyListeners(new ContentChange(scope, entityId, version, false));
+    }
+
+    /**
+     * 与 Redis 中的版本号对齐，弥补 Pub/Sub 丢失的消息
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelay = 30_000, fixedDelay = 30_000)
+    public void sync() {
+        Map<Object, Object> remote;
+        try {
+            remote = redisTemplate.opsForHash().entries(REDIS_KEY);
+        } catch (Exception e) {
+            log.debug("Failed to sync content versions from redis: {}", e.getMessage());
+            return;
+        }
+        for (ContentScope scope : ContentScope.values()) {
+            Object value = remote.get(scope.name());
+            if (value == null) {
+                continue;
+            }
+            try {
+                advance(scope, null, Long.parseLong(value.toString()));
+            } catch (NumberFormatException e) {
+                log.warn("Invalid content version in redis, scope: {}, value: {}", scope, value);
+            }
+        }
+    }
+
+    private void onChange(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":", -1);
+        if (parts.length != 3) {
+            return;
+        }
+        try {
+            ContentScope scope = ContentScope.valueOf(parts[0]);
+            Long entityId = parts[1].isEmpty() ? null : Long.valueOf(parts[1]);
+            advance(scope, entityId, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid content version message: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 收到其他节点的版本号：比本地新时更新并通知监听器（本节点自己的广播会因版本相同被忽略）
+     */
+    private void advance(ContentScope scope, Long entityId, long version) {
+        AtomicLong local = versions.get(scope);
+        long previous = local.getAndAccumulate(version, Math::max);
+        if (version > previous) {
+            notifyListeners(new ContentChange(scope, entityId, version, true));
+        }
+    }
+
+    private void notifyListeners(ContentChange change) {
+        for (Consumer<ContentChange> listener : listeners) {
+            try {
+                listener.accept(change);
+            } catch (Exception e) {
+                log.warn("Content change listener failed, scope: {}, error: {}", change.scope(), e.getMessage());
+            }
+        }
+    }
+}
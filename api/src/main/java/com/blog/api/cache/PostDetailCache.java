@@ -0,0 +1,316 @@
+package com.blog.api.cache;
+
+import com.blog.api.dto.response.CacheStatsResponse;
+import com.blog.api.dto.response.PostResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 文章详情两级缓存
+ * L1：进程内 Caffeine（容量 + TTL 淘汰）；L2：Redis
+ * 同一份数据分别以 id 和 slug 为 key 缓存，写操作通过 Redis Pub/Sub 通知所有节点失效
+ * Redis 操作都经过熔断器；删除 L2 或广播失败的 key 暂存，在熔断恢复或定时重试时补做，
+ * 暂存过多或整体清空失败时改为恢复后整体清空 L2（其他节点的 L1 最迟在 local-ttl 后过期）
+ */
+@Slf4j
+@Component
+public class PostDetailCache {
+
+    private static final String REDIS_PREFIX = "post:detail:";
+    private static final String INVALIDATE_CHANNEL = "post:detail:invalidate";
+    private static final String ID_KEY = "id:";
+    private static final String SLUG_KEY = "slug:";
+    private static final int MAX_PENDING_KEYS = 10_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ContentVersions contentVersions;
+    private final RedisBatchCache redisBatchCache;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    private final Cache<String, PostResponse> localCache;
+    private final Duration redisTtl;
+
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+
+    // 尚未在 Redis 中删除并广播的 key
+    private final Set<String> pendingInvalidations = ConcurrentHashMap.newKeySet();
+    // 尚未完成的 L2 整体清空
+    private final AtomicBoolean pendingClearAll = new AtomicBoolean();
+
+    public PostDetailCache(StringRedisTemplate redisTemplate,
+                           ObjectMapper objectMapper,
+                           RedisMessageListenerContainer listenerContainer,
+                           ContentVersions contentVersions,
+                           RedisBatchCache redisBatchCache,
+                           RedisCircuitBreaker redisCircuitBreaker,
+                           @Value("${blog.cache.post.local-max-size:1000}") long localMaxSize,
+                           @Value("${blog.cache.post.local-ttl:60s}") Duration localTtl,
+                           @Value("${blog.cache.post.redis-ttl:10m}") Duration redisTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.listenerContainer = listenerContainer;
+        this.contentVersions = contentVersions;
+        this.redisBatchCache = redisBatchCache;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.redisTtl = redisTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this::onInvalidate, new ChannelTopic(INVALIDATE_CHANNEL));
+        contentVersions.addListener(this::onContentChange);
+        redisCircuitBreaker.addRecoveryListener(this::syncPending);
+    }
+
+    public PostResponse getById(Long id, Supplier<PostResponse> loader) {
+        return get(ID_KEY + id, loader);
+    }
+
+    public PostResponse getBySlug(String slug, Supplier<PostResponse> loader) {
+        return get(SLUG_KEY + slug, loader);
+    }
+
+    /**
+     * 失效指定文章的缓存（本节点 L1 + Redis L2），并广播给其他节点
+     *
+     * @param id    文章 ID
+     * @param slugs 文章的 slug（更新时需同时传入旧 slug 和新 slug）
+     */
+    public void invalidate(Long id, String... slugs) {
+        invalidateKeys(toKeys(id, slugs));
+    }
+
+    /**
+     * 批量失效多篇文章的缓存，只广播一次
+     *
+     * @param slugsById 文章 ID -> slug
+     */
+    public void invalidateAll(Map<Long, String> slugsById) {
+        List<String> keys = new ArrayList<>();
+        slugsById.forEach((id, slug) -> keys.addAll(toKeys(id, slug)));
+        if (!keys.isEmpty()) {
+            invalidateKeys(keys);
+        }
+    }
+
+    public CacheStatsResponse stats() {
+        CacheStats stats = localCache.stats();
+        return CacheStatsResponse.builder()
+                .name("post-detail")
+                .size(localCache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .evictionCount(stats.evictionCount())
+                .hitRate(stats.hitRate())
+                .remoteHitCount(redisHits.sum())
+                .remoteMissCount(redisMisses.sum())
+                .build();
+    }
+
+    /**
+     * 定时重试补做失败的失效，覆盖写入失败但熔断未打开（没有恢复通知）的情况
+     */
+    @Scheduled(initialDelay = 5_000, fixedDelay = 5_000)
+    public void retryPending() {
+        if (redisCircuitBreaker.isAvailable()) {
+            syncPending();
+        }
+    }
+
+    /**
+     * 补做暂存的 L2 整体清空和 key 失效
+     */
+    void syncPending() {
+        if (pendingClearAll.getAndSet(false) && !clearRedis()) {
+            pendingClearAll.set(true);
+            return;
+        }
+        if (pendingInvalidations.isEmpty()) {
+            return;
+        }
+        List<String> batch = List.copyOf(pendingInvalidations);
+        if (deleteAndBroadcast(batch)) {
+            batch.forEach(pendingInvalidations::remove);
+            log.info("Replayed {} post cache invalidations to redis", batch.size());
+        }
+    }
+
+    private void invalidateKeys(List<String> keys) {
+        localCache.invalidateAll(keys);
+        if (deleteAndBroadcast(keys)) {
+            return;
+        }
+        if (pendingInvalidations.size() + keys.size() > MAX_PENDING_KEYS) {
+            pendingInvalidations.clear();
+            pendingClearAll.set(true);
+        } else {
+            pendingInvalidations.addAll(keys);
+        }
+        log.warn("Redis unavailable, post cache invalidation deferred, keys: {}", keys);
+    }
+
+    private boolean deleteAndBroadcast(List<String> keys) {
+        return redisCircuitBreaker.run(() -> {
+            redisTemplate.delete(keys.stream().map(key -> REDIS_PREFIX + key).toList());
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.join(",", keys));
+        });
+    }
+
+    /**
+     * 读取前记下内容版本；加载期间有失效发生（版本变化）时只返回结果、不写回缓存，
+     * 避免把失效之前读到的旧数据写回 L1 / L2
+     */
+    private PostResponse get(String key, Supplier<PostResponse> loader) {
+        PostResponse cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = versionStamp();
+        PostResponse response = getFromRedis(key);
+        if (response == null) {
+            response = loader.get();
+            if (versionStamp() != version) {
+                return response;
+            }
+            putToRedis(response);
+        }
+        if (versionStamp() == version) {
+            putToLocal(response);
+        }
+        return response;
+    }
+
+    /**
+     * 文章详情依赖的内容版本之和（各版本只增不减，任一变化都会使和变化）
+     */
+    private long versionStamp() {
+        return contentVersions.get(ContentScope.POST)
+                + contentVersions.get(ContentScope.CATEGORY)
+                + contentVersions.get(ContentScope.TAG);
+    }
+
+    private PostResponse getFromRedis(String key) {
+        String json = redisCircuitBreaker.execute(() -> redisTemplate.opsForValue().get(REDIS_PREFIX + key), () -> null);
+        try {
+            if (json != null) {
+                redisHits.increment();
+                return objectMapper.readValue(json, PostResponse.class);
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to parse cached post detail for key: {}", key);
+        } catch (Exception e) {
+            log.warn("Failed to read post cache from redis, key: {}, error: {}", key, e.getMessage());
+        }
+        redisMisses.increment();
+        return null;
+    }
+
+    /**
+     * id 和 slug 两个 key 在同一个管道中写入
+     */
+    private void putToRedis(PostResponse response) {
+        try {
+            String json = objectMapper.writeValueAsString(response);
+            redisBatchCache.putAll(Map.of(
+                    REDIS_PREFIX + ID_KEY + response.getId(), json,
+                    REDIS_PREFIX + SLUG_KEY + response.getSlug(), json), redisTtl);
+        } catch (Exception e) {
+            log.warn("Failed to write post cache to redis, id: {}, error: {}", response.getId(), e.getMessage());
+        }
+    }
+
+    private void putToLocal(PostResponse response) {
+        localCache.put(ID_KEY + response.getId(), response);
+        localCache.put(SLUG_KEY + response.getSlug(), response);
+    }
+
+    /**
+     * 分类、标签变更会影响所有文章详情中的名称，整体清空；
+     * 各节点各自清空 L1，由发起变更的节点清理 Redis L2
+     */
+    private void onContentChange(ContentChange change) {
+        if (change.scope() != ContentScope.CATEGORY && change.scope() != ContentScope.TAG) {
+            return;
+        }
+        localCache.invalidateAll();
+        if (change.remote()) {
+            return;
+        }
+        if (!clearRedis()) {
+            pendingClearAll.set(true);
+            log.warn("Redis unavailable, post cache clear after {} change deferred", change.scope());
+        }
+    }
+
+    private boolean clearRedis() {
+        ScanOptions options = ScanOptions.scanOptions().match(REDIS_PREFIX + "*").count(500).build();
+        return redisCircuitBreaker.run(() -> {
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                List<String> batch = new ArrayList<>();
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() >= 500) {
+                        redisTemplate.delete(batch);
+                        batch.clear();
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    redisTemplate.delete(batch);
+                }
+            }
+        });
+    }
+
+    private void onInvalidate(Message message, byte[] pattern) {
+        String body = new String(message.getBody());
+        if (StringUtils.hasText(body)) {
+            localCache.invalidateAll(Arrays.asList(body.split(",")));
+        }
+    }
+
+    private List<String> toKeys(Long id, String... slugs) {
+        List<String> keys = new ArrayList<>();
+        keys.add(ID_KEY + id);
+        Arrays.stream(slugs)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(slug -> keys.add(SLUG_KEY + slug));
+        return keys;
+    }
+}
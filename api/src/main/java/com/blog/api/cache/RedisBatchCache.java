@@ -0,0 +1,159 @@
+package com.blog.api.cache;
+
+import com.blog.api.dto.response.CacheStatsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 多 key 批量 Redis 访问
+ * 读取使用一次 MGET，写回使用一次管道化的 SET（带过期时间），每批只有一次网络往返；
+ * 记录批次数、key 数、命中数和每批耗时。Redis 不可用或熔断打开时读取视为全部未命中，写回跳过。
+ */
+@Slf4j
+@Component
+public class RedisBatchCache {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder keysRequested = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public RedisBatchCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                           RedisCircuitBreaker redisCircuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+    }
+
+    /**
+     * 批量读取（MGET），只返回存在的 key
+     */
+    public Map<String, String> getAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        List<String> keyList = List.copyOf(new LinkedHashSet<>(keys));
+        long start = System.nanoTime();
+        List<String> values = redisCircuitBreaker.execute(() -> redisTemplate.opsForValue().multiGet(keyList), () -> null);
+        record(keyList.size(), start);
+        Map<String, String> result = new HashMap<>();
+        if (values != null) {
+            for (int i = 0; i < keyList.size() && i < values.size(); i++) {
+                if (values.get(i) != null) {
+                    result.put(keyList.get(i), values.get(i));
+                }
+            }
+        }
+        hits.add(result.size());
+        misses.add(keyList.size() - result.size());
+        return result;
+    }
+
+    /**
+     * 批量写入（管道化 SET ... PX），所有 key 使用相同的过期时间
+     */
+    public void putAll(Map<String, String> entries, Duration ttl) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        Expiration expiration = Expiration.from(ttl);
+        boolean written = redisCircuitBreaker.run(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            entries.forEach((key, value) -> conn.set(key, value, expiration, RedisStringCommands.SetOption.upsert()));
+            return null;
+        }));
+        record(entries.size(), start);
+        if (!written) {
+            log.debug("Skipped writing {} keys to redis", entries.size());
+        }
+    }
+
+    /**
+     * 批量读穿：一次 MGET 读取全部 key，未命中的 ID 一次交给 loader 加载，结果一次管道写回
+     *
+     * @param ids    要读取的 ID
+     * @param keyOf  ID 对应的 Redis key
+     * @param type   值类型（以 JSON 保存）
+     * @param ttl    写回的过期时间
+     * @param loader 批量加载未命中的 ID，不存在的 ID 可不返回
+     * @return ID -> 值，不含不存在的 ID
+     */
+    public <K, V> Map<K, V> getAll(Collection<K> ids, Function<K, String> keyOf, Class<V> type, Duration ttl,
+                                   Function<Collection<K>, Map<K, V>> loader) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, K> idsByKey = new LinkedHashMap<>();
+        for (K id : ids) {
+            idsByKey.put(keyOf.apply(id), id);
+        }
+        Map<K, V> result = new HashMap<>();
+        getAll(idsByKey.keySet()).forEach((key, json) -> {
+            try {
+                result.put(idsByKey.get(key), objectMapper.readValue(json, type));
+            } catch (Exception e) {
+                log.warn("Failed to parse cached value for key: {}", key);
+            }
+        });
+        if (result.size() == idsByKey.size()) {
+            return result;
+        }
+
+        List<K> missing = idsByKey.values().stream().filter(id -> !result.containsKey(id)).toList();
+        Map<K, V> loaded = loader.apply(missing);
+        Map<String, String> writes = new HashMap<>();
+        loaded.forEach((id, value) -> {
+            result.put(id, value);
+            try {
+                writes.put(keyOf.apply(id), objectMapper.writeValueAsString(value));
+            } catch (Exception e) {
+                log.warn("Failed to serialize value for id: {}", id);
+            }
+        });
+        putAll(writes, ttl);
+        return result;
+    }
+
+    public CacheStatsResponse stats() {
+        long batchCount = batches.sum();
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        return CacheStatsResponse.builder()
+                .name("redis-batch")
+                .remoteHitCount(hitCount)
+                .remoteMissCount(missCount)
+                .hitRate(hitCount + missCount == 0 ? 0 : (double) hitCount / (hitCount + missCount))
+                .batchCount(batchCount)
+                .batchKeyCount(keysRequested.sum())
+                .avgBatchMillis(batchCount == 0 ? 0 : totalNanos.sum() / 1e6 / batchCount)
+                .maxBatchMillis(maxNanos.get() / 1e6)
+                .build();
+    }
+
+    private void record(int keyCount, long start) {
+        long elapsed = System.nanoTime() - start;
+        batches.increment();
+        keysRequested.add(keyCount);
+        totalNanos.add(elapsed);
+        maxNanos.accumulate(elapsed);
+    }
+}
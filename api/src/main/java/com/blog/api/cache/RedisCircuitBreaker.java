@@ -0,0 +1,176 @@
+package com.blog.api.cache;
+
+import com.blog.api.dto.response.RedisBreakerStatsResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Redis 熔断器
+ * 连续失败达到阈值后打开，打开期间所有 Redis 调用直接走降级逻辑，不再占用请求线程等待超时；
+ * 打开一段时间后进入半开状态，只放行一个探测请求，成功则关闭并通知恢复监听器（如同步本地暂存的数据）。
+ */
+@Slf4j
+@Component
+public class RedisCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probing = new AtomicBoolean();
+    private volatile long openedAt;
+
+    private final List<Runnable> recoveryListeners = new CopyOnWriteArrayList<>();
+    private final ExecutorService recoveryExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "redis-recovery");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+
+    public RedisCircuitBreaker(@Value("${blog.redis.breaker.failure-threshold:5}") int failureThreshold,
+                               @Value("${blog.redis.breaker.open-duration:10s}") Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        recoveryExecutor.shutdownNow();
+    }
+
+    /**
+     * 执行 Redis 操作；熔断打开或操作失败时返回降级结果
+     *
+     * @param action   Redis 操作（只应包含 Redis 调用，其中抛出的异常都计为失败）
+     * @param fallback 降级结果
+     */
+    public <T> T execute(Supplier<T> action, Supplier<T> fallback) {
+        if (!tryAcquire()) {
+            rejected.increment();
+            return fallback.get();
+        }
+        calls.increment();
+        try {
+            T result = action.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            onFailure(e);
+            return fallback.get();
+        }
+    }
+
+    /**
+     * 执行无返回值的 Redis 操作
+     *
+     * @return 是否执行成功
+     */
+    public boolean run(Runnable action) {
+        return execute(() -> {
+            action.run();
+            return true;
+        }, () -> false);
+    }
+
+    /**
+     * 注册恢复监听器，熔断关闭后在后台线程中调用
+     */
+    public void addRecoveryListener(Runnable listener) {
+        recoveryListeners.add(listener);
+    }
+
+    public State state() {
+        State current = state.get();
+        if (current == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            return State.HALF_OPEN;
+        }
+        return current;
+    }
+
+    public boolean isAvailable() {
+        return state() != State.OPEN;
+    }
+
+    public RedisBreakerStatsResponse stats() {
+        return RedisBreakerStatsResponse.builder()
+                .state(state().name())
+                .consecutiveFailures(consecutiveFailures.get())
+                .callCount(calls.sum())
+                .failureCount(failures.sum())
+                .rejectedCount(rejected.sum())
+                .openCount(opened.sum())
+                .build();
+    }
+
+    /**
+     * 关闭状态直接放行；打开超过时长后只放行一个探测请求
+     */
+    private boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (System.currentTimeMillis() - openedAt < openMillis) {
+            return false;
+        }
+        if (!probing.compareAndSet(false, true)) {
+            return false;
+        }
+        state.set(State.HALF_OPEN);
+        return true;
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.get() != State.CLOSED) {
+            probing.set(false);
+            if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+                log.info("Redis circuit breaker closed, redis is reachable again");
+                recoveryListeners.forEach(listener -> recoveryExecutor.execute(() -> {
+                    try {
+                        listener.run();
+                    } catch (Exception e) {
+                        log.warn("Redis recovery listener failed: {}", e.getMessage());
+                    }
+                }));
+            }
+        }
+    }
+
+    private void onFailure(RuntimeException e) {
+        failures.increment();
+        int count = consecutiveFailures.incrementAndGet();
+        State current = state.get();
+        if (current == State.HALF_OPEN || (current == State.CLOSED && count >= failureThreshold)) {
+            openedAt = System.currentTimeMillis();
+            probing.set(false);
+            if (state.getAndSet(State.OPEN) != State.OPEN) {
+                opened.increment();
+                log.warn("Redis circuit breaker opened after {} consecutive failures: {}", count, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.blog.api.cache;
+
+import com.blog.api.dto.response.CacheStatsResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 防击穿的 Redis 读穿缓存
+ * <ul>
+ *   <li>单飞：同一节点上同一个 key 同时只有一个加载任务，其他调用方等待它的结果</li>
+ *   <li>提前刷新（XFetch）：按加载耗时和剩余有效期概率性地在过期前由后台线程刷新，调用方继续使用旧值</li>
+ *   <li>分布式锁：重建前以 SET NX 抢锁，只有一个节点查询数据库，其他节点短暂等待新值写入</li>
+ * </ul>
+ * Redis 不可用或熔断打开时直接加载（仍然单飞），不影响读取。
+ */
+@Slf4j
+@Component
+public class RedisLoadingCache {
+
+    private static final String LOCK_PREFIX = "lock:";
+    private static final long POLL_INTERVAL_MS = 50;
+
+    /**
+     * 只释放自己持有的锁
+     */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final double beta;
+    private final Duration lockTtl;
+    private final Duration lockWait;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder earlyRefreshes = new LongAdder();
+
+    public RedisLoadingCache(StringRedisTemplate redisTemplate,
+                             ObjectMapper objectMapper,
+                             RedisCircuitBreaker redisCircuitBreaker,
+                             @Value("${blog.cache.loading.beta:1.0}") double beta,
+                             @Value("${blog.cache.loading.lock-ttl:10s}") Duration lockTtl,
+                             @Value("${blog.cache.loading.lock-wait:2s}") Duration lockWait) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.beta = beta;
+        this.lockTtl = lockTtl;
+        this.lockWait = lockWait;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Redis 中保存的缓存条目
+     *
+     * @param value     缓存值
+     * @param delta     上次加载耗时（毫秒），耗时越长越早开始刷新
+     * @param expiresAt 逻辑过期时间（毫秒时间戳），与 Redis TTL 一致
+     */
+    record Envelope(JsonNode value, long delta, long expiresAt) {
+    }
+
+    /**
+     * 读取缓存，未命中时加载并写入
+     *
+     * @param key    Redis key
+     * @param type   值类型
+     * @param ttl    过期时间
+     * @param loader 加载函数
+     */
+    public <T> T get(String key, Class<T> type, Duration ttl, Supplier<T> loader) {
+        Envelope cached = read(key);
+        if (cached != null) {
+            T value = convert(cached, type);
+            if (value != null) {
+                if (shouldRefreshEarly(cached, System.currentTimeMillis())) {
+                    refreshAsync(key, ttl, loader);
+                }
+                return value;
+            }
+        }
+        return loadOnce(key, type, ttl, loader);
+    }
+
+    public CacheStatsResponse stats() {
+        long hits = redisHits.sum();
+        long misses = redisMisses.sum();
+        return CacheStatsResponse.builder()
+                .name("redis-loading")
+                .size(inFlight.size())
+                .hitCount(hits)
+                .missCount(misses)
+                .hitRate(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+                .remoteHitCount(hits)
+                .remoteMissCount(misses)
+                .loadCount(loads.sum())
+                .coalescedCount(coalesced.sum())
+                .earlyRefreshCount(earlyRefreshes.sum())
+                .build();
+    }
+
+    /**
+     * XFetch：now - delta * beta * ln(rand) >= expiresAt 时提前刷新
+     */
+    boolean shouldRefreshEarly(Envelope envelope, long now) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        if (random == 0) {
+            return true;
+        }
+        return now - envelope.delta() * beta * Math.log(random) >= envelope.expiresAt();
+    }
+
+    /**
+     * 本节点单飞加载，等待方共享同一个结果
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T loadOnce(String key, Class<T> type, Duration ttl, Supplier<T> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            T value = rebuild(key, type, ttl, loader);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 抢到锁的节点加载并写入；未抢到时等待持锁节点写入新值，超时后自行加载
+     */
+    private <T> T rebuild(String key, Class<T> type, Duration ttl, Supplier<T> loader) {
+        String token = tryLock(key);
+        if (token == null) {
+            long deadline = System.currentTimeMillis() + lockWait.toMillis();
+            while (System.currentTimeMillis() < deadline && redisCircuitBreaker.isAvailable()) {
+                try {
+                    Thread.sleep(POLL_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                Envelope cached = read(key);
+                T value = cached != null ? convert(cached, type) : null;
+                if (value != null) {
+                    return value;
+                }
+            }
+            log.debug("Timed out waiting for cache rebuild on another node, key: {}", key);
+        }
+        try {
+            return loadAndStore(key, ttl, loader);
+        } finally {
+            unlock(key, token);
+        }
+    }
+
+    private void refreshAsync(String key, Duration ttl, Supplier<?> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                String token = null;
+                try {
+                    token = tryLock(key);
+                    // 其他节点正在刷新
+                    if (token != null) {
+                        earlyRefreshes.increment();
+                        loadAndStore(key, ttl, loader);
+                    }
+                } catch (Exception e) {
+                    log.warn("Failed to refresh cache ahead of expiry, key: {}, error: {}", key, e.getMessage());
+                } finally {
+                    unlock(key, token);
+                    refreshing.remove(key);
+                }
+            });
+        } catch (Exception e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private <T> T loadAndStore(String key, Duration ttl, Supplier<T> loader) {
+        long start = System.currentTimeMillis();
+        T value = loader.get();
+        loads.increment();
+        long now = System.currentTimeMillis();
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(
+                    new Envelope(objectMapper.valueToTree(value), now - start, now + ttl.toMillis()));
+        } catch (Exception e) {
+            log.warn("Failed to serialize cache value, key: {}, error: {}", key, e.getMessage());
+            return value;
+        }
+        if (!redisCircuitBreaker.run(() -> redisTemplate.opsForValue().set(key, json, ttl))) {
+            log.debug("Skipped writing cache to redis, key: {}", key);
+        }
+        return value;
+    }
+
+    private Envelope read(String key) {
+        String json = redisCircuitBreaker.execute(() -> redisTemplate.opsForValue().get(key), () -> null);
+        try {
+            if (json != null) {
+                Envelope envelope = objectMapper.readValue(json, Envelope.class);
+                if (envelope.value() != null) {
+                    redisHits.increment();
+                    return envelope;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to parse cached envelope, key: {}, error: {}", key, e.getMessage());
+        }
+        redisMisses.increment();
+        return null;
+    }
+
+    private <T> T convert(Envelope envelope, Class<T> type) {
+        try {
+            return objectMapper.treeToValue(envelope.value(), type);
+        } catch (Exception e) {
+            log.warn("Failed to parse cached value as {}: {}", type.getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return 锁令牌；Redis 不可用时视为已获得锁（直接加载），返回空串
+     */
+    private String tryLock(String key) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisCircuitBreaker.execute(
+                () -> redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + key, token, lockTtl), () -> null);
+        if (acquired == null) {
+            return "";
+        }
+        return acquired ? token : null;
+    }
+
+    private void unlock(String key, String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        redisCircuitBreaker.run(() -> redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_PREFIX + key), token));
+    }
+}
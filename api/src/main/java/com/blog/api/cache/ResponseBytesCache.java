@@ -0,0 +1,173 @@
+package com.blog.api.cache;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.blog.api.dto.response.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 响应字节缓存
+ * 按请求 URI + 查询串缓存序列化后的 JSON 以及预先压缩的 gzip / Brotli 版本，
+ * 命中时无需构建 DTO、序列化或压缩。条目记录依赖作用域的版本快照，
+ * 任一作用域版本变化即失效（监听器主动清理 + 读取时校验双重保证）。
+ */
+@Slf4j
+@Component
+public class ResponseBytesCache {
+
+    /**
+     * 小于该大小的响应不压缩（压缩收益低于头部开销）
+     */
+    private static final int MIN_COMPRESS_SIZE = 256;
+
+    private static final boolean BROTLI_AVAILABLE = loadBrotli();
+
+    private final ContentVersions contentVersions;
+    private final Cache<String, Entry> cache;
+    private final Encoder.Parameters brotliParameters;
+
+    public ResponseBytesCache(ContentVersions contentVersions,
+                              @Value("${blog.response-cache.max-size:32MB}") DataSize maxSize,
+                              @Value("${blog.response-cache.brotli-quality:9}") int brotliQuality) {
+        this.contentVersions = contentVersions;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, Entry entry) -> entry.weight())
+                .recordStats()
+                .build();
+        this.brotliParameters = BROTLI_AVAILABLE ? new Encoder.Parameters().setQuality(brotliQuality) : null;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        contentVersions.addListener(change -> cache.asMap().values()
+                .removeIf(entry -> Arrays.asList(entry.scopes()).contains(change.scope())));
+    }
+
+    /**
+     * 获取缓存条目；版本快照已过期时视为未命中
+     */
+    public Entry get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null && !isCurrent(entry)) {
+            cache.invalidate(key);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 生成并缓存条目
+     *
+     * @param versions 处理请求之前读取的版本快照（与 scopes 一一对应）
+     */
+    public void put(String key, String contentType, byte[] body, ContentScope[] scopes, long[] versions) {
+        byte[] gzip = null;
+        byte[] brotli = null;
+        if (body.length >= MIN_COMPRESS_SIZE) {
+            gzip = gzip(body);
+            brotli = brotli(body);
+        }
+        cache.put(key, new Entry(contentType, body, gzip, brotli, scopes, versions));
+    }
+
+    public long[] snapshot(ContentScope[] scopes) {
+        long[] versions = new long[scopes.length];
+        for (int i = 0; i < scopes.length; i++) {
+            versions[i] = contentVersions.get(scopes[i]);
+        }
+        return versions;
+    }
+
+    public CacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        return CacheStatsResponse.builder()
+                .name("response-bytes")
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .evictionCount(stats.evictionCount())
+                .hitRate(stats.hitRate())
+                .build();
+    }
+
+    private boolean isCurrent(Entry entry) {
+        for (int i = 0; i < entry.scopes().length; i++) {
+            if (contentVersions.get(entry.scopes()[i]) != entry.versions()[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * gzip 压缩（最高压缩等级）
+     */
+    public static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to gzip response", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Brotli 压缩，本机库不可用或压缩失败时返回 null
+     */
+    public byte[] brotli(byte[] body) {
+        if (brotliParameters == null) {
+            return null;
+        }
+        try {
+            return Encoder.compress(body, brotliParameters);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Brotli compression failed, serving gzip only: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean loadBrotli() {
+        try {
+            Brotli4jLoader.ensureAvailability();
+            return true;
+        } catch (Throwable e) {
+            log.info("Brotli native library not available, response cache will use gzip only: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 缓存条目
+     *
+     * @param gzip   gzip 压缩版本，响应过小时为 null
+     * @param brotli Brotli 压缩版本，响应过小或本地库不可用时为 null
+     */
+    public record Entry(String contentType, byte[] identity, byte[] gzip, byte[] brotli,
+                        ContentScope[] scopes, long[] versions) {
+
+        int weight() {
+            return identity.length
+                    + (gzip != null ? gzip.length : 0)
+                    + (brotli != null ? brotli.length : 0);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.blog.api.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 启动 Redis Pub/Sub 监听容器
+ * 应用就绪后尝试启动，失败时（Redis 未就绪）定时重试
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisListenerStarter {
+
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ensureRunning();
+    }
+
+    @Scheduled(initialDelay = 30_000, fixedDelay = 30_000)
+    public void ensureRunning() {
+        if (listenerContainer.isRunning()) {
+            return;
+        }
+        try {
+            listenerContainer.start();
+            log.info("Redis message listener container started");
+        } catch (Exception e) {
+            log.warn("Failed to start redis message listener container, will retry: {}", e.getMessage());
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.blog.api.config;
 
+import com.blog.api.web.ConditionalGetInterceptor;
+import com.blog.api.web.ResponseCacheInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.nio.file.Paths;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+    private final ResponseCacheInterceptor responseCacheInterceptor;
+
     @Value("${file.upload.path:./uploads}")
     private String uploadPath;
 
@@ -20,4 +28,13 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations("file:" + absolutePath + "/");
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Blog 前台公开接口支持 ETag / 304，其次是热点接口的响应字节缓存
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns("/api/blog/**");
+        registry.addInterceptor(responseCacheInterceptor)
+                .addPathPatterns("/api/blog/**");
+    }
 }
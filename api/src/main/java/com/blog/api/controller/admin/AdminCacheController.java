@@ -0,0 +1,51 @@
+package com.blog.api.controller.admin;
+
+import com.blog.api.cache.PostDetailCache;
+import com.blog.api.cache.RedisBatchCache;
+import com.blog.api.cache.RedisCircuitBreaker;
+import com.blog.api.cache.RedisLoadingCache;
+import com.blog.api.cache.ResponseBytesCache;
+import com.blog.api.dto.response.ApiResponse;
+import com.blog.api.dto.response.CacheStatsResponse;
+import com.blog.api.dto.response.RedisBreakerStatsResponse;
+import com.blog.api.service.TokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Admin 后台 - 缓存监控接口（需认证）
+ */
+@Tag(name = "Admin - 缓存监控", description = "Admin 缓存统计接口")
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+public class AdminCacheController {
+
+    private final PostDetailCache postDetailCache;
+    private final ResponseBytesCache responseBytesCache;
+    private final RedisLoadingCache redisLoadingCache;
+    private final RedisBatchCache redisBatchCache;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final TokenService tokenService;
+
+    @Operation(summary = "获取缓存命中统计")
+    @GetMapping("/stats")
+    public ApiResponse<List<CacheStatsResponse>> getStats() {
+        return ApiResponse.success(List.of(postDetailCache.stats(), responseBytesCache.stats(),
+                redisLoadingCache.stats(), redisBatchCache.stats()));
+    }
+
+    @Operation(summary = "获取 Redis 熔断器状态")
+    @GetMapping("/redis")
+    public ApiResponse<RedisBreakerStatsResponse> getRedisStats() {
+        RedisBreakerStatsResponse stats = redisCircuitBreaker.stats();
+        stats.setPendingBlacklistSyncs(tokenService.pendingSyncCount());
+        return ApiResponse.success(stats);
+    }
+}
@@ -0,0 +1,29 @@
+package com.blog.api.controller.admin;
+
+import com.blog.api.dto.response.ApiResponse;
+import com.blog.api.dto.response.ExportResponse;
+import com.blog.api.export.StaticExporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Admin 后台 - 静态导出接口（需认证）
+ */
+@Tag(name = "Admin - 静态导出", description = "Admin 前台接口静态 JSON 导出")
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+public class AdminExportController {
+
+    private final StaticExporter staticExporter;
+
+    @Operation(summary = "全量导出前台接口静态文件（内容未变的文件不重写）")
+    @PostMapping
+    public ApiResponse<ExportResponse> exportAll() {
+        return ApiResponse.success("导出完成", staticExporter.exportAll());
+    }
+}
@@ -2,8 +2,12 @@ package com.blog.api.controller.admin;
 
 import com.blog.api.dto.request.PostRequest;
 import com.blog.api.dto.response.ApiResponse;
+import com.blog.api.dto.response.CursorPageResponse;
 import com.blog.api.dto.response.PageResponse;
 import com.blog.api.dto.response.PostResponse;
+import com.blog.api.dto.response.PostSummaryResponse;
+import com.blog.api.search.PostSearchIndex;
+import com.blog.api.service.PostRenderService;
 import com.blog.api.service.PostService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -24,6 +28,8 @@ import org.springframework.web.bind.annotation.*;
 public class AdminPostController {
 
     private final PostService postService;
+    private final PostRenderService postRenderService;
+    private final PostSearchIndex postSearchIndex;
 
     @Operation(summary = "创建文章")
     @PostMapping
@@ -44,12 +50,25 @@ public class AdminPostController {
 
     @Operation(summary = "分页获取文章列表")
     @GetMapping
-    public ApiResponse<PageResponse<PostResponse>> getPage(
+    public ApiResponse<PageResponse<PostSummaryResponse>> getPage(
             @Parameter(description = "页码（从0开始）") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "每页数量") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "状态筛选") @RequestParam(required = false) Integer status,
             @Parameter(description = "分类ID筛选") @RequestParam(required = false) Long categoryId) {
-        PageResponse<PostResponse> response = postService.getPage(page, size, status, categoryId);
+        PageResponse<PostSummaryResponse> response = postService.getPage(page, size, status, categoryId, false);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "游标分页获取文章列表")
+    @GetMapping("/cursor")
+    public ApiResponse<CursorPageResponse<PostSummaryResponse>> getCursorPage(
+            @Parameter(description = "游标（上一页返回的 nextCursor，首页为空）") @RequestParam(required = false) String cursor,
+            @Parameter(description = "每页数量") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "状态筛选") @RequestParam(required = false) Integer status,
+            @Parameter(description = "分类ID筛选") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "是否返回总数") @RequestParam(defaultValue = "false") boolean withTotal) {
+        CursorPageResponse<PostSummaryResponse> response = postService.getCursorPage(
+                cursor, Math.min(Math.max(size, 1), 100), status, categoryId, false, null, false, withTotal);
         return ApiResponse.success(response);
     }
 
@@ -69,4 +88,19 @@ public class AdminPostController {
         postService.delete(id);
         return ApiResponse.success("文章删除成功", null);
     }
+
+    @Operation(summary = "重新渲染文章 Markdown")
+    @PostMapping("/rerender")
+    public ApiResponse<Integer> rerender(
+            @Parameter(description = "是否重新渲染全部文章（默认只渲染缺失或版本过期的）") @RequestParam(defaultValue = "false") boolean force) {
+        int rendered = postRenderService.rerender(force);
+        return ApiResponse.success("重新渲染完成", rendered);
+    }
+
+    @Operation(summary = "全量重建文章检索索引")
+    @PostMapping("/search-index/rebuild")
+    public ApiResponse<Integer> rebuildSearchIndex() {
+        int indexed = postSearchIndex.rebuild();
+        return ApiResponse.success("检索索引重建完成", indexed);
+    }
 }
@@ -0,0 +1,48 @@
+package com.blog.api.controller.blog;
+
+import com.blog.api.dto.response.ApiResponse;
+import com.blog.api.dto.response.ArchiveResponse;
+import com.blog.api.search.ArchiveIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * Blog 前台 - 归档接口（公开）
+ */
+@Tag(name = "Blog - 归档", description = "Blog 前台文章归档接口")
+@RestController
+@RequestMapping("/api/blog/archive")
+@RequiredArgsConstructor
+public class BlogArchiveController {
+
+    private final ArchiveIndex archiveIndex;
+
+    /**
+     * 归档索引异步更新，ETag 取自快照自身的修订号而不是内容版本号，保证 ETag 与返回内容一致
+     */
+    @Operation(summary = "获取文章归档（年 → 月 → 文章，仅已发布）")
+    @GetMapping
+    public ApiResponse<ArchiveResponse> getArchive(
+            @Parameter(description = "年份筛选") @RequestParam(required = false) Integer year,
+            WebRequest webRequest,
+            HttpServletResponse response) {
+        ArchiveIndex.Snapshot snapshot = archiveIndex.snapshot();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (webRequest.checkNotModified(Long.toString(snapshot.revision(), 36), snapshot.revision())) {
+            return null;
+        }
+        if (year == null) {
+            return ApiResponse.success(snapshot.archive());
+        }
+        ArchiveResponse archive = snapshot.years().get(year);
+        return ApiResponse.success(archive != null ? archive : ArchiveResponse.builder().total(0).years(List.of()).build());
+    }
+}
@@ -1,8 +1,11 @@
 package com.blog.api.controller.blog;
 
+import com.blog.api.cache.ContentScope;
 import com.blog.api.dto.response.ApiResponse;
 import com.blog.api.dto.response.CategoryResponse;
 import com.blog.api.service.CategoryService;
+import com.blog.api.web.CachedResponse;
+import com.blog.api.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,13 +26,25 @@ public class BlogCategoryController {
     private final CategoryService categoryService;
 
     @Operation(summary = "获取所有分类")
+    @ConditionalGet({ContentScope.CATEGORY, ContentScope.POST})
+    @CachedResponse
     @GetMapping
     public ApiResponse<List<CategoryResponse>> getAll() {
         List<CategoryResponse> categories = categoryService.getAll();
         return ApiResponse.success(categories);
     }
 
+    @Operation(summary = "获取分类树")
+    @ConditionalGet({ContentScope.CATEGORY, ContentScope.POST})
+    @CachedResponse
+    @GetMapping("/tree")
+    public ApiResponse<List<CategoryResponse>> getTree() {
+        List<CategoryResponse> tree = categoryService.getTree();
+        return ApiResponse.success(tree);
+    }
+
     @Operation(summary = "根据Slug获取分类")
+    @ConditionalGet({ContentScope.CATEGORY, ContentScope.POST})
     @GetMapping("/{slug}")
     public ApiResponse<CategoryResponse> getBySlug(
             @Parameter(description = "分类别名") @PathVariable String slug) {
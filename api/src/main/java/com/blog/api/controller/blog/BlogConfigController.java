@@ -1,8 +1,11 @@
 package com.blog.api.controller.blog;
 
+import com.blog.api.cache.ContentScope;
 import com.blog.api.dto.response.ApiResponse;
 import com.blog.api.dto.response.SiteConfigResponse;
 import com.blog.api.service.ConfigService;
+import com.blog.api.web.CachedResponse;
+import com.blog.api.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +23,8 @@ public class BlogConfigController {
     private final ConfigService configService;
 
     @Operation(summary = "获取站点配置")
+    @ConditionalGet(ContentScope.CONFIG)
+    @CachedResponse
     @GetMapping("/site")
     public ApiResponse<SiteConfigResponse> getSiteConfig() {
         SiteConfigResponse response = configService.getAllConfigs();
@@ -0,0 +1,84 @@
+package com.blog.api.controller.blog;
+
+import com.blog.api.cache.ContentScope;
+import com.blog.api.exception.BusinessException;
+import com.blog.api.exception.ErrorCode;
+import com.blog.api.feed.FeedFormat;
+import com.blog.api.service.FeedService;
+import com.blog.api.web.CachedResponse;
+import com.blog.api.web.ConditionalGet;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Blog 前台 - 订阅源接口（公开）
+ * 扩展名决定格式：xml 为 RSS 2.0，atom 为 Atom 1.0，json 为 JSON Feed 1.1。
+ * ETag / Last-Modified 来自内容版本号，绝大多数轮询直接返回 304；
+ * 版本变化后的首次请求渲染一次并缓存字节，之后直接写出缓存（文章写入时由 PostService 触发版本变更）。
+ */
+@Tag(name = "Blog - 订阅源", description = "Blog 前台 RSS / Atom / JSON Feed 接口")
+@RestController
+@RequestMapping("/api/blog")
+@RequiredArgsConstructor
+public class BlogFeedController {
+
+    private final FeedService feedService;
+
+    @Operation(summary = "获取全站订阅源")
+    @ConditionalGet({ContentScope.POST, ContentScope.CATEGORY, ContentScope.TAG, ContentScope.CONFIG})
+    @CachedResponse
+    @GetMapping("/feed.{format}")
+    public ResponseEntity<byte[]> getFeed(
+            @Parameter(description = "格式：xml / atom / json") @PathVariable String format,
+            HttpServletRequest request) {
+        FeedFormat feedFormat = parseFormat(format);
+        return toResponse(feedFormat, feedService.getFeed(feedFormat, request.getRequestURI()));
+    }
+
+    @Operation(summary = "获取分类订阅源（包含子分类文章）")
+    @ConditionalGet({ContentScope.POST, ContentScope.CATEGORY, ContentScope.TAG, ContentScope.CONFIG})
+    @CachedResponse
+    @GetMapping("/categories/{slug}/feed.{format}")
+    public ResponseEntity<byte[]> getCategoryFeed(
+            @Parameter(description = "分类别名") @PathVariable String slug,
+            @Parameter(description = "格式：xml / atom / json") @PathVariable String format,
+            HttpServletRequest request) {
+        FeedFormat feedFormat = parseFormat(format);
+        return toResponse(feedFormat, feedService.getCategoryFeed(slug, feedFormat, request.getRequestURI()));
+    }
+
+    @Operation(summary = "获取标签订阅源")
+    @ConditionalGet({ContentScope.POST, ContentScope.CATEGORY, ContentScope.TAG, ContentScope.CONFIG})
+    @CachedResponse
+    @GetMapping("/tags/{slug}/feed.{format}")
+    public ResponseEntity<byte[]> getTagFeed(
+            @Parameter(description = "标签别名") @PathVariable String slug,
+            @Parameter(description = "格式：xml / atom / json") @PathVariable String format,
+            HttpServletRequest request) {
+        FeedFormat feedFormat = parseFormat(format);
+        return toResponse(feedFormat, feedService.getTagFeed(slug, feedFormat, request.getRequestURI()));
+    }
+
+    private static FeedFormat parseFormat(String format) {
+        FeedFormat feedFormat = FeedFormat.fromExtension(format);
+        if (feedFormat == null) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "format must be one of xml, atom, json");
+        }
+        return feedFormat;
+    }
+
+    private static ResponseEntity<byte[]> toResponse(FeedFormat format, byte[] body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.contentType()))
+                .body(body);
+    }
+}
@@ -1,8 +1,11 @@
 package com.blog.api.controller.blog;
 
+import com.blog.api.cache.ContentScope;
 import com.blog.api.dto.response.ApiResponse;
 import com.blog.api.dto.response.FriendLinkResponse;
 import com.blog.api.service.FriendLinkService;
+import com.blog.api.web.CachedResponse;
+import com.blog.api.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +25,8 @@ public class BlogFriendLinkController {
     private final FriendLinkService friendLinkService;
 
     @Operation(summary = "获取所有友情链接")
+    @ConditionalGet(ContentScope.FRIEND_LINK)
+    @CachedResponse
     @GetMapping
     public ApiResponse<List<FriendLinkResponse>> getAll() {
         List<FriendLinkResponse> links = friendLinkService.getAll();
@@ -1,15 +1,31 @@
 package com.blog.api.controller.blog;
 
+import com.blog.api.cache.ContentScope;
 import com.blog.api.dto.response.ApiResponse;
+import com.blog.api.dto.response.CursorPageResponse;
 import com.blog.api.dto.response.PageResponse;
+import com.blog.api.dto.response.PostRenderResponse;
+import com.blog.api.dto.response.PostSearchResponse;
 import com.blog.api.dto.response.PostResponse;
+import com.blog.api.dto.response.PostSummaryResponse;
+import com.blog.api.exception.BusinessException;
+import com.blog.api.exception.ErrorCode;
+import com.blog.api.search.RelatedPostIndex;
 import com.blog.api.service.PostService;
+import com.blog.api.service.SearchService;
+import com.blog.api.service.TrendingService;
+import com.blog.api.web.CachedResponse;
+import com.blog.api.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 /**
  * Blog 前台 - 文章接口（公开）
  */
@@ -19,9 +35,17 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class BlogPostController {
 
+    /**
+     * 单次请求允许的最大标签筛选数量
+     */
+    private static final int MAX_TAG_FILTER = 10;
+
     private final PostService postService;
+    private final SearchService searchService;
+    private final TrendingService trendingService;
 
     @Operation(summary = "根据ID获取文章")
+    @ConditionalGet({ContentScope.POST, ContentScope.CATEGORY, ContentScope.TAG})
     @GetMapping("/{id}")
     public ApiResponse<PostResponse> getById(
             @Parameter(description = "文章ID") @PathVariable Long id) {
@@ -30,6 +54,7 @@ public class BlogPostController {
     }
 
     @Operation(summary = "根据Slug获取文章")
+    @ConditionalGet({ContentScope.POST, ContentScope.CATEGORY, ContentScope.TAG})
     @GetMapping("/slug/{slug}")
     public ApiResponse<PostResponse> getBySlug(
             @Parameter(description = "文章别名") @PathVariable String slug) {
@@ -38,22 +63,86 @@ public class BlogPostController {
     }
 
     @Operation(summary = "分页获取文章列表（仅已发布）")
+    @ConditionalGet({ContentScope.POST, ContentScope.CATEGORY, ContentScope.TAG})
+    @CachedResponse
     @GetMapping
-    public ApiResponse<PageResponse<PostResponse>> getPage(
+    public ApiResponse<PageResponse<PostSummaryResponse>> getPage(
             @Parameter(description = "页码（从0开始）") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "每页数量") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "分类ID筛选") @RequestParam(required = false) Long categoryId,
-            @Parameter(description = "标签ID筛选") @RequestParam(required = false) Long tagId) {
+            @Parameter(description = "分类筛选是否包含子孙分类") @RequestParam(defaultValue = "false") boolean includeDescendants,
+            @Parameter(description = "标签ID筛选") @RequestParam(required = false) Long tagId,
+            @Parameter(description = "多标签筛选（逗号分隔）") @RequestParam(required = false) List<Long> tagIds,
+            @Parameter(description = "多标签匹配方式：any（任一）/ all（全部）") @RequestParam(defaultValue = "any") String tagMatch) {
         // Blog 前台只显示已发布的文章 (status = 1)
-        PageResponse<PostResponse> response;
-        if (tagId != null) {
-            response = postService.getPageByTagId(page, size, tagId);
+        List<Long> tags = mergeTagIds(tagId, tagIds);
+        PageResponse<PostSummaryResponse> response;
+        if (!tags.isEmpty()) {
+            response = postService.getPageByTags(page, size, tags, categoryId, includeDescendants, isMatchAll(tagMatch));
         } else {
-            response = postService.getPage(page, size, 1, categoryId);
+            response = postService.getPage(page, size, 1, categoryId, includeDescendants);
         }
         return ApiResponse.success(response);
     }
 
+    @Operation(summary = "获取相关文章（仅已发布）")
+    @GetMapping("/{id}/related")
+    public ApiResponse<List<PostSummaryResponse>> getRelated(
+            @Parameter(description = "文章ID") @PathVariable Long id,
+            @Parameter(description = "返回数量") @RequestParam(defaultValue = "5") int limit) {
+        List<PostSummaryResponse> related = postService.getRelated(id, Math.min(Math.max(limit, 1), RelatedPostIndex.MAX_RELATED));
+        return ApiResponse.success(related);
+    }
+
+    @Operation(summary = "获取热门文章（按时间衰减的浏览量排序）")
+    @GetMapping("/trending")
+    public ApiResponse<List<PostSummaryResponse>> getTrending(
+            @Parameter(description = "时间窗口：24h / 7d / 30d") @RequestParam(defaultValue = "7d") String window,
+            @Parameter(description = "返回数量") @RequestParam(defaultValue = "10") int limit) {
+        List<PostSummaryResponse> posts = trendingService.getTrending(window, Math.min(Math.max(limit, 1), 50));
+        return ApiResponse.success(posts);
+    }
+
+    @Operation(summary = "全文检索文章（仅已发布）")
+    @GetMapping("/search")
+    public ApiResponse<PostSearchResponse> search(
+            @Parameter(description = "关键词") @RequestParam String q,
+            @Parameter(description = "页码（从0开始）") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "每页数量") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "分类ID筛选") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "标签ID筛选") @RequestParam(required = false) Long tagId) {
+        PostSearchResponse response = searchService.search(
+                q, categoryId, tagId, Math.max(page, 0), Math.min(Math.max(size, 1), 50));
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "游标分页获取文章列表（仅已发布）")
+    @ConditionalGet({ContentScope.POST, ContentScope.CATEGORY, ContentScope.TAG})
+    @GetMapping("/cursor")
+    public ApiResponse<CursorPageResponse<PostSummaryResponse>> getCursorPage(
+            @Parameter(description = "游标（上一页返回的 nextCursor，首页为空）") @RequestParam(required = false) String cursor,
+            @Parameter(description = "每页数量") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "分类ID筛选") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "分类筛选是否包含子孙分类") @RequestParam(defaultValue = "false") boolean includeDescendants,
+            @Parameter(description = "标签ID筛选") @RequestParam(required = false) Long tagId,
+            @Parameter(description = "多标签筛选（逗号分隔）") @RequestParam(required = false) List<Long> tagIds,
+            @Parameter(description = "多标签匹配方式：any（任一）/ all（全部）") @RequestParam(defaultValue = "any") String tagMatch,
+            @Parameter(description = "是否返回总数") @RequestParam(defaultValue = "false") boolean withTotal) {
+        CursorPageResponse<PostSummaryResponse> response = postService.getCursorPage(
+                cursor, Math.min(Math.max(size, 1), 100), 1, categoryId, includeDescendants,
+                mergeTagIds(tagId, tagIds), isMatchAll(tagMatch), withTotal);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "获取文章渲染后的 HTML、目录和阅读时间")
+    @ConditionalGet(ContentScope.POST)
+    @GetMapping("/{id}/rendered")
+    public ApiResponse<PostRenderResponse> getRendered(
+            @Parameter(description = "文章ID") @PathVariable Long id) {
+        PostRenderResponse response = postService.getRendered(id);
+        return ApiResponse.success(response);
+    }
+
     @Operation(summary = "增加浏览量")
     @PostMapping("/{id}/view")
     public ApiResponse<Void> incrementViewCount(
@@ -61,4 +150,28 @@ public class BlogPostController {
         postService.incrementViewCount(id);
         return ApiResponse.success(null);
     }
+
+    private List<Long> mergeTagIds(Long tagId, List<Long> tagIds) {
+        List<Long> merged = new ArrayList<>();
+        if (tagId != null) {
+            merged.add(tagId);
+        }
+        if (tagIds != null) {
+            tagIds.stream().filter(Objects::nonNull).forEach(merged::add);
+        }
+        if (merged.size() > MAX_TAG_FILTER) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "Too many tags in filter");
+        }
+        return merged;
+    }
+
+    private boolean isMatchAll(String tagMatch) {
+        if ("all".equalsIgnoreCase(tagMatch)) {
+            return true;
+        }
+        if ("any".equalsIgnoreCase(tagMatch)) {
+            return false;
+        }
+        throw new BusinessException(ErrorCode.BAD_REQUEST, "tagMatch must be 'any' or 'all'");
+    }
 }
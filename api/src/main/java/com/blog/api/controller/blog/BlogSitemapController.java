@@ -0,0 +1,81 @@
+package com.blog.api.controller.blog;
+
+import com.blog.api.sitemap.SitemapGenerator;
+import com.blog.api.web.ResponseCacheInterceptor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Blog 前台 - 站点地图接口（公开）
+ */
+@Tag(name = "Blog - 站点地图", description = "Blog 前台站点地图接口")
+@RestController
+@RequestMapping("/api/blog")
+@RequiredArgsConstructor
+public class BlogSitemapController {
+
+    private static final String XML_CONTENT_TYPE = "application/xml;charset=UTF-8";
+    private static final String GZIP = "gzip";
+
+    private final SitemapGenerator sitemapGenerator;
+
+    @Operation(summary = "获取站点地图索引")
+    @GetMapping("/sitemap.xml")
+    public void getIndex(HttpServletRequest request, HttpServletResponse response, WebRequest webRequest) throws IOException {
+        serve(sitemapGenerator.index(), request, response, webRequest);
+    }
+
+    @Operation(summary = "获取站点地图分片")
+    @GetMapping("/sitemap-{shard}.xml")
+    public void getShard(
+            @Parameter(description = "分片序号") @PathVariable long shard,
+            HttpServletRequest request, HttpServletResponse response, WebRequest webRequest) throws IOException {
+        serve(sitemapGenerator.shard(shard), request, response, webRequest);
+    }
+
+    /**
+     * 客户端接受 gzip 时直接发送磁盘上的压缩文件，否则边解压边发送
+     */
+    private void serve(Path file, HttpServletRequest request, HttpServletResponse response, WebRequest webRequest)
+            throws IOException {
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (webRequest.checkNotModified(Files.getLastModifiedTime(file).toMillis())) {
+            return;
+        }
+        response.setContentType(XML_CONTENT_TYPE);
+        // 先打开文件再取大小，文件在此期间被替换也不会导致长度与内容不一致
+        try (FileChannel channel = FileChannel.open(file);
+             InputStream in = Channels.newInputStream(channel)) {
+            OutputStream out = response.getOutputStream();
+            if (ResponseCacheInterceptor.accepts(request.getHeader(HttpHeaders.ACCEPT_ENCODING), GZIP)) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+                response.setContentLengthLong(channel.size());
+                in.transferTo(out);
+            } else {
+                try (InputStream xml = new GZIPInputStream(in)) {
+                    xml.transferTo(out);
+                }
+            }
+        }
+    }
+}
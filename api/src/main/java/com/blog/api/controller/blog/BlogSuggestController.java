@@ -0,0 +1,34 @@
+package com.blog.api.controller.blog;
+
+import com.blog.api.dto.response.ApiResponse;
+import com.blog.api.dto.response.SuggestResponse;
+import com.blog.api.search.SuggestIndex;
+import com.blog.api.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Blog 前台 - 搜索建议接口（公开）
+ */
+@Tag(name = "Blog - 搜索建议", description = "Blog 前台输入联想接口")
+@RestController
+@RequestMapping("/api/blog/suggest")
+@RequiredArgsConstructor
+public class BlogSuggestController {
+
+    private final SearchService searchService;
+
+    @Operation(summary = "输入联想（文章标题、标签、分类，支持拼音首字母）")
+    @GetMapping
+    public ApiResponse<List<SuggestResponse>> suggest(
+            @Parameter(description = "输入前缀") @RequestParam(required = false) String q,
+            @Parameter(description = "返回数量") @RequestParam(defaultValue = "8") int limit) {
+        List<SuggestResponse> suggestions = searchService.suggest(q, Math.min(Math.max(limit, 1), SuggestIndex.TOP_K));
+        return ApiResponse.success(suggestions);
+    }
+}
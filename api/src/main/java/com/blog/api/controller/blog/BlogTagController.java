@@ -1,8 +1,11 @@
 package com.blog.api.controller.blog;
 
+import com.blog.api.cache.ContentScope;
 import com.blog.api.dto.response.ApiResponse;
 import com.blog.api.dto.response.TagResponse;
 import com.blog.api.service.TagService;
+import com.blog.api.web.CachedResponse;
+import com.blog.api.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,13 +26,26 @@ public class BlogTagController {
     private final TagService tagService;
 
     @Operation(summary = "获取所有标签")
+    @ConditionalGet({ContentScope.TAG, ContentScope.POST})
+    @CachedResponse
     @GetMapping
     public ApiResponse<List<TagResponse>> getAll() {
         List<TagResponse> tags = tagService.getAll();
         return ApiResponse.success(tags);
     }
 
+    @Operation(summary = "获取标签云（按文章数降序）")
+    @ConditionalGet({ContentScope.TAG, ContentScope.POST})
+    @CachedResponse
+    @GetMapping("/cloud")
+    public ApiResponse<List<TagResponse>> getCloud(
+            @Parameter(description = "返回数量") @RequestParam(defaultValue = "50") int limit) {
+        List<TagResponse> tags = tagService.getCloud(Math.min(Math.max(limit, 1), 200));
+        return ApiResponse.success(tags);
+    }
+
     @Operation(summary = "根据Slug获取标签")
+    @ConditionalGet({ContentScope.TAG, ContentScope.POST})
     @GetMapping("/{slug}")
     public ApiResponse<TagResponse> getBySlug(
             @Parameter(description = "标签别名") @PathVariable String slug) {
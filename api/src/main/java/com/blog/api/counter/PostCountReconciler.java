@@ -0,0 +1,43 @@
+package com.blog.api.counter;
+
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.mapper.CategoryMapper;
+import com.blog.api.mapper.TagMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 标签 / 分类已发布文章数校正任务
+ * 计数在文章写事务中增减，正常情况下不会偏差；手工改库、迁移遗漏等情况由该任务定期按实际关联重新统计并修正，
+ * 只更新不一致的行（多节点同时执行结果相同）。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCountReconciler {
+
+    private final TagMapper tagMapper;
+    private final CategoryMapper categoryMapper;
+    private final ContentVersions contentVersions;
+
+    @Scheduled(initialDelay = 60_000, fixedDelay = 3_600_000)
+    public void reconcile() {
+        try {
+            int tags = tagMapper.reconcilePostCounts();
+            int categories = categoryMapper.reconcilePostCounts();
+            if (tags > 0) {
+                log.warn("Repaired post count drift on {} tags", tags);
+                contentVersions.bump(ContentScope.TAG, null);
+            }
+            if (categories > 0) {
+                log.warn("Repaired post count drift on {} categories", categories);
+                contentVersions.bump(ContentScope.CATEGORY, null);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to reconcile post counts: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.blog.api.counter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 热门文章计数
+ * 浏览先累加到本地 LongAdder，定时通过一次 Pipeline 批量 ZINCRBY 到 Redis 的小时桶（trending:h:{小时序号}）；
+ * 查询时用 ZUNIONSTORE 按指数衰减权重合并时间窗口内的小时桶（越久远的浏览权重越低），
+ * 合并结果短暂保存在 Redis 中供所有节点复用。
+ */
+@Slf4j
+@Component
+public class TrendingCounter {
+
+    private static final String BUCKET_PREFIX = "trending:h:";
+    private static final String WINDOW_PREFIX = "trending:w:";
+    private static final long HOUR_MILLIS = 3_600_000L;
+
+    /**
+     * 小时桶保留时间：覆盖最长窗口（30 天）再多一小时
+     */
+    private static final Duration BUCKET_TTL = Duration.ofHours(TrendingWindow.MONTH.hours() + 1L);
+
+    /**
+     * 窗口合并结果的有效期
+     */
+    private static final Duration WINDOW_TTL = Duration.ofSeconds(60);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public TrendingCounter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 记录一次浏览（只写内存）
+     */
+    public void record(Long postId) {
+        pending.computeIfAbsent(postId, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * 定时把本地累计的浏览写入当前小时桶；Redis 不可用时计数退回本地，下次重试
+     */
+    @Scheduled(initialDelay = 5_000, fixedDelay = 5_000)
+    public void flush() {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        String bucket = bucketKey(currentHour());
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                deltas.forEach((postId, delta) -> conn.zIncrBy(bucket, delta, postId.toString()));
+                conn.expire(bucket, BUCKET_TTL.toSeconds());
+                return null;
+            });
+        } catch (DataAccessException e) {
+            deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, k -> new LongAdder()).add(delta));
+            log.warn("Failed to flush trending counts, will retry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 获取时间窗口内衰减得分最高的文章 ID（按得分降序）
+     */
+    public List<Long> top(TrendingWindow window, int limit) {
+        String windowKey = WINDOW_PREFIX + window.name().toLowerCase();
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(windowKey))) {
+            long hour = currentHour();
+            List<String> buckets = new ArrayList<>(window.hours());
+            double[] weights = new double[window.hours()];
+            for (int age = 0; age < window.hours(); age++) {
+                buckets.add(bucketKey(hour - age));
+                weights[age] = Math.pow(0.5, (double) age / window.halfLifeHours());
+            }
+            zSet.unionAndStore(buckets.get(0), buckets.subList(1, buckets.size()), windowKey,
+                    Aggregate.SUM, Weights.of(weights));
+            redisTemplate.expire(windowKey, WINDOW_TTL.toSeconds(), TimeUnit.SECONDS);
+        }
+
+        Set<String> members = zSet.reverseRange(windowKey, 0, limit - 1L);
+        List<Long> ids = new ArrayList<>();
+        if (members != null) {
+            for (String member : members) {
+                try {
+                    ids.add(Long.valueOf(member));
+                } catch (NumberFormatException e) {
+                    log.debug("Ignoring invalid trending member: {}", member);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static long currentHour() {
+        return System.currentTimeMillis() / HOUR_MILLIS;
+    }
+
+    private static String bucketKey(long hour) {
+        return BUCKET_PREFIX + hour;
+    }
+
+    /**
+     * 热门统计时间窗口
+     *
+     * @param hours         窗口包含的小时桶数
+     * @param halfLifeHours 得分半衰期（小时）
+     */
+    public enum TrendingWindow {
+        DAY("24h", 24, 6),
+        WEEK("7d", 24 * 7, 48),
+        MONTH("30d", 24 * 30, 24 * 7);
+
+        private final String code;
+        private final int hours;
+        private final int halfLifeHours;
+
+        TrendingWindow(String code, int hours, int halfLifeHours) {
+            this.code = code;
+            this.hours = hours;
+            this.halfLifeHours = halfLifeHours;
+        }
+
+        public String code() {
+            return code;
+        }
+
+        public int hours() {
+            return hours;
+        }
+
+        public int halfLifeHours() {
+            return halfLifeHours;
+        }
+
+        /**
+         * 按代码（24h / 7d / 30d）查找，不存在时返回 null
+         */
+        public static TrendingWindow fromCode(String code) {
+            for (TrendingWindow window : values()) {
+                if (window.code.equalsIgnoreCase(code)) {
+                    return window;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.blog.api.counter;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.blog.api.entity.Post;
+import com.blog.api.mapper.PostMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 浏览量写缓冲（write-behind）
+ * 每次浏览先追加到内存映射日志段，再累加到按文章分桶的 LongAdder，定时批量合并写入 MySQL
+ * <p>
+ * 日志段与计数表一一对应（称为一个 epoch），刷新时先切换到新 epoch，等待旧 epoch 的写入方退出后整体落库，
+ * 落库成功后删除对应日志段；进程崩溃后未落库的日志段在启动时回放
+ * <p>
+ * 文章详情缓存中的浏览量不再使用：读取时以本地缓存的数据库基数加上未落库增量得到当前值。
+ * 一个 epoch 在同一个事务中落库，落库后在 flushSequence 的保护下同时失效对应基数并移除该 epoch，
+ * 读取方不会看到两者之间的中间状态
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private static final String SEGMENT_PREFIX = "views-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final int BATCH_SIZE = 500;
+
+    private final PostMapper postMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Path journalDir;
+    private final int segmentSize;
+
+    // 文章 ID -> 数据库中的浏览量；过期后重新查询，以获得其他节点落库的增量
+    private final Cache<Long, Long> baseCounts;
+    // 落库后切换基数和待落库 epoch 期间为奇数
+    private final AtomicLong flushSequence = new AtomicLong();
+
+    private final Object rotateLock = new Object();
+    private final AtomicLong segmentSequence = new AtomicLong();
+    private final ConcurrentLinkedDeque<Epoch> sealed = new ConcurrentLinkedDeque<>();
+    private volatile Epoch current;
+
+    public ViewCountBuffer(PostMapper postMapper,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${blog.view-count.journal-path:./data/view-journal}") String journalPath,
+                           @Value("${blog.view-count.segment-size:4MB}") DataSize segmentSize,
+                           @Value("${blog.cache.post.local-max-size:1000}") long baseMaxSize,
+                           @Value("${blog.cache.post.local-ttl:60s}") Duration baseTtl) {
+        this.postMapper = postMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.journalDir = Paths.get(journalPath).toAbsolutePath().normalize();
+        this.segmentSize = (int) segmentSize.toBytes();
+        long ttlNanos = baseTtl.toNanos();
+        this.baseCounts = Caffeine.newBuilder()
+                .maximumSize(baseMaxSize)
+                // 只按加载时间过期
+                .expireAfter(new Expiry<Long, Long>() {
+                    @Override
+                    public long expireAfterCreate(Long postId, Long count, long currentTime) {
+                        return ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long postId, Long count, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long postId, Long count, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(journalDir);
+        replayJournals();
+        current = newEpoch();
+    }
+
+    /**
+     * 记录一次浏览
+     */
+    public void increment(Long postId) {
+        while (true) {
+            Epoch epoch = current;
+            epoch.writers.increment();
+            try {
+                // epoch 已被切换，重试写入新 epoch
+                if (epoch != current) {
+                    continue;
+                }
+                if (!epoch.journal.append(postId)) {
+                    rotate(epoch);
+                    continue;
+                }
+                epoch.counts.computeIfAbsent(postId, k -> new LongAdder()).increment();
+                return;
+            } finally {
+                epoch.writers.decrement();
+            }
+        }
+    }
+
+    /**
+     * 获取文章尚未落库的浏览增量
+     */
+    public long getPendingCount(Long postId) {
+        long pending = current.pendingCount(postId);
+        for (Epoch epoch : sealed) {
+            pending += epoch.pendingCount(postId);
+        }
+        return pending;
+    }
+
+    /**
+     * 获取文章当前浏览量（数据库基数 + 未落库增量）
+     *
+     * @param fallbackBase 数据库不可用时使用的基数（如缓存中的浏览量）
+     */
+    public long getViewCount(Long postId, long fallbackBase) {
+        while (true) {
+            long stamp = flushSequence.get();
+            if ((stamp & 1) == 0) {
+                long count = baseCount(postId, fallbackBase) + getPendingCount(postId);
+                if (flushSequence.get() == stamp) {
+                    return count;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 获取所有文章尚未落库的浏览增量总和
+     */
+    public long getTotalPendingCount() {
+        long pending = current.totalPendingCount();
+        for (Epoch epoch : sealed) {
+            pending += epoch.totalPendingCount();
+        }
+        return pending;
+    }
+
+    /**
+     * 定时将缓冲的浏览量批量写入数据库
+     */
+    @Scheduled(initialDelayString = "${blog.view-count.flush-interval-ms:10000}",
+            fixedDelayString = "${blog.view-count.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        Epoch active = current;
+        if (!active.counts.isEmpty()) {
+            rotate(active);
+        }
+
+        Epoch epoch;
+        while ((epoch = sealed.peekFirst()) != null) {
+            epoch.awaitWriters();
+            Map<Long, Long> deltas = epoch.snapshot();
+            try {
+                writeDeltas(deltas);
+            } catch (Exception e) {
+                log.warn("Failed to flush view counts, will retry: {}", e.getMessage());
+                return;
+            }
+            epoch.journal.markFlushed();
+            // 基数失效（会等待正在进行的加载完成）和移除 epoch 对读取方表现为一步
+            flushSequence.incrementAndGet();
+            try {
+                baseCounts.invalidateAll(deltas.keySet());
+                sealed.pollFirst();
+            } finally {
+                flushSequence.incrementAndGet();
+            }
+            deleteJournal(epoch.journal);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 一个 epoch 的所有批次在同一个事务中写入，失败时整体回滚，重试不会重复计数
+     */
+    private void writeDeltas(Map<Long, Long> deltas) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<PostMapper.ViewCountDelta> batch = new ArrayList<>(Math.min(deltas.size(), BATCH_SIZE));
+            for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+                batch.add(new PostMapper.ViewCountDelta(entry.getKey(), entry.getValue()));
+                if (batch.size() == BATCH_SIZE) {
+                    postMapper.batchIncrementViewCount(batch);
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                postMapper.batchIncrementViewCount(batch);
+            }
+        });
+    }
+
+    private long baseCount(Long postId, long fallbackBase) {
+        try {
+            return baseCounts.get(postId, this::loadBaseCount);
+        } catch (Exception e) {
+            log.warn("Failed to load view count of post {}: {}", postId, e.getMessage());
+            return fallbackBase;
+        }
+    }
+
+    private long loadBaseCount(Long postId) {
+        List<Object> counts = postMapper.selectObjs(new LambdaQueryWrapper<Post>()
+                .select(Post::getViewCount)
+                .eq(Post::getId, postId));
+        return counts.isEmpty() || counts.get(0) == null ? 0 : ((Number) counts.get(0)).longValue();
+    }
+
+    /**
+     * 切换到新的 epoch（使用独立的锁，避免与 flush 互相等待）
+     */
+    private void rotate(Epoch expected) {
+        synchronized (rotateLock) {
+            if (current != expected) {
+                return;
+            }
+            Epoch next;
+            try {
+                next = newEpoch();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to create view count journal segment", e);
+            }
+            sealed.addLast(expected);
+            current = next;
+        }
+    }
+
+    private Epoch newEpoch() throws IOException {
+        Path path = journalDir.resolve(SEGMENT_PREFIX + segmentSequence.incrementAndGet() + SEGMENT_SUFFIX);
+        return new Epoch(ViewCountJournal.create(path, segmentSize));
+    }
+
+    /**
+     * 回放上次运行遗留的日志段，作为待刷新的 epoch 排队，由下一次定时刷新落库
+     */
+    private void replayJournals() throws IOException {
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(journalDir)) {
+            segments = files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+                    .toList();
+        }
+
+        long replayed = 0;
+        for (Path segment : segments) {
+            segmentSequence.accumulateAndGet(sequenceOf(segment), Math::max);
+            ViewCountJournal journal = ViewCountJournal.open(segment);
+            if (journal == null || journal.isFlushed()) {
+                Files.deleteIfExists(segment);
+                continue;
+            }
+            Epoch epoch = new Epoch(journal);
+            journal.readCounts().forEach((postId, count) ->
+                    epoch.counts.computeIfAbsent(postId, k -> new LongAdder()).add(count));
+            replayed += epoch.totalPendingCount();
+            sealed.addLast(epoch);
+        }
+        if (replayed > 0) {
+            log.info("Replayed {} pending view counts from {} journal segments", replayed, sealed.size());
+        }
+    }
+
+    private void deleteJournal(ViewCountJournal journal) {
+        try {
+            journal.delete();
+        } catch (IOException e) {
+            // 已标记为 flushed，下次启动时会被清理
+            log.warn("Failed to delete view count journal {}: {}", journal.path(), e.getMessage());
+        }
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 一个日志段及其对应的计数表
+     */
+    private static class Epoch {
+
+        private final ViewCountJournal journal;
+        private final ConcurrentHashMap<Long, LongAdder> counts = new ConcurrentHashMap<>();
+        private final LongAdder writers = new LongAdder();
+
+        private Epoch(ViewCountJournal journal) {
+            this.journal = journal;
+        }
+
+        private long pendingCount(Long postId) {
+            LongAdder adder = counts.get(postId);
+            return adder != null ? adder.sum() : 0;
+        }
+
+        private long totalPendingCount() {
+            long total = 0;
+            for (LongAdder adder : counts.values()) {
+                total += adder.sum();
+            }
+            return total;
+        }
+
+        /**
+         * 等待已进入该 epoch 的写入方完成（切换后不会再有新的写入方）
+         */
+        private void awaitWriters() {
+            while (writers.sum() != 0) {
+                Thread.onSpinWait();
+            }
+        }
+
+        private Map<Long, Long> snapshot() {
+            Map<Long, Long> snapshot = new HashMap<>(counts.size());
+            counts.forEach((postId, adder) -> snapshot.put(postId, adder.sum()));
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.blog.api.counter;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 浏览量日志段（内存映射文件）
+ * 文件格式：16 字节头（魔数 + 状态）+ 连续的 8 字节文章 ID 记录，0 表示记录结束
+ * 追加通过原子占位实现无锁并发写入；进程崩溃后已写入的记录仍保留在页缓存中，重启时回放
+ */
+class ViewCountJournal {
+
+    private static final int MAGIC = 0x56434A31; // "VCJ1"
+    private static final int STATE_ACTIVE = 0;
+    private static final int STATE_FLUSHED = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_SIZE = Long.BYTES;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final AtomicInteger position;
+
+    private ViewCountJournal(Path path, MappedByteBuffer buffer, int position) {
+        this.path = path;
+        this.buffer = buffer;
+        this.position = new AtomicInteger(position);
+    }
+
+    /**
+     * 创建新的日志段
+     */
+    static ViewCountJournal create(Path path, int size) throws IOException {
+        MappedByteBuffer buffer = map(path, size, StandardOpenOption.CREATE_NEW);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, STATE_ACTIVE);
+        return new ViewCountJournal(path, buffer, HEADER_SIZE);
+    }
+
+    /**
+     * 打开已存在的日志段（用于启动时回放），非法文件返回 null
+     */
+    static ViewCountJournal open(Path path) throws IOException {
+        long size = Files.size(path);
+        if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+            return null;
+        }
+        MappedByteBuffer buffer = map(path, (int) size, StandardOpenOption.READ);
+        if (buffer.getInt(0) != MAGIC) {
+            return null;
+        }
+        int position = HEADER_SIZE;
+        while (position + RECORD_SIZE <= buffer.capacity() && buffer.getLong(position) != 0) {
+            position += RECORD_SIZE;
+        }
+        return new ViewCountJournal(path, buffer, position);
+    }
+
+    /**
+     * 追加一条浏览记录
+     *
+     * @return 段已写满时返回 false
+     */
+    boolean append(long postId) {
+        int offset = position.getAndAdd(RECORD_SIZE);
+        if (offset + RECORD_SIZE > buffer.capacity()) {
+            return false;
+        }
+        buffer.putLong(offset, postId);
+        return true;
+    }
+
+    /**
+     * 读取段内所有记录并按文章汇总
+     */
+    Map<Long, Long> readCounts() {
+        Map<Long, Long> counts = new HashMap<>();
+        int end = Math.min(position.get(), buffer.capacity());
+        for (int offset = HEADER_SIZE; offset + RECORD_SIZE <= end; offset += RECORD_SIZE) {
+            long postId = buffer.getLong(offset);
+            if (postId == 0) {
+                break;
+            }
+            counts.merge(postId, 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    boolean isFlushed() {
+        return buffer.getInt(4) == STATE_FLUSHED;
+    }
+
+    /**
+     * 标记已落库并刷盘，防止删除失败时重复回放
+     */
+    void markFlushed() {
+        buffer.putInt(4, STATE_FLUSHED);
+        buffer.force();
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    private static MappedByteBuffer map(Path path, int size, StandardOpenOption option) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, option, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+}
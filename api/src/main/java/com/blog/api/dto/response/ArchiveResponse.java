@@ -0,0 +1,58 @@
+package com.blog.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Archive Response")
+public class ArchiveResponse {
+
+    @Schema(description = "Total published posts in this archive")
+    private long total;
+
+    @Schema(description = "Years, newest first")
+    private List<Year> years;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Archive Year")
+    public static class Year {
+        private int year;
+        private long count;
+        private List<Month> months;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Archive Month")
+    public static class Month {
+        private int month;
+        private long count;
+        private List<Item> posts;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Archive Post Item")
+    public static class Item {
+        private Long id;
+        private String title;
+        private String slug;
+        private LocalDateTime publishedAt;
+    }
+}
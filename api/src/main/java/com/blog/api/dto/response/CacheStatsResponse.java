@@ -0,0 +1,60 @@
+package com.blog.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cache Stats Response")
+public class CacheStatsResponse {
+
+    @Schema(description = "Cache name")
+    private String name;
+
+    @Schema(description = "Local entry count (estimated)")
+    private long size;
+
+    @Schema(description = "Local hit count")
+    private long hitCount;
+
+    @Schema(description = "Local miss count")
+    private long missCount;
+
+    @Schema(description = "Local eviction count")
+    private long evictionCount;
+
+    @Schema(description = "Local hit rate")
+    private double hitRate;
+
+    @Schema(description = "Redis hit count")
+    private long remoteHitCount;
+
+    @Schema(description = "Redis miss count")
+    private long remoteMissCount;
+
+    @Schema(description = "Loader invocation count")
+    private long loadCount;
+
+    @Schema(description = "Callers served by another caller's in-flight load")
+    private long coalescedCount;
+
+    @Schema(description = "Background refreshes started before expiry")
+    private long earlyRefreshCount;
+
+    @Schema(description = "Redis batch (round trip) count")
+    private long batchCount;
+
+    @Schema(description = "Keys read or written in batches")
+    private long batchKeyCount;
+
+    @Schema(description = "Average batch latency in milliseconds")
+    private double avgBatchMillis;
+
+    @Schema(description = "Maximum batch latency in milliseconds")
+    private double maxBatchMillis;
+}
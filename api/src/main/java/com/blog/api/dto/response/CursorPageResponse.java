@@ -0,0 +1,34 @@
+package com.blog.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 游标分页响应（keyset 分页，不依赖 OFFSET）
+ */
+@Data
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int pageSize;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * 总数，仅在请求时返回（需要额外的 COUNT 查询）
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+
+    public static <T> CursorPageResponse<T> of(List<T> content, int pageSize, String nextCursor, Long totalElements) {
+        CursorPageResponse<T> response = new CursorPageResponse<>();
+        response.setContent(content);
+        response.setPageSize(pageSize);
+        response.setNextCursor(nextCursor);
+        response.setHasNext(nextCursor != null);
+        response.setTotalElements(totalElements);
+        return response;
+    }
+}
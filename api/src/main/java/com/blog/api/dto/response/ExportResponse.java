@@ -0,0 +1,27 @@
+package com.blog.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Static Export Response")
+public class ExportResponse {
+
+    @Schema(description = "Files produced by this export")
+    private int files;
+
+    @Schema(description = "Files rewritten because their content changed")
+    private int written;
+
+    @Schema(description = "Stale files deleted")
+    private int deleted;
+
+    @Schema(description = "Duration in milliseconds")
+    private long durationMs;
+}
@@ -0,0 +1,43 @@
+package com.blog.api.dto.response;
+
+import com.blog.api.render.RenderResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Post Render Response")
+public class PostRenderResponse {
+
+    @Schema(description = "Post ID")
+    private Long postId;
+
+    @Schema(description = "SHA-256 of the Markdown source")
+    private String contentHash;
+
+    @Schema(description = "Renderer version")
+    private Integer rendererVersion;
+
+    @Schema(description = "Sanitized HTML")
+    private String html;
+
+    @Schema(description = "Table of contents")
+    private List<RenderResult.TocEntry> toc;
+
+    @Schema(description = "Word count")
+    private Integer wordCount;
+
+    @Schema(description = "Estimated reading time in minutes")
+    private Integer readingTime;
+
+    @Schema(description = "Rendered at")
+    private LocalDateTime renderedAt;
+}
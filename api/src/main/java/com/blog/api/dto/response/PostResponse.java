@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "Post Response")
@@ -67,6 +67,18 @@ public class PostResponse {
     @Schema(description = "Tags")
     private List<TagInfo> tags;
 
+    @Schema(description = "Previous (older) published post")
+    private AdjacentPost previous;
+
+    @Schema(description = "Next (newer) published post")
+    private AdjacentPost next;
+
+    @Schema(description = "Previous (older) published post in the same category")
+    private AdjacentPost previousInCategory;
+
+    @Schema(description = "Next (newer) published post in the same category")
+    private AdjacentPost nextInCategory;
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -77,4 +89,16 @@ public class PostResponse {
         private String name;
         private String slug;
     }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Adjacent Post")
+    public static class AdjacentPost {
+        private Long id;
+        private String title;
+        private String slug;
+        private LocalDateTime publishedAt;
+    }
 }
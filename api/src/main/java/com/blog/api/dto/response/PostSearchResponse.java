@@ -0,0 +1,64 @@
+package com.blog.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Post Search Response")
+public class PostSearchResponse {
+
+    @Schema(description = "Paged hits ordered by relevance")
+    private PageResponse<Hit> hits;
+
+    @Schema(description = "Category facet counts")
+    private List<FacetValue> categories;
+
+    @Schema(description = "Tag facet counts")
+    private List<FacetValue> tags;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Search Hit")
+    public static class Hit {
+        private Long id;
+        private String title;
+        private String slug;
+        private String summary;
+        private String cover;
+        private Long categoryId;
+        private LocalDateTime createdAt;
+        private Float score;
+
+        @Schema(description = "Highlighted title (escaped HTML with <mark>), null if no match")
+        private String titleHighlight;
+
+        @Schema(description = "Highlighted summary (escaped HTML with <mark>), null if no match")
+        private String summaryHighlight;
+
+        @Schema(description = "Highlighted content snippet (escaped HTML with <mark>), null if no match")
+        private String contentHighlight;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Facet Value")
+    public static class FacetValue {
+        private Long id;
+        private String name;
+        private String slug;
+        private Long count;
+    }
+}
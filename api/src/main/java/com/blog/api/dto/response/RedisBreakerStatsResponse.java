@@ -0,0 +1,36 @@
+package com.blog.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Redis Circuit Breaker Stats Response")
+public class RedisBreakerStatsResponse {
+
+    @Schema(description = "Breaker state", example = "CLOSED")
+    private String state;
+
+    @Schema(description = "Consecutive failures since the last success")
+    private int consecutiveFailures;
+
+    @Schema(description = "Redis calls attempted")
+    private long callCount;
+
+    @Schema(description = "Redis calls failed")
+    private long failureCount;
+
+    @Schema(description = "Calls short-circuited to the fallback while open")
+    private long rejectedCount;
+
+    @Schema(description = "Times the breaker opened")
+    private long openCount;
+
+    @Schema(description = "Blacklisted tokens held locally and not yet written to Redis")
+    private int pendingBlacklistSyncs;
+}
@@ -0,0 +1,28 @@
+package com.blog.api.dto.response;
+
+import com.blog.api.search.SuggestType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Suggest Response")
+public class SuggestResponse {
+
+    @Schema(description = "Suggestion type: POST / TAG / CATEGORY")
+    private SuggestType type;
+
+    @Schema(description = "Entity ID")
+    private Long id;
+
+    @Schema(description = "Display text (post title, tag or category name)")
+    private String text;
+
+    @Schema(description = "URL slug")
+    private String slug;
+}
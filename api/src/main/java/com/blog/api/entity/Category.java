@@ -1,6 +1,8 @@
 package com.blog.api.entity;
 
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
 import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableField;
 import com.baomidou.mybatisplus.annotation.TableId;
 import com.baomidou.mybatisplus.annotation.TableName;
 import lombok.Data;
@@ -24,6 +26,12 @@ public class Category {
 
     private Integer sortOrder;
 
+    /**
+     * 已发布文章数（反范式计数，只通过原子增减和定时校正更新，updateById 不会覆盖）
+     */
+    @TableField(updateStrategy = FieldStrategy.NEVER)
+    private Integer postCount;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
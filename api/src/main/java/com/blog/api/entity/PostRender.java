@@ -0,0 +1,30 @@
+package com.blog.api.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@TableName("post_render")
+public class PostRender {
+
+    @TableId(type = IdType.INPUT)
+    private Long postId;
+
+    private String contentHash;
+
+    private Integer rendererVersion;
+
+    private String html;
+
+    private String toc;
+
+    private Integer wordCount;
+
+    private Integer readingTime;
+
+    private LocalDateTime renderedAt;
+}
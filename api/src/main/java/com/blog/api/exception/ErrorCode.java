@@ -37,6 +37,8 @@ public enum ErrorCode {
     CATEGORY_NOT_FOUND(3000, "Category Not Found"),
     CATEGORY_NAME_EXISTS(3001, "Category Name Already Exists"),
     CATEGORY_HAS_POSTS(3002, "Cannot Delete Category With Posts"),
+    CATEGORY_HAS_CHILDREN(3003, "Cannot Delete Category With Children"),
+    CATEGORY_INVALID_PARENT(3004, "Invalid Parent Category"),
 
     // Tag Errors (4000-4099)
     TAG_NOT_FOUND(4000, "Tag Not Found"),
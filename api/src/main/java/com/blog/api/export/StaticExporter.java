@@ -0,0 +1,571 @@
+package com.blog.api.export;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.blog.api.cache.ContentChange;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.cache.ResponseBytesCache;
+import com.blog.api.dto.response.*;
+import com.blog.api.entity.Post;
+import com.blog.api.feed.FeedFormat;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.search.ArchiveIndex;
+import com.blog.api.search.PostNavigationIndex;
+import com.blog.api.service.*;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * 静态 JSON 导出
+ * 把前台公开接口的响应（站点配置、分类 / 标签、友链、归档、全部列表分页、每篇文章、订阅源）
+ * 写成与接口路径对应的静态文件，并同时生成 .gz / .br 预压缩版本，供 Nginx / CDN 直接提供读取。
+ * manifest.json 记录每个文件对应的接口 URL 与内容摘要；重新导出时摘要未变的文件不会重写，
+ * 内容变更事件只重新导出受影响的文件组（文章变更只重新导出该文章及列表、归档、分类标签、订阅源），
+ * 短时间内的多次变更合并为一次导出。全量导出时文章按批并行处理。
+ */
+@Slf4j
+@Component
+public class StaticExporter {
+
+    static final String MANIFEST_FILE = "manifest.json";
+
+    private static final String API_PREFIX = "api/blog/";
+    private static final int BATCH_SIZE = 100;
+    private static final int TAG_CLOUD_LIMIT = 50;
+    private static final long DEBOUNCE_MILLIS = 2_000;
+    private static final String[] COMPRESSED_SUFFIXES = {".gz", ".br"};
+
+    /**
+     * 文件组（增量导出的最小单位）
+     */
+    public enum Group {
+        SITE, TAXONOMY, LISTING, ARCHIVE, FEED, POST
+    }
+
+    /**
+     * 清单条目
+     *
+     * @param url    对应的接口地址
+     * @param group  文件组
+     * @param postId 文章文件对应的文章 ID，其他文件为空
+     * @param hash       响应数据的摘要（不含时间戳）
+     * @param size       未压缩文件大小
+     * @param neighbours 文件中上一篇 / 下一篇导航引用的文章 ID，这些文章变更时需要重新导出
+     */
+    public record ManifestEntry(String url, Group group, Long postId, String hash, long size, List<Long> neighbours) {
+    }
+
+    private final PostMapper postMapper;
+    private final PostAssembler postAssembler;
+    private final PostService postService;
+    private final CategoryService categoryService;
+    private final TagService tagService;
+    private final FriendLinkService friendLinkService;
+    private final ConfigService configService;
+    private final FeedService feedService;
+    private final ArchiveIndex archiveIndex;
+    private final PostNavigationIndex postNavigationIndex;
+    private final ResponseBytesCache responseBytesCache;
+    private final ObjectMapper objectMapper;
+    private final ContentVersions contentVersions;
+    private final boolean enabled;
+    private final Path root;
+    private final int pageSize;
+    private final int parallelism;
+
+    private final ScheduledExecutorService exportExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "static-export");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 待增量导出的内容，由导出线程合并处理
+    private final Set<Group> pendingGroups = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingPosts = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pendingFull = new AtomicBoolean();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    // 清单只在导出线程（及其发起的并行批次）中修改
+    private final Map<String, ManifestEntry> manifest = new ConcurrentHashMap<>();
+
+    public StaticExporter(PostMapper postMapper, PostAssembler postAssembler, PostService postService,
+                          CategoryService categoryService, TagService tagService, FriendLinkService friendLinkService,
+                          ConfigService configService, FeedService feedService, ArchiveIndex archiveIndex,
+                          PostNavigationIndex postNavigationIndex, ResponseBytesCache responseBytesCache, ObjectMapper objectMapper,
+                          ContentVersions contentVersions,
+                          @Value("${blog.export.enabled:false}") boolean enabled,
+                          @Value("${blog.export.path:./data/static}") String path,
+                          @Value("${blog.export.page-size:10}") int pageSize,
+                          @Value("${blog.export.parallelism:0}") int parallelism) {
+        this.postMapper = postMapper;
+        this.postAssembler = postAssembler;
+        this.postService = postService;
+        this.categoryService = categoryService;
+        this.tagService = tagService;
+        this.friendLinkService = friendLinkService;
+        this.configService = configService;
+        this.feedService = feedService;
+        this.archiveIndex = archiveIndex;
+        this.postNavigationIndex = postNavigationIndex;
+        this.responseBytesCache = responseBytesCache;
+        this.objectMapper = objectMapper;
+        this.contentVersions = contentVersions;
+        this.enabled = enabled;
+        this.root = Path.of(path);
+        this.pageSize = pageSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @PostConstruct
+    public void init() {
+        loadManifest();
+        if (enabled) {
+            contentVersions.addListener(this::onChange);
+        }
+    }
+
+    /**
+     * 启动后全量导出一次（摘要未变的文件不会重写），修正停机期间的变更
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (enabled) {
+            pendingFull.set(true);
+            schedule();
+        }
+    }
+
+    /**
+     * 立即全量导出（在导出线程中执行，与增量导出串行）
+     */
+    public ExportResponse exportAll() {
+        try {
+            return exportExecutor.submit(this::doExportAll).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while exporting static files", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        exportExecutor.shutdownNow();
+    }
+
+    void onChange(ContentChange change) {
+        switch (change.scope()) {
+            case POST -> {
+                if (change.entityId() == null) {
+                    pendingFull.set(true);
+                } else {
+                    pendingPosts.add(change.entityId());
+                    pendingGroups.addAll(EnumSet.of(Group.LISTING, Group.ARCHIVE, Group.TAXONOMY, Group.FEED));
+                }
+            }
+            // 分类、标签名称出现在文章详情和列表中，变更较少，直接全量导出
+            case CATEGORY, TAG -> pendingFull.set(true);
+            case CONFIG -> pendingGroups.addAll(EnumSet.of(Group.SITE, Group.FEED));
+            case FRIEND_LINK -> pendingGroups.add(Group.SITE);
+            default -> {
+                return;
+            }
+        }
+        schedule();
+    }
+
+    /**
+     * 延迟一小段时间再导出：合并批量变更，并等待归档等异步索引完成更新
+     */
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            exportExecutor.schedule(this::drain, DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void drain() {
+        scheduled.set(false);
+        try {
+            if (pendingFull.getAndSet(false)) {
+                pendingGroups.clear();
+                pendingPosts.clear();
+                doExportAll();
+                return;
+            }
+            Set<Group> groups = EnumSet.noneOf(Group.class);
+            groups.addAll(pendingGroups);
+            pendingGroups.removeAll(groups);
+            Set<Long> postIds = new HashSet<>(pendingPosts);
+            pendingPosts.removeAll(postIds);
+            if (!groups.isEmpty() || !postIds.isEmpty()) {
+                doExport(groups, postIds);
+            }
+        } catch (Exception e) {
+            // 失败后无法确定哪些文件已更新，下次变更时全量导出
+            pendingFull.set(true);
+            log.warn("Failed to export static files: {}", e.getMessage());
+        }
+    }
+
+    private ExportResponse doExportAll() {
+        long start = System.currentTimeMillis();
+        Run run = new Run();
+        exportSite(run);
+        exportTaxonomy(run);
+        exportListings(run);
+        exportArchive(run);
+        exportFeeds(run);
+        exportAllPosts(run);
+        int deleted = run.finish(entry -> true);
+        ExportResponse response = run.toResponse(deleted, System.currentTimeMillis() - start);
+        log.info("Exported static files: {} files, {} written, {} deleted in {} ms (parallelism {})",
+                response.getFiles(), response.getWritten(), response.getDeleted(), response.getDurationMs(), parallelism);
+        return response;
+    }
+
+    /**
+     * 增量导出：重新生成指定文件组和文章，只清理这些范围内不再存在的文件
+     */
+    void doExport(Set<Group> groups, Set<Long> postIds) {
+        long start = System.currentTimeMillis();
+        Run run = new Run();
+        if (groups.contains(Group.SITE)) {
+            exportSite(run);
+        }
+        if (groups.contains(Group.TAXONOMY)) {
+            exportTaxonomy(run);
+        }
+        if (groups.contains(Group.LISTING)) {
+            exportListings(run);
+        }
+        if (groups.contains(Group.ARCHIVE)) {
+            exportArchive(run);
+        }
+        if (groups.contains(Group.FEED)) {
+            exportFeeds(run);
+        }
+        Set<Long> affected = affectedPosts(postIds);
+        for (Long postId : affected) {
+            Post post = postMapper.selectById(postId);
+            if (post != null && Integer.valueOf(1).equals(post.getStatus())) {
+                exportPost(run, postAssembler.toResponse(post));
+            }
+        }
+        int deleted = run.finish(entry -> entry.group() == Group.POST
+                ? affected.contains(entry.postId())
+                : groups.contains(entry.group()));
+        log.debug("Exported static files for groups {} and posts {}: {} written, {} deleted in {} ms",
+                groups, postIds, run.written.get(), deleted, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 变更的文章及导航受其影响的文章：变更后的相邻文章，以及已导出文件中引用了它的文章
+     */
+    private Set<Long> affectedPosts(Set<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return postIds;
+        }
+        Set<Long> affected = new HashSet<>(postIds);
+        for (Long postId : postIds) {
+            affected.addAll(postNavigationIndex.neighbours(postId));
+        }
+        for (ManifestEntry entry : manifest.values()) {
+            if (entry.neighbours() != null && entry.neighbours().stream().anyMatch(postIds::contains)) {
+                affected.add(entry.postId());
+            }
+        }
+        return affected;
+    }
+
+    private void exportSite(Run run) {
+        run.json("config/site.json", "/api/blog/config/site", Group.SITE, null, configService.getAllConfigs());
+        run.json("links.json", "/api/blog/links", Group.SITE, null, friendLinkService.getAll());
+    }
+
+    private void exportTaxonomy(Run run) {
+        List<CategoryResponse> categories = categoryService.getAll();
+        run.json("categories.json", "/api/blog/categories", Group.TAXONOMY, null, categories);
+        run.json("categories/tree.json", "/api/blog/categories/tree", Group.TAXONOMY, null, categoryService.getTree());
+        for (CategoryResponse category : categories) {
+            String slug = safeSegment(category.getSlug());
+            if (slug != null) {
+                run.json("categories/" + slug + ".json", "/api/blog/categories/" + slug, Group.TAXONOMY, null,
+                        categoryService.getBySlug(category.getSlug()));
+            }
+        }
+
+        List<TagResponse> tags = tagService.getAll();
+        run.json("tags.json", "/api/blog/tags", Group.TAXONOMY, null, tags);
+        run.json("tags/cloud.json", "/api/blog/tags/cloud", Group.TAXONOMY, null, tagService.getCloud(TAG_CLOUD_LIMIT));
+        for (TagResponse tag : tags) {
+            String slug = safeSegment(tag.getSlug());
+            if (slug != null) {
+                run.json("tags/" + slug + ".json", "/api/blog/tags/" + slug, Group.TAXONOMY, null,
+                        tagService.getBySlug(tag.getSlug()));
+            }
+        }
+    }
+
+    /**
+     * 列表分页：全站、每个分类、每个标签（每页数量固定为 blog.export.page-size）
+     */
+    private void exportListings(Run run) {
+        exportPages(run, "posts/page/", "", page -> postService.getPage(page, pageSize, 1, null, false));
+        for (CategoryResponse category : categoryService.getAll()) {
+            String slug = safeSegment(category.getSlug());
+            if (slug != null) {
+                exportPages(run, "categories/" + slug + "/posts/page/", "&categoryId=" + category.getId(),
+                        page -> postService.getPage(page, pageSize, 1, category.getId(), false));
+            }
+        }
+        for (TagResponse tag : tagService.getAll()) {
+            String slug = safeSegment(tag.getSlug());
+            if (slug != null) {
+                exportPages(run, "tags/" + slug + "/posts/page/", "&tagId=" + tag.getId(),
+                        page -> postService.getPageByTagId(page, pageSize, tag.getId()));
+            }
+        }
+    }
+
+    private void exportPages(Run run, String directory, String query, IntFunction<PageResponse<?>> loader) {
+        int totalPages = 1;
+        for (int page = 0; page < totalPages; page++) {
+            PageResponse<?> response = loader.apply(page);
+            totalPages = Math.max(response.getTotalPages(), 1);
+            run.json(directory + page + ".json", "/api/blog/posts?page=" + page + "&size=" + pageSize + query,
+                    Group.LISTING, null, response);
+        }
+    }
+
+    private void exportArchive(Run run) {
+        ArchiveIndex.Snapshot snapshot = archiveIndex.snapshot();
+        run.json("archive.json", "/api/blog/archive", Group.ARCHIVE, null, snapshot.archive());
+        for (Map.Entry<Integer, ArchiveResponse> year : snapshot.years().entrySet()) {
+            run.json("archive/" + year.getKey() + ".json", "/api/blog/archive?year=" + year.getKey(),
+                    Group.ARCHIVE, null, year.getValue());
+        }
+    }
+
+    private void exportFeeds(Run run) {
+        List<CategoryResponse> categories = categoryService.getAll();
+        List<TagResponse> tags = tagService.getAll();
+        for (FeedFormat format : FeedFormat.values()) {
+            String file = "feed." + format.extension();
+            run.raw(file, Group.FEED, feedService.getFeed(format, "/" + API_PREFIX + file));
+            for (CategoryResponse category : categories) {
+                String slug = safeSegment(category.getSlug());
+                if (slug != null) {
+                    String path = "categories/" + slug + "/" + file;
+                    run.raw(path, Group.FEED, feedService.getCategoryFeed(category.getSlug(), format, "/" + API_PREFIX + path));
+                }
+            }
+            for (TagResponse tag : tags) {
+                String slug = safeSegment(tag.getSlug());
+                if (slug != null) {
+                    String path = "tags/" + slug + "/" + file;
+                    run.raw(path, Group.FEED, feedService.getTagFeed(tag.getSlug(), format, "/" + API_PREFIX + path));
+                }
+            }
+        }
+    }
+
+    /**
+     * 按批并行读取并导出全部已发布文章
+     */
+    private void exportAllPosts(Run run) {
+        List<Long> postIds = postMapper.selectObjs(new LambdaQueryWrapper<Post>()
+                        .select(Post::getId)
+                        .eq(Post::getStatus, 1)
+                        .orderByAsc(Post::getId))
+                .stream().map(id -> ((Number) id).longValue()).toList();
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int from = 0; from < postIds.size(); from += BATCH_SIZE) {
+                List<Long> batch = postIds.subList(from, Math.min(from + BATCH_SIZE, postIds.size()));
+                futures.add(CompletableFuture.runAsync(() -> postAssembler
+                        .toResponses(postMapper.selectList(new LambdaQueryWrapper<Post>().in(Post::getId, batch)))
+                        .forEach(post -> exportPost(run, post)), pool));
+            }
+            futures.forEach(CompletableFuture::join);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 与接口一致：按别名获取的详情附带上一篇 / 下一篇导航，按 ID 获取的不附带
+     */
+    private void exportPost(Run run, PostResponse post) {
+        run.json("posts/" + post.getId() + ".json", "/api/blog/posts/" + post.getId(), Group.POST, post.getId(), post);
+        String slug = safeSegment(post.getSlug());
+        if (slug != null) {
+            PostResponse navigable = postNavigationIndex.attach(post);
+            run.json("posts/slug/" + slug + ".json", "/api/blog/posts/slug/" + slug, Group.POST, post.getId(),
+                    PostNavigationIndex.neighbours(navigable), navigable);
+        }
+    }
+
+    /**
+     * 别名只在可以安全作为单个路径段时导出
+     */
+    private static String safeSegment(String slug) {
+        if (!StringUtils.hasText(slug) || slug.contains("/") || slug.contains("\\") || slug.startsWith(".")) {
+            return null;
+        }
+        return slug;
+    }
+
+    private void loadManifest() {
+        Path file = root.resolve(MANIFEST_FILE);
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            manifest.putAll(objectMapper.readValue(file.toFile(), new TypeReference<Map<String, ManifestEntry>>() {}));
+        } catch (IOException e) {
+            log.warn("Failed to read static export manifest, exporting from scratch: {}", e.getMessage());
+        }
+    }
+
+    private void writeManifest() throws IOException {
+        writeAtomically(root.resolve(MANIFEST_FILE), objectMapper.writeValueAsBytes(new TreeMap<>(manifest)));
+    }
+
+    private void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".export-", ".tmp");
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 一次导出过程：记录本次生成的文件，结束时清理范围内未生成的旧文件并保存清单
+     */
+    private final class Run {
+
+        private final Set<String> produced = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger written = new AtomicInteger();
+
+        /**
+         * 导出接口响应；摘要只基于 data（ApiResponse 的时间戳每次都不同）
+         */
+        void json(String file, String url, Group group, Long postId, Object data) {
+            json(file, url, group, postId, null, data);
+        }
+
+        void json(String file, String url, Group group, Long postId, List<Long> neighbours, Object data) {
+            try {
+                String hash = DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(data));
+                write(API_PREFIX + file, url, group, postId, neighbours, hash,
+                        () -> objectMapper.writeValueAsBytes(ApiResponse.success(data)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * 导出原样字节（订阅源），文件名即接口路径
+         */
+        void raw(String file, Group group, byte[] body) {
+            try {
+                write(API_PREFIX + file, "/" + API_PREFIX + file, group, null, null, DigestUtils.md5DigestAsHex(body), () -> body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void write(String path, String url, Group group, Long postId, List<Long> neighbours, String hash,
+                           Body body) throws IOException {
+            produced.add(path);
+            ManifestEntry previous = manifest.get(path);
+            Path target = root.resolve(path);
+            if (previous != null && previous.hash().equals(hash) && Files.exists(target)) {
+                return;
+            }
+            byte[] bytes = body.get();
+            writeAtomically(target, bytes);
+            writeAtomically(Path.of(target + ".gz"), ResponseBytesCache.gzip(bytes));
+            byte[] brotli = responseBytesCache.brotli(bytes);
+            if (brotli != null) {
+                writeAtomically(Path.of(target + ".br"), brotli);
+            } else {
+                Files.deleteIfExists(Path.of(target + ".br"));
+            }
+            manifest.put(path, new ManifestEntry(url, group, postId, hash, bytes.length,
+                    neighbours == null || neighbours.isEmpty() ? null : neighbours));
+            written.incrementAndGet();
+        }
+
+        /**
+         * @param scope 本次导出覆盖的清单范围
+         * @return 删除的文件数
+         */
+        int finish(Predicate<ManifestEntry> scope) {
+            int deleted = 0;
+            Iterator<Map.Entry<String, ManifestEntry>> it = manifest.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, ManifestEntry> entry = it.next();
+                if (produced.contains(entry.getKey()) || !scope.test(entry.getValue())) {
+                    continue;
+                }
+                Path target = root.resolve(entry.getKey());
+                try {
+                    Files.deleteIfExists(target);
+                    for (String suffix : COMPRESSED_SUFFIXES) {
+                        Files.deleteIfExists(Path.of(target + suffix));
+                    }
+                } catch (IOException e) {
+                    log.warn("Failed to delete stale static file {}: {}", target, e.getMessage());
+                }
+                it.remove();
+                deleted++;
+            }
+            try {
+                writeManifest();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return deleted;
+        }
+
+        ExportResponse toResponse(int deleted, long durationMs) {
+            return ExportResponse.builder()
+                    .files(produced.size())
+                    .written(written.get())
+                    .deleted(deleted)
+                    .durationMs(durationMs)
+                    .build();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Body {
+        byte[] get() throws IOException;
+    }
+}
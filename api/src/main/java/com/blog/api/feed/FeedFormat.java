@@ -0,0 +1,39 @@
+package com.blog.api.feed;
+
+/**
+ * 订阅源格式
+ */
+public enum FeedFormat {
+
+    RSS("xml", "application/rss+xml;charset=UTF-8"),
+    ATOM("atom", "application/atom+xml;charset=UTF-8"),
+    JSON("json", "application/feed+json;charset=UTF-8");
+
+    private final String extension;
+    private final String contentType;
+
+    FeedFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    /**
+     * 按扩展名（xml / atom / json）查找，不存在时返回 null
+     */
+    public static FeedFormat fromExtension(String extension) {
+        for (FeedFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,266 @@
+package com.blog.api.feed;
+
+import com.blog.api.dto.response.PostResponse;
+import com.blog.api.dto.response.PostSummaryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 订阅源渲染（RSS 2.0 / Atom 1.0 / JSON Feed 1.1）
+ * 输入为已批量加载标签、分类、作者的文章列表，输出 UTF-8 字节
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedRenderer {
+
+    private static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
+    private static final String JSON_FEED_VERSION = "https://jsonfeed.org/version/1.1";
+    private static final XMLOutputFactory XML_OUTPUT = XMLOutputFactory.newFactory();
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 订阅源频道信息
+     *
+     * @param siteUrl     站点 URL（不含末尾斜杠），用于生成文章链接
+     * @param title       标题
+     * @param description 描述
+     * @param link        对应的页面地址
+     * @param feedUrl     订阅源自身地址
+     */
+    public record Channel(String siteUrl, String title, String description, String link, String feedUrl) {
+    }
+
+    public byte[] render(FeedFormat format, Channel channel, List<PostSummaryResponse> posts) {
+        return switch (format) {
+            case RSS -> writeXml(xml -> writeRss(xml, channel, posts));
+            case ATOM -> writeXml(xml -> writeAtom(xml, channel, posts));
+            case JSON -> writeJson(channel, posts);
+        };
+    }
+
+    private static void writeRss(XMLStreamWriter xml, Channel channel, List<PostSummaryResponse> posts)
+            throws XMLStreamException {
+        xml.writeStartElement("rss");
+        xml.writeAttribute("version", "2.0");
+        xml.writeNamespace("atom", ATOM_NAMESPACE);
+        xml.writeStartElement("channel");
+        writeElement(xml, "title", channel.title());
+        writeElement(xml, "link", channel.link());
+        writeElement(xml, "description", Objects.toString(channel.description(), ""));
+        xml.writeEmptyElement("atom", "link", ATOM_NAMESPACE);
+        xml.writeAttribute("href", channel.feedUrl());
+        xml.writeAttribute("rel", "self");
+        xml.writeAttribute("type", FeedFormat.RSS.contentType().split(";")[0]);
+        LocalDateTime updated = lastUpdated(posts);
+        if (updated != null) {
+            writeElement(xml, "lastBuildDate", DateTimeFormatter.RFC_1123_DATE_TIME.format(zoned(updated)));
+        }
+        for (PostSummaryResponse post : posts) {
+            String link = postUrl(channel, post);
+            xml.writeStartElement("item");
+            writeElement(xml, "title", post.getTitle());
+            writeElement(xml, "link", link);
+            xml.writeStartElement("guid");
+            xml.writeAttribute("isPermaLink", "true");
+            xml.writeCharacters(link);
+            xml.writeEndElement();
+            if (StringUtils.hasText(post.getSummary())) {
+                writeElement(xml, "description", post.getSummary());
+            }
+            LocalDateTime published = publishedAt(post);
+            if (published != null) {
+                writeElement(xml, "pubDate", DateTimeFormatter.RFC_1123_DATE_TIME.format(zoned(published)));
+            }
+            for (String category : categoriesOf(post)) {
+                writeElement(xml, "category", category);
+            }
+            xml.writeEndElement();
+        }
+        xml.writeEndElement();
+        xml.writeEndElement();
+    }
+
+    private static void writeAtom(XMLStreamWriter xml, Channel channel, List<PostSummaryResponse> posts)
+            throws XMLStreamException {
+        xml.writeStartElement("feed");
+        xml.writeDefaultNamespace(ATOM_NAMESPACE);
+        writeElement(xml, "id", channel.feedUrl());
+        writeElement(xml, "title", channel.title());
+        if (StringUtils.hasText(channel.description())) {
+            writeElement(xml, "subtitle", channel.description());
+        }
+        LocalDateTime updated = lastUpdated(posts);
+        writeElement(xml, "updated", isoDateTime(updated != null ? updated : LocalDateTime.now()));
+        writeLink(xml, "alternate", channel.link());
+        writeLink(xml, "self", channel.feedUrl());
+        // Atom 要求每个条目都有作者，条目未提供时继承频道作者
+        xml.writeStartElement("author");
+        writeElement(xml, "name", channel.title());
+        xml.writeEndElement();
+        for (PostSummaryResponse post : posts) {
+            String link = postUrl(channel, post);
+            xml.writeStartElement("entry");
+            writeElement(xml, "id", link);
+            writeElement(xml, "title", post.getTitle());
+            writeLink(xml, "alternate", link);
+            LocalDateTime published = publishedAt(post);
+            if (published != null) {
+                writeElement(xml, "published", isoDateTime(published));
+            }
+            LocalDateTime modified = post.getUpdatedAt() != null ? post.getUpdatedAt() : published;
+            writeElement(xml, "updated", isoDateTime(modified != null ? modified : LocalDateTime.now()));
+            if (StringUtils.hasText(post.getAuthorName())) {
+                xml.writeStartElement("author");
+                writeElement(xml, "name", post.getAuthorName());
+                xml.writeEndElement();
+            }
+            if (StringUtils.hasText(post.getSummary())) {
+                writeElement(xml, "summary", post.getSummary());
+            }
+            for (String category : categoriesOf(post)) {
+                xml.writeEmptyElement("category");
+                xml.writeAttribute("term", category);
+            }
+            xml.writeEndElement();
+        }
+        xml.writeEndElement();
+    }
+
+    private byte[] writeJson(Channel channel, List<PostSummaryResponse> posts) {
+        ObjectNode feed = objectMapper.createObjectNode();
+        feed.put("version", JSON_FEED_VERSION);
+        feed.put("title", channel.title());
+        feed.put("home_page_url", channel.link());
+        feed.put("feed_url", channel.feedUrl());
+        if (StringUtils.hasText(channel.description())) {
+            feed.put("description", channel.description());
+        }
+        ArrayNode items = feed.putArray("items");
+        for (PostSummaryResponse post : posts) {
+            String link = postUrl(channel, post);
+            ObjectNode item = items.addObject();
+            item.put("id", link);
+            item.put("url", link);
+            item.put("title", post.getTitle());
+            // content_html / content_text 必须提供其一
+            item.put("content_text", Objects.toString(post.getSummary(), ""));
+            if (StringUtils.hasText(post.getSummary())) {
+                item.put("summary", post.getSummary());
+            }
+            if (StringUtils.hasText(post.getCover())) {
+                item.put("image", post.getCover());
+            }
+            LocalDateTime published = publishedAt(post);
+            if (published != null) {
+                item.put("date_published", isoDateTime(published));
+            }
+            if (post.getUpdatedAt() != null) {
+                item.put("date_modified", isoDateTime(post.getUpdatedAt()));
+            }
+            if (StringUtils.hasText(post.getAuthorName())) {
+                item.putArray("authors").addObject().put("name", post.getAuthorName());
+            }
+            List<String> categories = categoriesOf(post);
+            if (!categories.isEmpty()) {
+                ArrayNode tags = item.putArray("tags");
+                categories.forEach(tags::add);
+            }
+        }
+        try {
+            return objectMapper.writeValueAsBytes(feed);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] writeXml(XmlBody body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        try {
+            XMLStreamWriter xml = XML_OUTPUT.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            body.write(xml);
+            xml.writeEndDocument();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("Failed to render feed", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeElement(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(Objects.toString(text, ""));
+        xml.writeEndElement();
+    }
+
+    private static void writeLink(XMLStreamWriter xml, String rel, String href) throws XMLStreamException {
+        xml.writeEmptyElement("link");
+        xml.writeAttribute("rel", rel);
+        xml.writeAttribute("href", href);
+    }
+
+    private static String postUrl(Channel channel, PostSummaryResponse post) {
+        return channel.siteUrl() + "/posts/" + post.getId();
+    }
+
+    /**
+     * 分类名在前，标签名在后
+     */
+    private static List<String> categoriesOf(PostSummaryResponse post) {
+        List<String> tagNames = post.getTags() != null
+                ? post.getTags().stream().map(PostResponse.TagInfo::getName).filter(StringUtils::hasText).toList()
+                : List.of();
+        if (!StringUtils.hasText(post.getCategoryName())) {
+            return tagNames;
+        }
+        List<String> categories = new ArrayList<>(tagNames.size() + 1);
+        categories.add(post.getCategoryName());
+        categories.addAll(tagNames);
+        return categories;
+    }
+
+    private static LocalDateTime publishedAt(PostSummaryResponse post) {
+        return post.getPublishedAt() != null ? post.getPublishedAt() : post.getCreatedAt();
+    }
+
+    private static LocalDateTime lastUpdated(List<PostSummaryResponse> posts) {
+        return posts.stream()
+                .map(post -> post.getUpdatedAt() != null ? post.getUpdatedAt() : publishedAt(post))
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+    }
+
+    private static ZonedDateTime zoned(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault());
+    }
+
+    private static String isoDateTime(LocalDateTime time) {
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(zoned(time));
+    }
+
+    @FunctionalInterface
+    private interface XmlBody {
+        void write(XMLStreamWriter xml) throws XMLStreamException;
+    }
+}
@@ -0,0 +1,70 @@
+package com.blog.api.loader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * DataLoader 风格的批量加载器
+ * load() 只登记 key 并返回 Future，dispatch() 时将所有待加载的 key 合并为一次批量查询；
+ * 同一个 key 在加载器生命周期内只会查询一次
+ * 非线程安全，按请求创建和使用
+ *
+ * @param <K> key 类型
+ * @param <V> value 类型
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+    private final V defaultValue;
+    private final Map<K, CompletableFuture<V>> futures = new HashMap<>();
+    private final Set<K> pending = new LinkedHashSet<>();
+
+    /**
+     * @param batchFunction 批量查询函数，返回结果中缺失的 key 视为不存在
+     * @param defaultValue  key 不存在时的默认值
+     */
+    public BatchLoader(Function<Collection<K>, Map<K, V>> batchFunction, V defaultValue) {
+        this.batchFunction = batchFunction;
+        this.defaultValue = defaultValue;
+    }
+
+    public CompletableFuture<V> load(K key) {
+        if (key == null) {
+            return CompletableFuture.completedFuture(defaultValue);
+        }
+        return futures.computeIfAbsent(key, k -> {
+            pending.add(k);
+            return new CompletableFuture<>();
+        });
+    }
+
+    /**
+     * 执行一次批量查询，完成所有待加载的 Future
+     */
+    public void dispatch() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<K> keys = new ArrayList<>(pending);
+        pending.clear();
+        try {
+            Map<K, V> result = batchFunction.apply(keys);
+            for (K key : keys) {
+                futures.get(key).complete(result.getOrDefault(key, defaultValue));
+            }
+        } catch (RuntimeException e) {
+            for (K key : keys) {
+                // 失败的 key 不缓存，下次 load 时重新查询
+                futures.remove(key).completeExceptionally(e);
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.blog.api.loader;
+
+import com.blog.api.dto.response.PostResponse;
+import com.blog.api.mapper.PostMapper;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 文章关联数据（分类、标签、作者）的批量加载器集合
+ * 在 Web 请求内绑定到请求作用域，同一请求内的所有查询共享去重结果；
+ * 非 Web 线程（定时任务等）每次调用 {@link #current(PostMapper)} 获得新实例
+ */
+public class PostRelationLoaders {
+
+    private static final String REQUEST_ATTRIBUTE = PostRelationLoaders.class.getName();
+
+    private final BatchLoader<Long, PostMapper.CategoryInfo> categories;
+    private final BatchLoader<Long, List<PostResponse.TagInfo>> tagsByPostId;
+    private final BatchLoader<Long, PostMapper.AuthorInfo> authors;
+
+    private PostRelationLoaders(PostMapper postMapper) {
+        this.categories = new BatchLoader<>(ids -> postMapper.selectCategoriesByIds(new ArrayList<>(ids))
+                .stream()
+                .collect(Collectors.toMap(PostMapper.CategoryInfo::getId, Function.identity())), null);
+        this.tagsByPostId = new BatchLoader<>(postIds -> postMapper.selectTagsByPostIds(new ArrayList<>(postIds))
+                .stream()
+                .collect(Collectors.groupingBy(
+                        PostMapper.TagWithPostId::getPostId,
+                        Collectors.mapping(
+                                t -> PostResponse.TagInfo.builder()
+                                        .id(t.getId())
+                                        .name(t.getName())
+                                        .slug(t.getSlug())
+                                        .build(),
+                                Collectors.toList()
+                        )
+                )), List.of());
+        this.authors = new BatchLoader<>(ids -> postMapper.selectAuthorsByIds(new ArrayList<>(ids))
+                .stream()
+                .collect(Collectors.toMap(PostMapper.AuthorInfo::getId, Function.identity())), null);
+    }
+
+    /**
+     * 获取当前请求的加载器集合
+     */
+    public static PostRelationLoaders current(PostMapper postMapper) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new PostRelationLoaders(postMapper);
+        }
+        Object loaders = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (loaders == null) {
+            loaders = new PostRelationLoaders(postMapper);
+            attributes.setAttribute(REQUEST_ATTRIBUTE, loaders, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (PostRelationLoaders) loaders;
+    }
+
+    public BatchLoader<Long, PostMapper.CategoryInfo> categories() {
+        return categories;
+    }
+
+    public BatchLoader<Long, List<PostResponse.TagInfo>> tagsByPostId() {
+        return tagsByPostId;
+    }
+
+    public BatchLoader<Long, PostMapper.AuthorInfo> authors() {
+        return authors;
+    }
+
+    /**
+     * 每种实体各执行一次批量查询
+     */
+    public void dispatchAll() {
+        categories.dispatch();
+        tagsByPostId.dispatch();
+        authors.dispatch();
+    }
+}
@@ -0,0 +1,55 @@
+package com.blog.api.mapper;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+/**
+ * 分类闭包表 category_closure(ancestor_id, descendant_id, depth)
+ * 每个分类与自身及其全部祖先各有一行，子树查询只需按 ancestor_id 走主键索引
+ */
+@Mapper
+public interface CategoryClosureMapper {
+
+    /**
+     * 新增节点：复制父节点的全部祖先路径并加上自身
+     */
+    @Insert("<script>" +
+            "INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+            "<if test='parentId != null'>" +
+            "SELECT ancestor_id, #{id}, depth + 1 FROM category_closure WHERE descendant_id = #{parentId} " +
+            "UNION ALL " +
+            "</if>" +
+            "SELECT #{id}, #{id}, 0" +
+            "</script>")
+    int insertNode(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    /**
+     * 断开子树与原祖先的路径（保留子树内部路径）
+     */
+    @Delete("DELETE a FROM category_closure a " +
+            "INNER JOIN category_closure d ON a.descendant_id = d.descendant_id " +
+            "LEFT JOIN category_closure x ON x.ancestor_id = d.ancestor_id AND x.descendant_id = a.ancestor_id " +
+            "WHERE d.ancestor_id = #{id} AND x.ancestor_id IS NULL")
+    int detachSubtree(@Param("id") Long id);
+
+    /**
+     * 把子树挂到新父节点下：父节点的每个祖先 × 子树的每个节点
+     */
+    @Insert("INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 " +
+            "FROM category_closure p CROSS JOIN category_closure s " +
+            "WHERE p.descendant_id = #{parentId} AND s.ancestor_id = #{id}")
+    int attachSubtree(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    @Delete("DELETE FROM category_closure WHERE ancestor_id = #{id} OR descendant_id = #{id}")
+    int deleteNode(@Param("id") Long id);
+
+    /**
+     * descendantId 是否为 ancestorId 自身或其后代
+     */
+    @Select("SELECT COUNT(*) FROM category_closure WHERE ancestor_id = #{ancestorId} AND descendant_id = #{descendantId}")
+    int countPath(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
+}
@@ -3,7 +3,27 @@ package com.blog.api.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.blog.api.entity.Category;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Update;
 
 @Mapper
 public interface CategoryMapper extends BaseMapper<Category> {
+
+    /**
+     * 原子增减已发布文章数
+     */
+    @Update("UPDATE category SET post_count = GREATEST(post_count + #{delta}, 0) WHERE id = #{id}")
+    int addPostCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * 按 post 重新统计并修正与实际不一致的计数
+     *
+     * @return 修正的分类数
+     */
+    @Update("UPDATE category c " +
+            "LEFT JOIN (SELECT category_id, COUNT(*) AS cnt FROM post " +
+            "WHERE status = 1 AND category_id IS NOT NULL GROUP BY category_id) p ON p.category_id = c.id " +
+            "SET c.post_count = COALESCE(p.cnt, 0) " +
+            "WHERE c.post_count <> COALESCE(p.cnt, 0)")
+    int reconcilePostCounts();
 }
@@ -1,26 +1,56 @@
 package com.blog.api.mapper;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.blog.api.entity.Post;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.ResultType;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
+import org.apache.ibatis.mapping.ResultSetType;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface PostMapper extends BaseMapper<Post> {
 
+    /**
+     * 列表查询条件：只选择列表展示需要的列，不读取 content 大字段
+     * （与 PostMapper.xml 中的 SummaryColumns 保持一致）
+     */
+    static LambdaQueryWrapper<Post> summaryQuery() {
+        return new LambdaQueryWrapper<Post>()
+                .select(Post::getId, Post::getTitle, Post::getSlug, Post::getSummary, Post::getCover,
+                        Post::getAuthorId, Post::getCategoryId, Post::getStatus, Post::getViewCount,
+                        Post::getPublishedAt, Post::getCreatedAt, Post::getUpdatedAt);
+    }
+
     @Select("SELECT tag_id FROM post_tag WHERE post_id = #{postId}")
     List<Long> selectTagIdsByPostId(@Param("postId") Long postId);
 
     @Select("SELECT COALESCE(SUM(view_count), 0) FROM post")
     Long selectTotalViewCount();
 
-    @Select("SELECT post_id FROM post_tag WHERE tag_id = #{tagId}")
-    List<Long> selectPostIdsByTagId(@Param("tagId") Long tagId);
+    /**
+     * 按标签分页查询已发布文章，只返回列表列（SQL 见 PostMapper.xml）
+     *
+     * @param tagIds     标签 ID 列表（去重后）
+     * @param categoryId 分类筛选，可为空
+     * @param includeDescendants 分类筛选是否包含全部子孙分类
+     * @param matchAll   true 表示必须包含全部标签，false 表示包含任一标签
+     */
+    IPage<Post> selectPublishedPageByTags(IPage<Post> page,
+                                          @Param("tagIds") List<Long> tagIds,
+                                          @Param("categoryId") Long categoryId,
+                                          @Param("includeDescendants") boolean includeDescendants,
+                                          @Param("matchAll") boolean matchAll);
 
     /**
      * 原子更新浏览量（解决并发问题）
@@ -28,6 +58,22 @@ public interface PostMapper extends BaseMapper<Post> {
     @Update("UPDATE post SET view_count = view_count + 1 WHERE id = #{id}")
     int incrementViewCount(@Param("id") Long id);
 
+    /**
+     * 批量累加浏览量（单条多行 UPDATE）
+     */
+    @Update("<script>" +
+            "UPDATE post SET view_count = view_count + CASE id " +
+            "<foreach item='d' collection='deltas'>" +
+            "WHEN #{d.postId} THEN #{d.delta} " +
+            "</foreach>" +
+            "ELSE 0 END " +
+            "WHERE id IN " +
+            "<foreach item='d' collection='deltas' open='(' separator=',' close=')'>" +
+            "#{d.postId}" +
+            "</foreach>" +
+            "</script>")
+    int batchIncrementViewCount(@Param("deltas") List<ViewCountDelta> deltas);
+
     /**
      * 批量查询文章关联的分类信息
      */
@@ -55,6 +101,47 @@ public interface PostMapper extends BaseMapper<Post> {
             "</script>")
     List<TagWithPostId> selectTagsByPostIds(@Param("postIds") List<Long> postIds);
 
+    /**
+     * 统计每个标签下已发布文章的总浏览量
+     */
+    @Select("SELECT pt.tag_id AS id, COALESCE(SUM(p.view_count), 0) AS total " +
+            "FROM post_tag pt " +
+            "INNER JOIN post p ON p.id = pt.post_id AND p.status = 1 " +
+            "GROUP BY pt.tag_id")
+    List<IdTotal> selectTagViewTotals();
+
+    /**
+     * 按 ID 区间流式读取已发布文章的站点地图字段，逐行回调，不在内存中保存结果集
+     * （fetchSize = Integer.MIN_VALUE 使 MySQL 驱动逐行读取）
+     */
+    @Select("SELECT id, published_at, updated_at FROM post " +
+            "WHERE status = 1 AND id BETWEEN #{fromId} AND #{toId} ORDER BY id")
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = Integer.MIN_VALUE)
+    @ResultType(SitemapEntry.class)
+    void streamSitemapEntries(@Param("fromId") long fromId, @Param("toId") long toId,
+                              ResultHandler<SitemapEntry> handler);
+
+    /**
+     * 按 ID 区间分片统计已发布文章的最后修改时间（分片序号 = (id - 1) DIV shardSize）
+     */
+    @Select("SELECT (id - 1) DIV #{shardSize} AS shard, " +
+            "MAX(COALESCE(updated_at, published_at, created_at)) AS last_modified " +
+            "FROM post WHERE status = 1 GROUP BY shard ORDER BY shard")
+    List<SitemapShard> selectSitemapShards(@Param("shardSize") int shardSize);
+
+    /**
+     * 批量查询文章作者信息
+     */
+    @Select("<script>" +
+            "SELECT u.id, u.username, u.nickname " +
+            "FROM user u " +
+            "WHERE u.id IN " +
+            "<foreach item='id' collection='authorIds' open='(' separator=',' close=')'>" +
+            "#{id}" +
+            "</foreach>" +
+            "</script>")
+    List<AuthorInfo> selectAuthorsByIds(@Param("authorIds") List<Long> authorIds);
+
     /**
      * 分类信息（用于批量查询）
      */
@@ -65,6 +152,26 @@ public interface PostMapper extends BaseMapper<Post> {
         private String slug;
     }
 
+    /**
+     * 浏览量增量（用于批量更新）
+     */
+    @Data
+    @AllArgsConstructor
+    class ViewCountDelta {
+        private Long postId;
+        private Long delta;
+    }
+
+    /**
+     * 作者信息（用于批量查询）
+     */
+    @Data
+    class AuthorInfo {
+        private Long id;
+        private String username;
+        private String nickname;
+    }
+
     /**
      * 标签信息（包含文章 ID，用于批量查询）
      */
@@ -75,4 +182,32 @@ public interface PostMapper extends BaseMapper<Post> {
         private String slug;
         private Long postId;
     }
+
+    /**
+     * ID 与汇总值（用于分组统计）
+     */
+    @Data
+    class IdTotal {
+        private Long id;
+        private Long total;
+    }
+
+    /**
+     * 站点地图条目（用于流式读取）
+     */
+    @Data
+    class SitemapEntry {
+        private Long id;
+        private LocalDateTime publishedAt;
+        private LocalDateTime updatedAt;
+    }
+
+    /**
+     * 站点地图分片（用于生成索引）
+     */
+    @Data
+    class SitemapShard {
+        private Long shard;
+        private LocalDateTime lastModified;
+    }
 }
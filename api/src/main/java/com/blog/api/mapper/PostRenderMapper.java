@@ -0,0 +1,43 @@
+package com.blog.api.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.blog.api.entity.PostRender;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.List;
+
+@Mapper
+public interface PostRenderMapper extends BaseMapper<PostRender> {
+
+    /**
+     * 查询内容哈希与渲染器版本（不读取 html），用于判断是否需要重新渲染
+     */
+    @Select("SELECT post_id, content_hash, renderer_version FROM post_render WHERE post_id = #{postId}")
+    PostRender selectFingerprint(@Param("postId") Long postId);
+
+    /**
+     * 查询没有渲染结果、内容哈希不一致（写入时渲染失败）或渲染器版本不一致的文章 ID
+     * 内容哈希与 PostRenderService.hash 相同：UTF-8 内容的 SHA-256 小写十六进制，空内容按空串计算
+     */
+    @Select("SELECT p.id FROM post p LEFT JOIN post_render r ON r.post_id = p.id " +
+            "WHERE r.post_id IS NULL OR r.renderer_version <> #{version} " +
+            "OR r.content_hash <> SHA2(COALESCE(p.content, ''), 256) ORDER BY p.id")
+    List<Long> selectOutdatedPostIds(@Param("version") int version);
+
+    /**
+     * 批量写入渲染结果（存在则覆盖）
+     */
+    @Insert("<script>" +
+            "INSERT INTO post_render (post_id, content_hash, renderer_version, html, toc, word_count, reading_time, rendered_at) VALUES " +
+            "<foreach collection='renders' item='r' separator=','>" +
+            "(#{r.postId}, #{r.contentHash}, #{r.rendererVersion}, #{r.html}, #{r.toc}, #{r.wordCount}, #{r.readingTime}, #{r.renderedAt})" +
+            "</foreach>" +
+            " ON DUPLICATE KEY UPDATE content_hash = VALUES(content_hash), renderer_version = VALUES(renderer_version), " +
+            "html = VALUES(html), toc = VALUES(toc), word_count = VALUES(word_count), " +
+            "reading_time = VALUES(reading_time), rendered_at = VALUES(rendered_at)" +
+            "</script>")
+    int upsertBatch(@Param("renders") List<PostRender> renders);
+}
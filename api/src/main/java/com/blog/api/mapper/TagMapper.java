@@ -3,7 +3,36 @@ package com.blog.api.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.blog.api.entity.Tag;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Update;
+
+import java.util.Collection;
 
 @Mapper
 public interface TagMapper extends BaseMapper<Tag> {
+
+    /**
+     * 原子增减已发布文章数（按 ID 顺序加锁，避免并发发布时死锁）
+     */
+    @Update("<script>" +
+            "UPDATE tag SET post_count = GREATEST(post_count + #{delta}, 0) " +
+            "WHERE id IN " +
+            "<foreach item='id' collection='ids' open='(' separator=',' close=')'>" +
+            "#{id}" +
+            "</foreach> " +
+            "ORDER BY id" +
+            "</script>")
+    int addPostCount(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+    /**
+     * 按 post_tag 重新统计并修正与实际不一致的计数
+     *
+     * @return 修正的标签数
+     */
+    @Update("UPDATE tag t " +
+            "LEFT JOIN (SELECT pt.tag_id, COUNT(*) AS cnt FROM post_tag pt " +
+            "INNER JOIN post p ON p.id = pt.post_id AND p.status = 1 GROUP BY pt.tag_id) c ON c.tag_id = t.id " +
+            "SET t.post_count = COALESCE(c.cnt, 0) " +
+            "WHERE t.post_count <> COALESCE(c.cnt, 0)")
+    int reconcilePostCounts();
 }
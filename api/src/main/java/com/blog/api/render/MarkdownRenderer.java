@@ -0,0 +1,167 @@
+package com.blog.api.render;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.autolink.AutolinkExtension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.ext.heading.anchor.IdGenerator;
+import org.commonmark.node.*;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.renderer.text.TextContentRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Markdown 渲染器
+ * 解析 Markdown（含 GFM 表格、删除线、自动链接），输出经过白名单清洗的 HTML，
+ * 同时提取标题目录、字数和阅读时间。线程安全，可并行调用。
+ */
+@Component
+public class MarkdownRenderer {
+
+    /**
+     * 渲染器版本：修改渲染规则（扩展、清洗白名单、锚点算法等）时递增，触发存量文章重新渲染
+     */
+    public static final int RENDERER_VERSION = 1;
+
+    /**
+     * 阅读速度：中日韩字符每分钟 300 字，其他语言每分钟 200 词
+     */
+    private static final int CJK_CHARS_PER_MINUTE = 300;
+    private static final int WORDS_PER_MINUTE = 200;
+
+    private static final String BASE_URI = "http://localhost/";
+
+    private final List<Extension> extensions = List.of(
+            TablesExtension.create(),
+            StrikethroughExtension.create(),
+            AutolinkExtension.create());
+
+    private final Parser parser = Parser.builder().extensions(extensions).build();
+
+    private final Safelist safelist = Safelist.relaxed()
+            .addTags("del", "s", "hr")
+            .addAttributes("h1", "id")
+            .addAttributes("h2", "id")
+            .addAttributes("h3", "id")
+            .addAttributes("h4", "id")
+            .addAttributes("h5", "id")
+            .addAttributes("h6", "id")
+            .addAttributes("code", "class")
+            .addAttributes("th", "align")
+            .addAttributes("td", "align")
+            .addAttributes("a", "target", "rel")
+            .preserveRelativeLinks(true);
+
+    private final Document.OutputSettings outputSettings = new Document.OutputSettings().prettyPrint(false);
+
+    private final TextContentRenderer textRenderer = TextContentRenderer.builder().extensions(extensions).build();
+
+    public RenderResult render(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return new RenderResult("", List.of(), 0, 0);
+        }
+
+        Node document = parser.parse(markdown);
+
+        // 先遍历标题生成锚点，目录与 HTML 中的 id 保持一致
+        IdGenerator idGenerator = IdGenerator.builder().build();
+        Map<Node, String> anchors = new IdentityHashMap<>();
+        List<RenderResult.TocEntry> toc = new ArrayList<>();
+        document.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Heading heading) {
+                String text = textOf(heading).trim();
+                String anchor = idGenerator.generateId(text);
+                anchors.put(heading, anchor);
+                toc.add(new RenderResult.TocEntry(heading.getLevel(), text, anchor));
+            }
+        });
+
+        HtmlRenderer htmlRenderer = HtmlRenderer.builder()
+                .extensions(extensions)
+                .attributeProviderFactory(context -> (node, tagName, attributes) -> {
+                    if (node instanceof Heading) {
+                        attributes.put("id", anchors.get(node));
+                    } else if (node instanceof Link link && isExternal(link.getDestination())) {
+                        attributes.put("target", "_blank");
+                        attributes.put("rel", "noopener noreferrer");
+                    }
+                })
+                .build();
+
+        String html = Jsoup.clean(htmlRenderer.render(document), BASE_URI, safelist, outputSettings);
+        String text = Jsoup.parseBodyFragment(html).text();
+
+        int cjkChars = 0;
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            i += Character.charCount(cp);
+            if (isCjk(cp)) {
+                cjkChars++;
+                inWord = false;
+            } else if (Character.isLetterOrDigit(cp)) {
+                if (!inWord) {
+                    words++;
+                    inWord = true;
+                }
+            } else {
+                inWord = false;
+            }
+        }
+
+        int wordCount = cjkChars + words;
+        double minutes = (double) cjkChars / CJK_CHARS_PER_MINUTE + (double) words / WORDS_PER_MINUTE;
+        int readingTime = wordCount == 0 ? 0 : Math.max(1, (int) Math.ceil(minutes));
+
+        return new RenderResult(html, List.copyOf(toc), wordCount, readingTime);
+    }
+
+    /**
+     * 提取 Markdown 的纯文本（去掉标记符号），用于全文检索
+     */
+    public String plainText(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return "";
+        }
+        return textRenderer.render(parser.parse(markdown));
+    }
+
+    private static String textOf(Node node) {
+        StringBuilder sb = new StringBuilder();
+        node.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Text text) {
+                sb.append(text.getLiteral());
+            }
+
+            @Override
+            public void visit(Code code) {
+                sb.append(code.getLiteral());
+            }
+        });
+        return sb.toString();
+    }
+
+    private static boolean isExternal(String destination) {
+        return destination != null && (destination.startsWith("http://") || destination.startsWith("https://"));
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+}
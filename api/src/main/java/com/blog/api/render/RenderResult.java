@@ -0,0 +1,24 @@
+package com.blog.api.render;
+
+import java.util.List;
+
+/**
+ * Markdown 渲染结果
+ *
+ * @param html               清洗后的 HTML
+ * @param toc                按标题提取的目录
+ * @param wordCount          字数（中日韩字符按字计，其他按单词计）
+ * @param readingTimeMinutes 预计阅读时间（分钟）
+ */
+public record RenderResult(String html, List<TocEntry> toc, int wordCount, int readingTimeMinutes) {
+
+    /**
+     * 目录项
+     *
+     * @param level  标题级别（1-6）
+     * @param text   标题文本
+     * @param anchor 对应 HTML 中标题的 id
+     */
+    public record TocEntry(int level, String text, String anchor) {
+    }
+}
@@ -0,0 +1,240 @@
+package com.blog.api.search;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.dto.response.ArchiveResponse;
+import com.blog.api.entity.Post;
+import com.blog.api.mapper.PostMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 文章归档索引（年 → 月 → 文章）
+ * 启动时加载全部已发布文章的轻量字段并按发布月份分桶，之后根据文章内容版本事件只重新读取变更的文章，
+ * 并只重建受影响月份的视图。所有修改在单个线程中进行，每次修改后发布新的不可变快照，
+ * 快照带有修订号，接口直接以修订号作为 ETag，ETag 与返回内容始终一致。
+ */
+@Slf4j
+@Component
+public class ArchiveIndex {
+
+    private static final Comparator<ArchiveResponse.Item> NEWEST_FIRST = Comparator
+            .comparing(ArchiveResponse.Item::getPublishedAt, Comparator.reverseOrder())
+            .thenComparing(ArchiveResponse.Item::getId, Comparator.reverseOrder());
+
+    /**
+     * 归档快照
+     *
+     * @param revision 修订号（单调递增）
+     * @param archive  完整归档
+     * @param years    按年份索引的归档
+     */
+    public record Snapshot(long revision, ArchiveResponse archive, Map<Integer, ArchiveResponse> years) {
+    }
+
+    private final PostMapper postMapper;
+    private final ContentVersions contentVersions;
+
+    private final ExecutorService updateExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "archive-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 以下状态只在更新线程中访问
+    private final Map<Long, ArchiveResponse.Item> items = new HashMap<>();
+    private final NavigableMap<YearMonth, List<ArchiveResponse.Item>> buckets = new TreeMap<>(Comparator.reverseOrder());
+    private final Map<YearMonth, ArchiveResponse.Month> monthViews = new HashMap<>();
+
+    private volatile Snapshot snapshot = new Snapshot(System.currentTimeMillis(),
+            ArchiveResponse.builder().total(0).years(List.of()).build(), Map.of());
+
+    public ArchiveIndex(PostMapper postMapper, ContentVersions contentVersions) {
+        this.postMapper = postMapper;
+        this.contentVersions = contentVersions;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        contentVersions.addListener(change -> {
+            if (change.scope() != ContentScope.POST) {
+                return;
+            }
+            Long postId = change.entityId();
+            updateExecutor.execute(() -> {
+                try {
+                    if (postId != null) {
+                        refresh(postId);
+                    } else {
+                        reload();
+                    }
+                } catch (Exception e) {
+                    log.warn("Failed to update archive index, post: {}, error: {}", postId, e.getMessage());
+                }
+            });
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        updateExecutor.execute(() -> {
+            try {
+                reload();
+            } catch (Exception e) {
+                log.warn("Failed to load archive index: {}", e.getMessage());
+            }
+        });
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updateExecutor.shutdownNow();
+    }
+
+    /**
+     * 全量加载
+     */
+    void reload() {
+        List<Post> posts = postMapper.selectList(new LambdaQueryWrapper<Post>()
+                .select(Post::getId, Post::getTitle, Post::getSlug, Post::getPublishedAt, Post::getCreatedAt)
+                .eq(Post::getStatus, 1));
+        items.clear();
+        buckets.clear();
+        monthViews.clear();
+        for (Post post : posts) {
+            ArchiveResponse.Item item = toItem(post);
+            if (item == null) {
+                continue;
+            }
+            items.put(item.getId(), item);
+            buckets.computeIfAbsent(YearMonth.from(item.getPublishedAt()), k -> new ArrayList<>()).add(item);
+        }
+        for (Map.Entry<YearMonth, List<ArchiveResponse.Item>> bucket : buckets.entrySet()) {
+            bucket.getValue().sort(NEWEST_FIRST);
+            monthViews.put(bucket.getKey(), toMonth(bucket.getKey(), bucket.getValue()));
+        }
+        publish();
+        log.debug("Loaded archive index: {} posts in {} months", items.size(), buckets.size());
+    }
+
+    /**
+     * 增量更新单篇文章（发布状态、发布时间、标题或别名变化，以及删除）
+     */
+    void refresh(long postId) {
+        Post post = postMapper.selectOne(new LambdaQueryWrapper<Post>()
+                .select(Post::getId, Post::getTitle, Post::getSlug, Post::getStatus, Post::getPublishedAt, Post::getCreatedAt)
+                .eq(Post::getId, postId));
+        ArchiveResponse.Item updated = post != null && Integer.valueOf(1).equals(post.getStatus()) ? toItem(post) : null;
+        ArchiveResponse.Item previous = items.get(postId);
+        if (Objects.equals(previous, updated)) {
+            return;
+        }
+
+        Set<YearMonth> touched = new HashSet<>();
+        if (previous != null) {
+            YearMonth month = YearMonth.from(previous.getPublishedAt());
+            List<ArchiveResponse.Item> bucket = buckets.get(month);
+            bucket.removeIf(item -> item.getId().equals(postId));
+            if (bucket.isEmpty()) {
+                buckets.remove(month);
+            }
+            items.remove(postId);
+            touched.add(month);
+        }
+        if (updated != null) {
+            YearMonth month = YearMonth.from(updated.getPublishedAt());
+            List<ArchiveResponse.Item> bucket = buckets.computeIfAbsent(month, k -> new ArrayList<>());
+            int index = Collections.binarySearch(bucket, updated, NEWEST_FIRST);
+            bucket.add(index < 0 ? -index - 1 : index, updated);
+            items.put(postId, updated);
+            touched.add(month);
+        }
+        for (YearMonth month : touched) {
+            List<ArchiveResponse.Item> bucket = buckets.get(month);
+            if (bucket == null) {
+                monthViews.remove(month);
+            } else {
+                monthViews.put(month, toMonth(month, bucket));
+            }
+        }
+        publish();
+    }
+
+    /**
+     * 由各月视图组装年视图并发布新快照（不重新复制月内文章列表）
+     */
+    private void publish() {
+        List<ArchiveResponse.Year> years = new ArrayList<>();
+        Map<Integer, ArchiveResponse> byYear = new HashMap<>();
+        List<ArchiveResponse.Month> months = new ArrayList<>();
+        int currentYear = 0;
+        for (YearMonth month : buckets.keySet()) {
+            if (month.getYear() != currentYear && !months.isEmpty()) {
+                addYear(years, byYear, currentYear, months);
+                months = new ArrayList<>();
+            }
+            currentYear = month.getYear();
+            months.add(monthViews.get(month));
+        }
+        if (!months.isEmpty()) {
+            addYear(years, byYear, currentYear, months);
+        }
+
+        ArchiveResponse archive = ArchiveResponse.builder()
+                .total(items.size())
+                .years(List.copyOf(years))
+                .build();
+        long revision = Math.max(System.currentTimeMillis(), snapshot.revision() + 1);
+        snapshot = new Snapshot(revision, archive, Map.copyOf(byYear));
+    }
+
+    private static void addYear(List<ArchiveResponse.Year> years, Map<Integer, ArchiveResponse> byYear,
+                                int year, List<ArchiveResponse.Month> months) {
+        ArchiveResponse.Year view = ArchiveResponse.Year.builder()
+                .year(year)
+                .count(months.stream().mapToLong(ArchiveResponse.Month::getCount).sum())
+                .months(List.copyOf(months))
+                .build();
+        years.add(view);
+        byYear.put(year, ArchiveResponse.builder().total(view.getCount()).years(List.of(view)).build());
+    }
+
+    private static ArchiveResponse.Month toMonth(YearMonth month, List<ArchiveResponse.Item> bucket) {
+        return ArchiveResponse.Month.builder()
+                .month(month.getMonthValue())
+                .count(bucket.size())
+                .posts(List.copyOf(bucket))
+                .build();
+    }
+
+    /**
+     * 未记录发布时间的旧数据按创建时间归档，两者都没有时不归档
+     */
+    private static ArchiveResponse.Item toItem(Post post) {
+        LocalDateTime publishedAt = post.getPublishedAt() != null ? post.getPublishedAt() : post.getCreatedAt();
+        if (publishedAt == null) {
+            return null;
+        }
+        return ArchiveResponse.Item.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .slug(post.getSlug())
+                .publishedAt(publishedAt)
+                .build();
+    }
+}
@@ -0,0 +1,389 @@
+package com.blog.api.search;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.blog.api.cache.ContentChange;
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.dto.response.PostResponse;
+import com.blog.api.entity.Post;
+import com.blog.api.mapper.PostMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 上一篇 / 下一篇导航索引
+ * 已发布文章按 (发布时间, ID) 升序保存在基本类型数组中（全站一份、每个分类一份），查找相邻文章只需一次二分查找。
+ * 文章变更事件只记录文章 ID，读取时发现内容版本号变化才在锁内逐篇应用（写时复制后整体替换快照），
+ * 快照记录已反映的版本号；无法确认已包含当前版本的全部变更时整体重新加载，
+ * 因此返回的导航与 {@link com.blog.api.web.ConditionalGet} 的 ETag 保持一致。
+ */
+@Slf4j
+@Component
+public class PostNavigationIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final PostMapper postMapper;
+    private final ContentVersions contentVersions;
+
+    private final Object updateLock = new Object();
+    private final Queue<ContentChange> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean reloadPending = new AtomicBoolean();
+    private volatile Model model;
+
+    public PostNavigationIndex(PostMapper postMapper, ContentVersions contentVersions) {
+        this.postMapper = postMapper;
+        this.contentVersions = contentVersions;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        contentVersions.addListener(change -> {
+            if (change.scope() != ContentScope.POST) {
+                return;
+            }
+            if (change.entityId() != null) {
+                pending.add(change);
+            } else {
+                reloadPending.set(true);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            current();
+        } catch (Exception e) {
+            log.warn("Failed to load post navigation index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 相邻文章
+     *
+     * @param previous           上一篇（更早发布）
+     * @param next               下一篇（更晚发布）
+     * @param previousInCategory 同分类上一篇
+     * @param nextInCategory     同分类下一篇
+     */
+    public record Navigation(PostResponse.AdjacentPost previous, PostResponse.AdjacentPost next,
+                             PostResponse.AdjacentPost previousInCategory, PostResponse.AdjacentPost nextInCategory) {
+    }
+
+    /**
+     * 获取文章的相邻文章；文章未发布或不存在时返回 null
+     */
+    public Navigation navigate(long postId) {
+        Model current = current();
+        Item item = current.items.get(postId);
+        if (item == null) {
+            return null;
+        }
+        Order category = item.categoryId() != null ? current.byCategory.get(item.categoryId()) : null;
+        return new Navigation(
+                current.adjacent(current.global, item, -1),
+                current.adjacent(current.global, item, 1),
+                category != null ? current.adjacent(category, item, -1) : null,
+                category != null ? current.adjacent(category, item, 1) : null);
+    }
+
+    /**
+     * 文章是否已发布（未知 ID 返回 false）
+     */
+    public boolean isPublished(long postId) {
+        return current().items.containsKey(postId);
+    }
+
+    /**
+     * 返回附带相邻文章的副本；未发布的文章原样返回（缓存中的对象是共享的，不能直接修改）
+     */
+    public PostResponse attach(PostResponse response) {
+        if (!Integer.valueOf(1).equals(response.getStatus())) {
+            return response;
+        }
+        Navigation navigation = navigate(response.getId());
+        if (navigation == null) {
+            return response;
+        }
+        return response.toBuilder()
+                .previous(navigation.previous())
+                .next(navigation.next())
+                .previousInCategory(navigation.previousInCategory())
+                .nextInCategory(navigation.nextInCategory())
+                .build();
+    }
+
+    /**
+     * 相邻文章 ID（全站和同分类，去重），文章未发布时返回空列表
+     */
+    public List<Long> neighbours(long postId) {
+        Navigation navigation = navigate(postId);
+        if (navigation == null) {
+            return List.of();
+        }
+        return idsOf(navigation.previous(), navigation.next(),
+                navigation.previousInCategory(), navigation.nextInCategory());
+    }
+
+    /**
+     * 已附加导航的文章所引用的相邻文章 ID（去重）
+     */
+    public static List<Long> neighbours(PostResponse response) {
+        return idsOf(response.getPrevious(), response.getNext(),
+                response.getPreviousInCategory(), response.getNextInCategory());
+    }
+
+    private static List<Long> idsOf(PostResponse.AdjacentPost... posts) {
+        return Stream.of(posts)
+                .filter(Objects::nonNull)
+                .map(PostResponse.AdjacentPost::getId)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 返回已包含当前内容版本的快照（版本号在读取数据库之前取得）
+     */
+    private Model current() {
+        long version = contentVersions.get(ContentScope.POST);
+        Model current = model;
+        if (current != null && current.version >= version && pending.isEmpty() && !reloadPending.get()) {
+            return current;
+        }
+        synchronized (updateLock) {
+            current = model;
+            if (current != null && current.version >= version && pending.isEmpty() && !reloadPending.get()) {
+                return current;
+            }
+            if (current == null || reloadPending.getAndSet(false)) {
+                pending.clear();
+                current = load(version);
+            } else {
+                long applied = current.version;
+                ContentChange change;
+                while ((change = pending.poll()) != null) {
+                    current = current.with(change.entityId(), loadItem(change.entityId()));
+                    applied = Math.max(applied, change.version());
+                }
+                // 版本号已更新但对应的变更事件尚未送达：无法确定缺少哪些文章，整体重新加载
+                current = applied >= version ? current.withVersion(applied) : load(version);
+            }
+            model = current;
+            return current;
+        }
+    }
+
+    /**
+     * 全量加载
+     */
+    Model load(long version) {
+        List<Post> posts = postMapper.selectList(new LambdaQueryWrapper<Post>()
+                .select(Post::getId, Post::getTitle, Post::getSlug, Post::getCategoryId,
+                        Post::getPublishedAt, Post::getCreatedAt)
+                .eq(Post::getStatus, 1));
+        Map<Long, Item> items = new HashMap<>();
+        for (Post post : posts) {
+            Item item = toItem(post);
+            if (item != null) {
+                items.put(item.id(), item);
+            }
+        }
+        Model loaded = Model.build(version, items);
+        log.debug("Loaded post navigation index: {} posts", items.size());
+        return loaded;
+    }
+
+    private Item loadItem(long postId) {
+        Post post = postMapper.selectOne(new LambdaQueryWrapper<Post>()
+                .select(Post::getId, Post::getTitle, Post::getSlug, Post::getCategoryId, Post::getStatus,
+                        Post::getPublishedAt, Post::getCreatedAt)
+                .eq(Post::getId, postId));
+        return post != null && Integer.valueOf(1).equals(post.getStatus()) ? toItem(post) : null;
+    }
+
+    /**
+     * 未记录发布时间的旧数据按创建时间排序，两者都没有时不参与导航
+     */
+    private static Item toItem(Post post) {
+        LocalDateTime publishedAt = post.getPublishedAt() != null ? post.getPublishedAt() : post.getCreatedAt();
+        if (publishedAt == null) {
+            return null;
+        }
+        long time = publishedAt.toEpochSecond(ZoneOffset.UTC) * 1000 + publishedAt.getNano() / 1_000_000;
+        return new Item(post.getId(), post.getTitle(), post.getSlug(), post.getCategoryId(), publishedAt, time);
+    }
+
+    /**
+     * @param time 排序用的发布时间（毫秒）
+     */
+    record Item(long id, String title, String slug, Long categoryId, LocalDateTime publishedAt, long time) {
+    }
+
+    /**
+     * 按 (time, id) 升序排列的并行数组
+     */
+    record Order(long[] times, long[] ids) {
+
+        static final Order EMPTY_ORDER = new Order(EMPTY, EMPTY);
+
+        int indexOf(long time, long id) {
+            int low = 0;
+            int high = ids.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = times[mid] != time ? Long.compare(times[mid], time) : Long.compare(ids[mid], id);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        Order insert(Item item) {
+            int index = indexOf(item.time(), item.id());
+            if (index >= 0) {
+                return this;
+            }
+            int at = -index - 1;
+            long[] newTimes = new long[ids.length + 1];
+            long[] newIds = new long[ids.length + 1];
+            System.arraycopy(times, 0, newTimes, 0, at);
+            System.arraycopy(ids, 0, newIds, 0, at);
+            newTimes[at] = item.time();
+            newIds[at] = item.id();
+            System.arraycopy(times, at, newTimes, at + 1, ids.length - at);
+            System.arraycopy(ids, at, newIds, at + 1, ids.length - at);
+            return new Order(newTimes, newIds);
+        }
+
+        Order remove(Item item) {
+            int index = indexOf(item.time(), item.id());
+            if (index < 0) {
+                return this;
+            }
+            long[] newTimes = new long[ids.length - 1];
+            long[] newIds = new long[ids.length - 1];
+            System.arraycopy(times, 0, newTimes, 0, index);
+            System.arraycopy(ids, 0, newIds, 0, index);
+            System.arraycopy(times, index + 1, newTimes, index, ids.length - index - 1);
+            System.arraycopy(ids, index + 1, newIds, index, ids.length - index - 1);
+            return new Order(newTimes, newIds);
+        }
+    }
+
+    /**
+     * 不可变快照；增量更新复制受影响的数组和映射后生成新快照
+     */
+    static final class Model {
+
+        private final long version;
+        private final Map<Long, Item> items;
+        private final Order global;
+        private final Map<Long, Order> byCategory;
+
+        private Model(long version, Map<Long, Item> items, Order global, Map<Long, Order> byCategory) {
+            this.version = version;
+            this.items = items;
+            this.global = global;
+            this.byCategory = byCategory;
+        }
+
+        static Model build(long version, Map<Long, Item> items) {
+            List<Item> sorted = new ArrayList<>(items.values());
+            sorted.sort(Comparator.comparingLong(Item::time).thenComparingLong(Item::id));
+            Map<Long, List<Item>> grouped = new HashMap<>();
+            for (Item item : sorted) {
+                if (item.categoryId() != null) {
+                    grouped.computeIfAbsent(item.categoryId(), k -> new ArrayList<>()).add(item);
+                }
+            }
+            Map<Long, Order> byCategory = new HashMap<>();
+            grouped.forEach((categoryId, list) -> byCategory.put(categoryId, toOrder(list)));
+            return new Model(version, Map.copyOf(items), toOrder(sorted), Map.copyOf(byCategory));
+        }
+
+        Model withVersion(long newVersion) {
+            return new Model(newVersion, items, global, byCategory);
+        }
+
+        /**
+         * 用文章的新状态替换旧状态（updated 为空表示已下线或删除）
+         */
+        Model with(long postId, Item updated) {
+            Item previous = items.get(postId);
+            if (Objects.equals(previous, updated)) {
+                return this;
+            }
+            Map<Long, Item> newItems = new HashMap<>(items);
+            Map<Long, Order> newByCategory = new HashMap<>(byCategory);
+            Order newGlobal = global;
+            if (previous != null) {
+                newItems.remove(postId);
+                newGlobal = newGlobal.remove(previous);
+                if (previous.categoryId() != null) {
+                    Order order = newByCategory.get(previous.categoryId()).remove(previous);
+                    if (order.ids().length == 0) {
+                        newByCategory.remove(previous.categoryId());
+                    } else {
+                        newByCategory.put(previous.categoryId(), order);
+                    }
+                }
+            }
+            if (updated != null) {
+                newItems.put(postId, updated);
+                newGlobal = newGlobal.insert(updated);
+                if (updated.categoryId() != null) {
+                    newByCategory.put(updated.categoryId(),
+                            newByCategory.getOrDefault(updated.categoryId(), Order.EMPTY_ORDER).insert(updated));
+                }
+            }
+            return new Model(version, Map.copyOf(newItems), newGlobal, Map.copyOf(newByCategory));
+        }
+
+        private PostResponse.AdjacentPost adjacent(Order order, Item item, int offset) {
+            int index = order.indexOf(item.time(), item.id());
+            if (index < 0) {
+                return null;
+            }
+            int target = index + offset;
+            if (target < 0 || target >= order.ids().length) {
+                return null;
+            }
+            Item neighbour = items.get(order.ids()[target]);
+            if (neighbour == null) {
+                return null;
+            }
+            return PostResponse.AdjacentPost.builder()
+                    .id(neighbour.id())
+                    .title(neighbour.title())
+                    .slug(neighbour.slug())
+                    .publishedAt(neighbour.publishedAt())
+                    .build();
+        }
+
+        private static Order toOrder(List<Item> sorted) {
+            long[] times = new long[sorted.size()];
+            long[] ids = new long[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                times[i] = sorted.get(i).time();
+                ids[i] = sorted.get(i).id();
+            }
+            return new Order(times, ids);
+        }
+    }
+}
@@ -0,0 +1,584 @@
+package com.blog.api.search;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.entity.Post;
+import com.blog.api.exception.BusinessException;
+import com.blog.api.exception.ErrorCode;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.render.MarkdownRenderer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.Facets;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.*;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 文章全文索引（Lucene）
+ * 索引文件通过 MMapDirectory 内存映射打开；标题、摘要、正文使用 CJKAnalyzer（中日韩二元切分 + 英文分词），
+ * BM25 打分，UnifiedHighlighter 生成高亮片段，分类 / 标签使用 SortedSet DocValues 分面统计。
+ * 只索引已发布文章；文章变更通过内容版本事件在单独线程中增量更新，每个节点维护自己的索引。
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    /**
+     * 索引结构版本：修改字段或分词方式时递增，启动时发现版本不一致会全量重建
+     */
+    private static final String SCHEMA_VERSION = "1";
+    private static final String SCHEMA_KEY = "schema";
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_SUMMARY = "summary";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_SLUG = "slug";
+    private static final String FIELD_COVER = "cover";
+    private static final String FIELD_CATEGORY_ID = "categoryId";
+    private static final String FIELD_TAG_ID = "tagId";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FACET_CATEGORY = "category";
+    private static final String FACET_TAG = "tag";
+
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_RESULT_WINDOW = 1000;
+    private static final int FACET_LIMIT = 20;
+    private static final int HIGHLIGHT_MAX_LENGTH = 20_000;
+
+    /**
+     * 正文等检索字段：存储原文（供高亮），倒排中记录偏移量，高亮时无需重新分词
+     */
+    private static final FieldType TEXT_WITH_OFFSETS = new FieldType(TextField.TYPE_STORED);
+
+    static {
+        TEXT_WITH_OFFSETS.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        TEXT_WITH_OFFSETS.freeze();
+    }
+
+    private final PostMapper postMapper;
+    private final MarkdownRenderer markdownRenderer;
+    private final ContentVersions contentVersions;
+    private final Path indexPath;
+    private final int parallelism;
+
+    private final Analyzer analyzer = new CJKAnalyzer();
+    private final FacetsConfig facetsConfig = new FacetsConfig();
+    private final ExecutorService updateExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private MMapDirectory directory;
+    private volatile IndexWriter writer;
+    private volatile SearcherManager searcherManager;
+    private volatile FacetState facetState;
+
+    public PostSearchIndex(PostMapper postMapper,
+                           MarkdownRenderer markdownRenderer,
+                           ContentVersions contentVersions,
+                           @Value("${blog.search.index-path:./data/search-index}") String indexPath,
+                           @Value("${blog.search.parallelism:0}") int parallelism) {
+        this.postMapper = postMapper;
+        this.markdownRenderer = markdownRenderer;
+        this.contentVersions = contentVersions;
+        this.indexPath = Paths.get(indexPath).toAbsolutePath().normalize();
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        facetsConfig.setMultiValued(FACET_TAG, true);
+    }
+
+    @PostConstruct
+    public void open() {
+        try {
+            Files.createDirectories(indexPath);
+            directory = new MMapDirectory(indexPath);
+            openWriter();
+        } catch (IOException e) {
+            // 索引不可用（如目录被其他进程锁定）时不影响应用启动，搜索接口返回错误
+            log.error("Failed to open search index at {}: {}", indexPath, e.getMessage());
+            closeQuietly();
+            return;
+        }
+        contentVersions.addListener(change -> {
+            if (change.scope() != ContentScope.POST) {
+                return;
+            }
+            if (change.entityId() != null) {
+                updateExecutor.execute(() -> update(List.of(change.entityId())));
+            } else {
+                // 无法确定具体文章（如定时同步发现的远端变更），后台全量重建
+                updateExecutor.execute(this::rebuildQuietly);
+            }
+        });
+    }
+
+    private void openWriter() throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setSimilarity(new BM25Similarity());
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, new SearcherFactory() {
+            @Override
+            public IndexSearcher newSearcher(IndexReader reader, IndexReader previousReader) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                searcher.setSimilarity(new BM25Similarity());
+                return searcher;
+            }
+        });
+    }
+
+    /**
+     * 启动后索引为空或结构版本变化时后台全量重建，失败不影响启动
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (writer == null) {
+            return;
+        }
+        String schema = null;
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (SCHEMA_KEY.equals(entry.getKey())) {
+                    schema = entry.getValue();
+                }
+            }
+        }
+        if (writer.getDocStats().numDocs == 0 || !SCHEMA_VERSION.equals(schema)) {
+            updateExecutor.execute(this::rebuildQuietly);
+        }
+    }
+
+    public boolean isAvailable() {
+        return searcherManager != null;
+    }
+
+    /**
+     * 增量更新：已发布的文章写入索引，其余（草稿、已删除）从索引移除
+     */
+    public void update(List<Long> postIds) {
+        if (!isAvailable() || postIds.isEmpty()) {
+            return;
+        }
+        try {
+            List<Post> posts = postMapper.selectBatchIds(postIds);
+            Set<Long> indexed = new HashSet<>();
+            for (Document document : toDocuments(posts)) {
+                String id = document.get(FIELD_ID);
+                writer.updateDocument(new Term(FIELD_ID, id), facetsConfig.build(document));
+                indexed.add(Long.valueOf(id));
+            }
+            for (Long postId : postIds) {
+                if (!indexed.contains(postId)) {
+                    writer.deleteDocuments(new Term(FIELD_ID, postId.toString()));
+                }
+            }
+            searcherManager.maybeRefresh();
+        } catch (Exception e) {
+            log.warn("Failed to update search index for posts {}: {}", postIds, e.getMessage());
+        }
+    }
+
+    /**
+     * 全量重建（在索引更新线程中执行，与增量更新串行，避免重建过程中刷新出不完整的索引）
+     *
+     * @return 索引的文章数
+     */
+    public int rebuild() {
+        if (!isAvailable()) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "Search index unavailable");
+        }
+        if (rebuilding.get()) {
+            throw new BusinessException(ErrorCode.CONFLICT, "Search index rebuild already in progress");
+        }
+        try {
+            return updateExecutor.submit(this::doRebuild).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rebuilding search index", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 按批并行读取文章并写入（IndexWriter 线程安全），完成后提交并刷新。
+     * 开始前先提交已有的增量更新；任何一步失败都回滚到该提交点并重新打开写入器，
+     * 避免清空后未完成的索引被之后的定时提交落盘。
+     */
+    private int doRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.CONFLICT, "Search index rebuild already in progress");
+        }
+        long start = System.currentTimeMillis();
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.setLiveCommitData(Map.of(SCHEMA_KEY, SCHEMA_VERSION).entrySet());
+                writer.commit();
+            }
+            try {
+                List<Long> postIds = postMapper.selectObjs(new LambdaQueryWrapper<Post>()
+                                .select(Post::getId)
+                                .eq(Post::getStatus, 1)
+                                .orderByAsc(Post::getId))
+                        .stream().map(id -> ((Number) id).longValue()).toList();
+
+                writer.deleteAll();
+                List<CompletableFuture<Integer>> futures = new ArrayList<>();
+                for (int from = 0; from < postIds.size(); from += BATCH_SIZE) {
+                    List<Long> batch = postIds.subList(from, Math.min(from + BATCH_SIZE, postIds.size()));
+                    futures.add(CompletableFuture.supplyAsync(() -> indexBatch(batch), pool));
+                }
+                // 等所有批次结束（包括失败时仍在写入的批次）再回滚
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+                int indexed = futures.stream().mapToInt(CompletableFuture::join).sum();
+
+                writer.setLiveCommitData(Map.of(SCHEMA_KEY, SCHEMA_VERSION).entrySet());
+                writer.commit();
+                searcherManager.maybeRefreshBlocking();
+                log.info("Rebuilt search index with {} posts in {} ms (parallelism {})",
+                        indexed, System.currentTimeMillis() - start, parallelism);
+                return indexed;
+            } catch (IOException | RuntimeException e) {
+                rollback();
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                throw cause instanceof RuntimeException re ? re : new IllegalStateException("Failed to rebuild search index", cause);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to rebuild search index", e);
+        } finally {
+            pool.shutdown();
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 丢弃上次提交后的所有改动（rollback 会关闭写入器），然后重新打开写入器和 SearcherManager
+     */
+    private void rollback() {
+        SearcherManager previous = searcherManager;
+        try {
+            writer.rollback();
+            openWriter();
+            previous.close();
+            log.warn("Search index rebuild rolled back to the last commit");
+        } catch (IOException e) {
+            log.error("Failed to reopen search index after rollback: {}", e.getMessage());
+            closeQuietly();
+        }
+    }
+
+    /**
+     * 检索已发布文章
+     *
+     * @param page 页码（从 0 开始）
+     */
+    public SearchResult search(String text, Long categoryId, Long tagId, int page, int size) {
+        if (!isAvailable()) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "Search index unavailable");
+        }
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer,
+                Map.of(FIELD_TITLE, 3f, FIELD_SUMMARY, 2f, FIELD_CONTENT, 1f));
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query textQuery = parser.parse(text);
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().add(textQuery, BooleanClause.Occur.MUST);
+        if (categoryId != null) {
+            builder.add(new TermQuery(new Term(FIELD_CATEGORY_ID, categoryId.toString())), BooleanClause.Occur.FILTER);
+        }
+        if (tagId != null) {
+            builder.add(new TermQuery(new Term(FIELD_TAG_ID, tagId.toString())), BooleanClause.Occur.FILTER);
+        }
+        Query query = builder.build();
+
+        // 按 long 计算避免页码很大时溢出；超出结果窗口的页返回空列表（总数和分面照常返回）
+        int from = (int) Math.min((long) page * size, MAX_RESULT_WINDOW);
+        int window = (int) Math.min((long) from + size, MAX_RESULT_WINDOW);
+        // 重建失败回滚时会替换 SearcherManager，同一次检索始终使用同一个
+        SearcherManager manager = searcherManager;
+        IndexSearcher searcher = null;
+        try {
+            searcher = manager.acquire();
+
+            FacetsCollector facetsCollector = new FacetsCollector();
+            TopDocs topDocs = FacetsCollector.search(searcher, query, Math.max(window, 1), facetsCollector);
+
+            List<SearchResult.Hit> hits = new ArrayList<>();
+            if (from < topDocs.scoreDocs.length) {
+                ScoreDoc[] pageDocs = Arrays.copyOfRange(topDocs.scoreDocs, from, topDocs.scoreDocs.length);
+                TopDocs pageTopDocs = new TopDocs(topDocs.totalHits, pageDocs);
+                Map<String, String[]> highlights = highlighter(searcher).highlightFields(
+                        new String[]{FIELD_TITLE, FIELD_SUMMARY, FIELD_CONTENT}, query, pageTopDocs, new int[]{1, 1, 2});
+                StoredFields storedFields = searcher.storedFields();
+                for (int i = 0; i < pageDocs.length; i++) {
+                    Document document = storedFields.document(pageDocs[i].doc);
+                    hits.add(toHit(document, pageDocs[i].score,
+                            highlights.get(FIELD_TITLE)[i],
+                            highlights.get(FIELD_SUMMARY)[i],
+                            highlights.get(FIELD_CONTENT)[i]));
+                }
+            }
+
+            Map<String, Long> categoryCounts = Map.of();
+            Map<String, Long> tagCounts = Map.of();
+            SortedSetDocValuesReaderState state = facetState(searcher.getIndexReader());
+            if (state != null) {
+                Facets facets = new SortedSetDocValuesFacetCounts(state, facetsCollector);
+                categoryCounts = facetCounts(facets, FACET_CATEGORY);
+                tagCounts = facetCounts(facets, FACET_TAG);
+            }
+            return new SearchResult(hits, topDocs.totalHits.value, categoryCounts, tagCounts);
+        } catch (IOException e) {
+            throw new IllegalStateException("Search failed", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    manager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("Failed to release searcher: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 定期提交未落盘的增量更新；提交在索引更新线程中执行，与增量更新和全量重建串行，
+     * 不会提交重建过程中清空后尚未写完的索引
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public void commit() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            updateExecutor.execute(this::commitNow);
+        } catch (RejectedExecutionException e) {
+            // 正在关闭，由 close 完成最后一次提交
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        updateExecutor.shutdown();
+        try {
+            if (!updateExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Search index update thread did not finish before shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        commitNow();
+        closeQuietly();
+    }
+
+    private void commitNow() {
+        IndexWriter current = writer;
+        if (current == null || !current.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            current.setLiveCommitData(Map.of(SCHEMA_KEY, SCHEMA_VERSION).entrySet());
+            current.commit();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to commit search index: {}", e.getMessage());
+        }
+    }
+
+    private int indexBatch(List<Long> postIds) {
+        try {
+            List<Document> documents = toDocuments(postMapper.selectBatchIds(postIds));
+            for (Document document : documents) {
+                writer.updateDocument(new Term(FIELD_ID, document.get(FIELD_ID)), facetsConfig.build(document));
+            }
+            return documents.size();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to index posts " + postIds, e);
+        }
+    }
+
+    private List<Document> toDocuments(List<Post> posts) {
+        List<Post> published = posts.stream()
+                .filter(post -> Integer.valueOf(1).equals(post.getStatus()))
+                .toList();
+        if (published.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<Long>> tagIdsByPostId = postMapper.selectTagsByPostIds(
+                        published.stream().map(Post::getId).toList()).stream()
+                .collect(Collectors.groupingBy(PostMapper.TagWithPostId::getPostId,
+                        Collectors.mapping(PostMapper.TagWithPostId::getId, Collectors.toList())));
+
+        List<Document> documents = new ArrayList<>(published.size());
+        for (Post post : published) {
+            Document document = new Document();
+            document.add(new StringField(FIELD_ID, post.getId().toString(), Field.Store.YES));
+            document.add(new Field(FIELD_TITLE, nullToEmpty(post.getTitle()), TEXT_WITH_OFFSETS));
+            document.add(new Field(FIELD_SUMMARY, nullToEmpty(post.getSummary()), TEXT_WITH_OFFSETS));
+            document.add(new Field(FIELD_CONTENT, markdownRenderer.plainText(post.getContent()), TEXT_WITH_OFFSETS));
+            if (post.getSlug() != null) {
+                document.add(new StoredField(FIELD_SLUG, post.getSlug()));
+            }
+            if (post.getCover() != null) {
+                document.add(new StoredField(FIELD_COVER, post.getCover()));
+            }
+            if (post.getCreatedAt() != null) {
+                document.add(new StoredField(FIELD_CREATED_AT,
+                        post.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+            }
+            if (post.getCategoryId() != null) {
+                String categoryId = post.getCategoryId().toString();
+                document.add(new StringField(FIELD_CATEGORY_ID, categoryId, Field.Store.YES));
+                document.add(new SortedSetDocValuesFacetField(FACET_CATEGORY, categoryId));
+            }
+            for (Long tagId : tagIdsByPostId.getOrDefault(post.getId(), List.of())) {
+                document.add(new StringField(FIELD_TAG_ID, tagId.toString(), Field.Store.NO));
+                document.add(new SortedSetDocValuesFacetField(FACET_TAG, tagId.toString()));
+            }
+            documents.add(document);
+        }
+        return documents;
+    }
+
+    private SearchResult.Hit toHit(Document document, float score,
+                                   String titleHighlight, String summaryHighlight, String contentHighlight) {
+        IndexableField createdAt = document.getField(FIELD_CREATED_AT);
+        IndexableField categoryId = document.getField(FIELD_CATEGORY_ID);
+        return new SearchResult.Hit(
+                Long.valueOf(document.get(FIELD_ID)),
+                document.get(FIELD_TITLE),
+                document.get(FIELD_SLUG),
+                document.get(FIELD_SUMMARY),
+                document.get(FIELD_COVER),
+                categoryId != null ? Long.valueOf(categoryId.stringValue()) : null,
+                createdAt != null
+                        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAt.numericValue().longValue()), ZoneId.systemDefault())
+                        : null,
+                score,
+                titleHighlight,
+                summaryHighlight,
+                contentHighlight);
+    }
+
+    private UnifiedHighlighter highlighter(IndexSearcher searcher) {
+        return UnifiedHighlighter.builder(searcher, analyzer)
+                .withFormatter(new DefaultPassageFormatter("<mark>", "</mark>", "…", true))
+                .withMaxLength(HIGHLIGHT_MAX_LENGTH)
+                .withMaxNoHighlightPassages(0)
+                .build();
+    }
+
+    /**
+     * 分面统计需要的 reader 状态创建开销较大，按 reader 缓存（reader 刷新后重建）
+     */
+    private SortedSetDocValuesReaderState facetState(IndexReader reader) throws IOException {
+        FacetState current = facetState;
+        if (current != null && current.reader() == reader) {
+            return current.state();
+        }
+        SortedSetDocValuesReaderState state = null;
+        try {
+            state = new DefaultSortedSetDocValuesReaderState(reader, facetsConfig);
+        } catch (IllegalArgumentException e) {
+            // 索引中还没有任何分面字段
+        }
+        facetState = new FacetState(reader, state);
+        return state;
+    }
+
+    private static Map<String, Long> facetCounts(Facets facets, String dimension) throws IOException {
+        FacetResult result;
+        try {
+            result = facets.getTopChildren(FACET_LIMIT, dimension);
+        } catch (IllegalArgumentException e) {
+            // 该维度尚未出现在索引中
+            return Map.of();
+        }
+        if (result == null) {
+            return Map.of();
+        }
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (LabelAndValue labelAndValue : result.labelValues) {
+            counts.put(labelAndValue.label, labelAndValue.value.longValue());
+        }
+        return counts;
+    }
+
+    private void rebuildQuietly() {
+        try {
+            doRebuild();
+        } catch (Exception e) {
+            log.warn("Search index rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            if (searcherManager != null) {
+                searcherManager.close();
+            }
+            if (writer != null) {
+                writer.close();
+            }
+            if (directory != null) {
+                directory.close();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to close search index: {}", e.getMessage());
+        } finally {
+            searcherManager = null;
+            writer = null;
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return StringUtils.hasText(value) ? value : "";
+    }
+
+    private record FacetState(IndexReader reader, SortedSetDocValuesReaderState state) {
+    }
+}
@@ -0,0 +1,352 @@
+package com.blog.api.search;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.entity.Post;
+import com.blog.api.entity.PostTag;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.mapper.PostTagMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * 相关文章索引
+ * 内存中保存每篇已发布文章的分类和有序标签 ID 数组，以及标签 / 分类到文章 ID 的倒排数组；
+ * 相似度 = 加权 Jaccard（标签权重为 IDF：越少见的标签越能说明相关）+ 同分类加分，
+ * 只对与目标文章共享标签或分类的文章打分。
+ * 每篇文章的结果按需计算并缓存；文章变更时只刷新该文章的特征，并失效与其新旧标签 / 分类有交集的文章的缓存结果。
+ */
+@Slf4j
+@Component
+public class RelatedPostIndex {
+
+    /**
+     * 每篇文章缓存的相关文章数量上限
+     */
+    public static final int MAX_RELATED = 20;
+
+    /**
+     * 同分类加分（Jaccard 取值 0 ~ 1）
+     */
+    private static final double CATEGORY_WEIGHT = 0.3;
+
+    private static final long[] EMPTY = new long[0];
+
+    /**
+     * 最小堆排序：分数低的先出堆，分数相同时 ID 小（较早发布）的先出堆
+     */
+    private static final Comparator<Map.Entry<Long, Double>> RANKING =
+            Map.Entry.<Long, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey());
+
+    private final PostMapper postMapper;
+    private final PostTagMapper postTagMapper;
+    private final ContentVersions contentVersions;
+
+    private final Cache<Long, long[]> relatedCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+    private final ExecutorService updateExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "related-posts");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Model model = new Model();
+
+    public RelatedPostIndex(PostMapper postMapper, PostTagMapper postTagMapper, ContentVersions contentVersions) {
+        this.postMapper = postMapper;
+        this.postTagMapper = postTagMapper;
+        this.contentVersions = contentVersions;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        contentVersions.addListener(change -> {
+            if (change.scope() == ContentScope.POST && change.entityId() != null) {
+                Long postId = change.entityId();
+                updateExecutor.execute(() -> refreshQuietly(postId));
+            } else if (change.scope() == ContentScope.POST || change.scope() == ContentScope.TAG) {
+                // 无法确定具体文章或标签被删除时整体重新加载
+                updateExecutor.execute(this::reloadQuietly);
+            }
+        });
+    }
+
+    /**
+     * 启动后加载；之后定期整体重新加载，修正增量更新中未重新计算的标签权重
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelay = 3_600_000, fixedDelay = 3_600_000)
+    public void scheduleReload() {
+        updateExecutor.execute(this::reloadQuietly);
+    }
+
+    /**
+     * 获取相关文章 ID（按相似度降序）；文章未发布或不存在时返回空列表
+     */
+    public List<Long> related(long postId, int limit) {
+        Model current = model;
+        if (!current.features.containsKey(postId)) {
+            return List.of();
+        }
+        long[] ids = relatedCache.get(postId, id -> compute(current, id));
+        List<Long> result = new ArrayList<>(Math.min(limit, ids.length));
+        for (int i = 0; i < ids.length && i < limit; i++) {
+            result.add(ids[i]);
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updateExecutor.shutdownNow();
+    }
+
+    /**
+     * 重新加载全部已发布文章的分类和标签
+     */
+    void reload() {
+        List<Post> posts = postMapper.selectList(new LambdaQueryWrapper<Post>()
+                .select(Post::getId, Post::getCategoryId)
+                .eq(Post::getStatus, 1));
+        Map<Long, List<Long>> tagsByPost = postTagMapper.selectList(null).stream()
+                .collect(Collectors.groupingBy(PostTag::getPostId,
+                        Collectors.mapping(PostTag::getTagId, Collectors.toList())));
+
+        Model loaded = new Model();
+        for (Post post : posts) {
+            loaded.add(post.getId(), new Features(post.getCategoryId(), sortedDistinct(tagsByPost.get(post.getId()))));
+        }
+        model = loaded;
+        relatedCache.invalidateAll();
+        log.debug("Loaded related-post index: {} posts, {} tags", loaded.features.size(), loaded.postsByTag.size());
+    }
+
+    /**
+     * 增量刷新单篇文章：更新特征和倒排数组，并失效受影响文章的缓存结果
+     */
+    void refresh(long postId) {
+        Post post = postMapper.selectOne(new LambdaQueryWrapper<Post>()
+                .select(Post::getId, Post::getCategoryId, Post::getStatus)
+                .eq(Post::getId, postId));
+        Features updated = post != null && Integer.valueOf(1).equals(post.getStatus())
+                ? new Features(post.getCategoryId(), sortedDistinct(postMapper.selectTagIdsByPostId(postId)))
+                : null;
+
+        Model current = model;
+        Features previous = current.remove(postId);
+        if (updated != null) {
+            current.add(postId, updated);
+        }
+
+        Set<Long> affected = new HashSet<>();
+        affected.add(postId);
+        current.collectNeighbours(previous, affected);
+        current.collectNeighbours(updated, affected);
+        relatedCache.invalidateAll(affected);
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("Failed to load related-post index: {}", e.getMessage());
+        }
+    }
+
+    private void refreshQuietly(long postId) {
+        try {
+            refresh(postId);
+        } catch (Exception e) {
+            log.warn("Failed to refresh related posts for post {}: {}", postId, e.getMessage());
+        }
+    }
+
+    private static long[] compute(Model model, long postId) {
+        Features target = model.features.get(postId);
+        if (target == null) {
+            return EMPTY;
+        }
+        int total = model.features.size();
+        double targetWeight = weightSum(model, target.tagIds(), total);
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (long tagId : target.tagIds()) {
+            for (long candidate : model.postsByTag.getOrDefault(tagId, EMPTY)) {
+                scores.putIfAbsent(candidate, 0.0);
+            }
+        }
+        if (target.categoryId() != null) {
+            for (long candidate : model.postsByCategory.getOrDefault(target.categoryId(), EMPTY)) {
+                scores.putIfAbsent(candidate, 0.0);
+            }
+        }
+        scores.remove(postId);
+
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(MAX_RELATED + 1, RANKING);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            Features candidate = model.features.get(entry.getKey());
+            if (candidate == null) {
+                continue;
+            }
+            double intersection = intersectionWeight(model, target.tagIds(), candidate.tagIds(), total);
+            double union = targetWeight + weightSum(model, candidate.tagIds(), total) - intersection;
+            double score = union > 0 ? intersection / union : 0;
+            if (target.categoryId() != null && target.categoryId().equals(candidate.categoryId())) {
+                score += CATEGORY_WEIGHT;
+            }
+            entry.setValue(score);
+            top.offer(entry);
+            if (top.size() > MAX_RELATED) {
+                top.poll();
+            }
+        }
+
+        long[] result = new long[top.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = top.poll().getKey();
+        }
+        return result;
+    }
+
+    private static double tagWeight(Model model, long tagId, int total) {
+        int df = model.postsByTag.getOrDefault(tagId, EMPTY).length;
+        return Math.log(1 + (double) total / Math.max(df, 1));
+    }
+
+    private static double weightSum(Model model, long[] tagIds, int total) {
+        double sum = 0;
+        for (long tagId : tagIds) {
+            sum += tagWeight(model, tagId, total);
+        }
+        return sum;
+    }
+
+    /**
+     * 两个有序数组的交集权重（归并扫描）
+     */
+    private static double intersectionWeight(Model model, long[] a, long[] b, int total) {
+        double sum = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                sum += tagWeight(model, a[i], total);
+                i++;
+                j++;
+            }
+        }
+        return sum;
+    }
+
+    private static long[] sortedDistinct(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return EMPTY;
+        }
+        return ids.stream().filter(Objects::nonNull).mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    /**
+     * 文章特征：分类 ID（可为空）和升序标签 ID
+     */
+    record Features(Long categoryId, long[] tagIds) {
+    }
+
+    /**
+     * 特征与倒排数组；倒排数组写时复制，由单个更新线程修改，查询线程无锁读取
+     */
+    private static final class Model {
+
+        private final Map<Long, Features> features = new ConcurrentHashMap<>();
+        private final Map<Long, long[]> postsByTag = new ConcurrentHashMap<>();
+        private final Map<Long, long[]> postsByCategory = new ConcurrentHashMap<>();
+
+        void add(long postId, Features f) {
+            features.put(postId, f);
+            for (long tagId : f.tagIds()) {
+                postsByTag.compute(tagId, (k, ids) -> insert(ids, postId));
+            }
+            if (f.categoryId() != null) {
+                postsByCategory.compute(f.categoryId(), (k, ids) -> insert(ids, postId));
+            }
+        }
+
+        Features remove(long postId) {
+            Features f = features.remove(postId);
+            if (f != null) {
+                for (long tagId : f.tagIds()) {
+                    postsByTag.computeIfPresent(tagId, (k, ids) -> delete(ids, postId));
+                }
+                if (f.categoryId() != null) {
+                    postsByCategory.computeIfPresent(f.categoryId(), (k, ids) -> delete(ids, postId));
+                }
+            }
+            return f;
+        }
+
+        void collectNeighbours(Features f, Set<Long> out) {
+            if (f == null) {
+                return;
+            }
+            for (long tagId : f.tagIds()) {
+                for (long id : postsByTag.getOrDefault(tagId, EMPTY)) {
+                    out.add(id);
+                }
+            }
+            if (f.categoryId() != null) {
+                for (long id : postsByCategory.getOrDefault(f.categoryId(), EMPTY)) {
+                    out.add(id);
+                }
+            }
+        }
+
+        private static long[] insert(long[] ids, long id) {
+            if (ids == null) {
+                return new long[]{id};
+            }
+            int index = Arrays.binarySearch(ids, id);
+            if (index >= 0) {
+                return ids;
+            }
+            int at = -index - 1;
+            long[] copy = new long[ids.length + 1];
+            System.arraycopy(ids, 0, copy, 0, at);
+            copy[at] = id;
+            System.arraycopy(ids, at, copy, at + 1, ids.length - at);
+            return copy;
+        }
+
+        private static long[] delete(long[] ids, long id) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index < 0) {
+                return ids;
+            }
+            if (ids.length == 1) {
+                // 返回 null 时 computeIfPresent 会移除该键
+                return null;
+            }
+            long[] copy = new long[ids.length - 1];
+            System.arraycopy(ids, 0, copy, 0, index);
+            System.arraycopy(ids, index + 1, copy, index, ids.length - index - 1);
+            return copy;
+        }
+    }
+}
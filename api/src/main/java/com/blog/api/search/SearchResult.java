@@ -0,0 +1,25 @@
+package com.blog.api.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 检索结果
+ *
+ * @param hits           当前页命中的文章
+ * @param totalHits      命中总数
+ * @param categoryCounts 分类 ID -> 命中数
+ * @param tagCounts      标签 ID -> 命中数
+ */
+public record SearchResult(List<Hit> hits, long totalHits,
+                           Map<String, Long> categoryCounts, Map<String, Long> tagCounts) {
+
+    /**
+     * 命中的文章；高亮片段为已转义的 HTML（匹配词用 mark 标签包裹），没有匹配时为 null
+     */
+    public record Hit(Long id, String title, String slug, String summary, String cover, Long categoryId,
+                      LocalDateTime createdAt, float score,
+                      String titleHighlight, String summaryHighlight, String contentHighlight) {
+    }
+}
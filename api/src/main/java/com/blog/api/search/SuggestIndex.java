@@ -0,0 +1,222 @@
+package com.blog.api.search;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.entity.Category;
+import com.blog.api.entity.Post;
+import com.blog.api.entity.Tag;
+import com.blog.api.mapper.CategoryMapper;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.mapper.TagMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.sourceforge.pinyin4j.PinyinHelper;
+import net.sourceforge.pinyin4j.format.HanyuPinyinCaseType;
+import net.sourceforge.pinyin4j.format.HanyuPinyinOutputFormat;
+import net.sourceforge.pinyin4j.format.HanyuPinyinToneType;
+import net.sourceforge.pinyin4j.format.HanyuPinyinVCharType;
+import net.sourceforge.pinyin4j.format.exception.BadHanyuPinyinOutputFormatCombination;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 搜索建议索引
+ * 由已发布文章标题、标签名 / 别名、分类名构建 {@link SuggestTrie}，支持原文前缀、词首前缀、全拼和拼音首字母匹配，
+ * 按浏览量排序（标签、分类取其下已发布文章的浏览量之和）。
+ * 文章、标签、分类变更时在后台线程整体重建新实例后替换引用（写时复制），查询始终读取不可变快照，无需加锁。
+ */
+@Slf4j
+@Component
+public class SuggestIndex {
+
+    /**
+     * 每个前缀节点保留的条目数，即单次查询可返回的最大数量
+     */
+    public static final int TOP_K = 10;
+
+    private static final Set<ContentScope> SCOPES = EnumSet.of(ContentScope.POST, ContentScope.TAG, ContentScope.CATEGORY);
+
+    private static final HanyuPinyinOutputFormat PINYIN_FORMAT = new HanyuPinyinOutputFormat();
+
+    static {
+        PINYIN_FORMAT.setCaseType(HanyuPinyinCaseType.LOWERCASE);
+        PINYIN_FORMAT.setToneType(HanyuPinyinToneType.WITHOUT_TONE);
+        PINYIN_FORMAT.setVCharType(HanyuPinyinVCharType.WITH_V);
+    }
+
+    private final PostMapper postMapper;
+    private final TagMapper tagMapper;
+    private final CategoryMapper categoryMapper;
+    private final ContentVersions contentVersions;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "suggest-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    private volatile SuggestTrie trie = SuggestTrie.EMPTY;
+
+    public SuggestIndex(PostMapper postMapper, TagMapper tagMapper, CategoryMapper categoryMapper,
+                        ContentVersions contentVersions) {
+        this.postMapper = postMapper;
+        this.tagMapper = tagMapper;
+        this.categoryMapper = categoryMapper;
+        this.contentVersions = contentVersions;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        contentVersions.addListener(change -> {
+            if (SCOPES.contains(change.scope())) {
+                scheduleRebuild();
+            }
+        });
+    }
+
+    /**
+     * 启动后构建；之后定期重建以反映浏览量变化（浏览量不触发内容版本变更）
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+    public void scheduleRebuild() {
+        // 已有排队中的重建时直接合并，批量写入只触发一次重建
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildPending.set(false);
+                try {
+                    rebuild();
+                } catch (Exception e) {
+                    log.warn("Failed to rebuild suggest index: {}", e.getMessage());
+                }
+            });
+        }
+    }
+
+    public List<SuggestTrie.Entry> suggest(String prefix, int limit) {
+        return trie.lookup(prefix, Math.min(limit, TOP_K));
+    }
+
+    /**
+     * 从数据库读取并构建新的前缀树，完成后原子替换
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Post> posts = postMapper.selectList(new LambdaQueryWrapper<Post>()
+                .select(Post::getId, Post::getTitle, Post::getSlug, Post::getCategoryId, Post::getViewCount)
+                .eq(Post::getStatus, 1));
+        List<Tag> tags = tagMapper.selectList(null);
+        List<Category> categories = categoryMapper.selectList(null);
+        Map<Long, Long> tagViews = postMapper.selectTagViewTotals().stream()
+                .collect(Collectors.toMap(PostMapper.IdTotal::getId, PostMapper.IdTotal::getTotal, (a, b) -> a));
+        Map<Long, Long> categoryViews = posts.stream()
+                .filter(post -> post.getCategoryId() != null)
+                .collect(Collectors.groupingBy(Post::getCategoryId, Collectors.summingLong(SuggestIndex::views)));
+
+        SuggestTrie.Builder builder = SuggestTrie.builder(TOP_K);
+        for (Post post : posts) {
+            builder.add(new SuggestTrie.Entry(SuggestType.POST, post.getId(), post.getTitle(), post.getSlug(), views(post)),
+                    keysOf(post.getTitle()));
+        }
+        for (Tag tag : tags) {
+            Set<String> keys = keysOf(tag.getName());
+            if (StringUtils.hasText(tag.getSlug())) {
+                keys.add(tag.getSlug());
+            }
+            builder.add(new SuggestTrie.Entry(SuggestType.TAG, tag.getId(), tag.getName(), tag.getSlug(),
+                    tagViews.getOrDefault(tag.getId(), 0L)), keys);
+        }
+        for (Category category : categories) {
+            builder.add(new SuggestTrie.Entry(SuggestType.CATEGORY, category.getId(), category.getName(), category.getSlug(),
+                    categoryViews.getOrDefault(category.getId(), 0L)), keysOf(category.getName()));
+        }
+
+        SuggestTrie built = builder.build();
+        trie = built;
+        log.debug("Rebuilt suggest index: {} entries, {} nodes in {} ms",
+                built.size(), built.nodeCount(), System.currentTimeMillis() - start);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 生成一段文本的全部索引键：
+     * 原文、每个词（字母数字串或单个汉字）开始的后缀、全拼、拼音首字母（英文词取首字母）
+     */
+    static Set<String> keysOf(String text) {
+        Set<String> keys = new LinkedHashSet<>();
+        String normalized = SuggestTrie.normalize(text);
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalized);
+
+        StringBuilder fullPinyin = new StringBuilder();
+        StringBuilder initials = new StringBuilder();
+        boolean hasHan = false;
+        boolean inWord = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            String pinyin = pinyinOf(c);
+            if (pinyin != null) {
+                hasHan = true;
+                inWord = false;
+                if (i > 0) {
+                    keys.add(normalized.substring(i));
+                }
+                fullPinyin.append(pinyin);
+                initials.append(pinyin.charAt(0));
+            } else if (Character.isLetterOrDigit(c)) {
+                if (!inWord) {
+                    if (i > 0) {
+                        keys.add(normalized.substring(i));
+                    }
+                    initials.append(c);
+                    inWord = true;
+                }
+                fullPinyin.append(c);
+            } else {
+                inWord = false;
+            }
+        }
+        if (hasHan) {
+            keys.add(fullPinyin.toString());
+            keys.add(initials.toString());
+        }
+        return keys;
+    }
+
+    /**
+     * 汉字的拼音（多音字取第一个读音），非汉字返回 null
+     */
+    private static String pinyinOf(char c) {
+        if (Character.UnicodeScript.of(c) != Character.UnicodeScript.HAN) {
+            return null;
+        }
+        try {
+            String[] pinyins = PinyinHelper.toHanyuPinyinStringArray(c, PINYIN_FORMAT);
+            return pinyins != null && pinyins.length > 0 ? pinyins[0] : null;
+        } catch (BadHanyuPinyinOutputFormatCombination e) {
+            return null;
+        }
+    }
+
+    private static long views(Post post) {
+        return post.getViewCount() != null ? post.getViewCount() : 0L;
+    }
+}
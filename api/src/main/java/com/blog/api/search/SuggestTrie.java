@@ -0,0 +1,226 @@
+package com.blog.api.search;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 搜索建议前缀树（不可变）
+ * 构建完成后压平为几组基本类型数组：子节点按字符排序后二分查找，每个节点预先保存权重最高的 K 个条目，
+ * 一次查询只需沿前缀向下走 O(前缀长度) 步即可直接返回结果，无需遍历子树。
+ * 实例构建后不再修改，可被任意线程无锁并发读取。
+ */
+public final class SuggestTrie {
+
+    /**
+     * 索引键最大长度：更长的前缀只按前 MAX_KEY_LENGTH 个字符匹配
+     */
+    public static final int MAX_KEY_LENGTH = 32;
+
+    public static final SuggestTrie EMPTY = builder(1).build();
+
+    /**
+     * 建议条目
+     *
+     * @param type   条目类型
+     * @param id     实体 ID
+     * @param text   展示文本
+     * @param slug   URL 别名
+     * @param weight 排序权重（浏览量）
+     */
+    public record Entry(SuggestType type, long id, String text, String slug, long weight) {
+    }
+
+    private final Entry[] entries;
+    /** 节点 i 的子节点位于 [childStart[i], childStart[i + 1]) */
+    private final int[] childStart;
+    private final char[] childLabel;
+    private final int[] childTarget;
+    /** 节点 i 的前 K 个条目位于 [topStart[i], topStart[i + 1]) */
+    private final int[] topStart;
+    private final int[] topEntry;
+
+    private SuggestTrie(Entry[] entries, int[] childStart, char[] childLabel, int[] childTarget,
+                        int[] topStart, int[] topEntry) {
+        this.entries = entries;
+        this.childStart = childStart;
+        this.childLabel = childLabel;
+        this.childTarget = childTarget;
+        this.topStart = topStart;
+        this.topEntry = topEntry;
+    }
+
+    public static Builder builder(int topK) {
+        return new Builder(topK);
+    }
+
+    /**
+     * 前缀查询，按权重降序返回
+     */
+    public List<Entry> lookup(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int node = 0;
+        for (int i = 0, n = Math.min(key.length(), MAX_KEY_LENGTH); i < n; i++) {
+            node = child(node, key.charAt(i));
+            if (node < 0) {
+                return List.of();
+            }
+        }
+        int from = topStart[node];
+        int to = Math.min(topStart[node + 1], from + limit);
+        List<Entry> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(entries[topEntry[i]]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public int nodeCount() {
+        return childStart.length - 1;
+    }
+
+    private int child(int node, char c) {
+        int index = Arrays.binarySearch(childLabel, childStart[node], childStart[node + 1], c);
+        return index >= 0 ? childTarget[index] : -1;
+    }
+
+    /**
+     * 统一键和查询的格式：全角转半角、转小写、连续空白合并为一个空格
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        boolean space = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = sb.length() > 0;
+            } else {
+                if (space) {
+                    sb.append(' ');
+                    space = false;
+                }
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 构建器（非线程安全）
+     */
+    public static final class Builder {
+
+        private final int topK;
+        private final List<Entry> entries = new ArrayList<>();
+        private final List<Collection<String>> keys = new ArrayList<>();
+
+        private Builder(int topK) {
+            this.topK = Math.max(topK, 1);
+        }
+
+        /**
+         * 添加条目及其可被匹配的索引键
+         */
+        public Builder add(Entry entry, Collection<String> entryKeys) {
+            entries.add(entry);
+            keys.add(entryKeys);
+            return this;
+        }
+
+        public SuggestTrie build() {
+            // 按权重降序插入，每个节点先到的 K 个条目即为该前缀下权重最高的 K 个
+            Integer[] order = new Integer[entries.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator
+                    .comparingLong((Integer i) -> entries.get(i).weight()).reversed()
+                    .thenComparing(i -> entries.get(i).type())
+                    .thenComparingLong(i -> entries.get(i).id()));
+
+            Entry[] sorted = new Entry[order.length];
+            Node root = new Node();
+            for (int rank = 0; rank < order.length; rank++) {
+                sorted[rank] = entries.get(order[rank]);
+                for (String raw : keys.get(order[rank])) {
+                    String key = normalize(raw);
+                    if (!key.isEmpty()) {
+                        insert(root, key, rank);
+                    }
+                }
+            }
+            return freeze(sorted, root);
+        }
+
+        private void insert(Node root, String key, int rank) {
+            Node node = root;
+            for (int i = 0, n = Math.min(key.length(), MAX_KEY_LENGTH); i < n; i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                // 同一条目的多个键可能经过同一节点，只记录一次
+                if (node.lastRank != rank && node.top.size() < topK) {
+                    node.top.add(rank);
+                }
+                node.lastRank = rank;
+            }
+        }
+
+        private SuggestTrie freeze(Entry[] sorted, Node root) {
+            // 广度优先编号，子节点按字符排序，保证同一节点的子节点在数组中连续且有序
+            List<Node> nodes = new ArrayList<>();
+            nodes.add(root);
+            int edges = 0;
+            int tops = 0;
+            for (int i = 0; i < nodes.size(); i++) {
+                Node node = nodes.get(i);
+                node.sortedLabels = node.children.keySet().stream().sorted().toList();
+                for (Character label : node.sortedLabels) {
+                    nodes.add(node.children.get(label));
+                }
+                edges += node.children.size();
+                tops += node.top.size();
+            }
+
+            int[] childStart = new int[nodes.size() + 1];
+            char[] childLabel = new char[edges];
+            int[] childTarget = new int[edges];
+            int[] topStart = new int[nodes.size() + 1];
+            int[] topEntry = new int[tops];
+            int edge = 0;
+            int top = 0;
+            int next = 1;
+            for (int i = 0; i < nodes.size(); i++) {
+                Node node = nodes.get(i);
+                childStart[i] = edge;
+                for (Character label : node.sortedLabels) {
+                    childLabel[edge] = label;
+                    childTarget[edge] = next++;
+                    edge++;
+                }
+                topStart[i] = top;
+                for (int rank : node.top) {
+                    topEntry[top++] = rank;
+                }
+            }
+            childStart[nodes.size()] = edge;
+            topStart[nodes.size()] = top;
+            return new SuggestTrie(sorted, childStart, childLabel, childTarget, topStart, topEntry);
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Integer> top = new ArrayList<>(2);
+        private List<Character> sortedLabels;
+        private int lastRank = -1;
+    }
+}
@@ -0,0 +1,10 @@
+package com.blog.api.search;
+
+/**
+ * 搜索建议条目类型
+ */
+public enum SuggestType {
+    POST,
+    TAG,
+    CATEGORY
+}
@@ -1,6 +1,7 @@
 package com.blog.api.security;
 
 import com.blog.api.service.TokenService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -37,9 +38,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+        // 验签和提取声明只做一次（命中已验证令牌缓存时不再验签）
+        Claims claims = StringUtils.hasText(token) ? jwtTokenProvider.verify(token) : null;
+        if (claims != null) {
             if (!tokenService.isBlacklisted(token)) {
-                String username = jwtTokenProvider.getUsernameFromToken(token);
+                String username = claims.getSubject();
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
                 UsernamePasswordAuthenticationToken authentication =
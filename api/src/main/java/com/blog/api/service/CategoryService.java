@@ -2,12 +2,16 @@ package com.blog.api.service;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.CategoryTree;
+import com.blog.api.cache.ContentVersions;
 import com.blog.api.dto.request.CategoryRequest;
 import com.blog.api.dto.response.CategoryResponse;
 import com.blog.api.dto.response.PageResponse;
 import com.blog.api.entity.Category;
 import com.blog.api.exception.BusinessException;
 import com.blog.api.exception.ErrorCode;
+import com.blog.api.mapper.CategoryClosureMapper;
 import com.blog.api.mapper.CategoryMapper;
 import com.blog.api.mapper.PostMapper;
 import com.blog.api.util.SlugUtils;
@@ -25,7 +29,10 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryMapper categoryMapper;
+    private final CategoryClosureMapper categoryClosureMapper;
+    private final CategoryTree categoryTree;
     private final PostMapper postMapper;
+    private final ContentVersions contentVersions;
 
     @Transactional
     public CategoryResponse create(CategoryRequest request) {
@@ -47,6 +54,10 @@ public class CategoryService {
             slug = slug + "-" + System.currentTimeMillis();
         }
 
+        if (request.getParentId() != null && categoryMapper.selectById(request.getParentId()) == null) {
+            throw new BusinessException(ErrorCode.CATEGORY_INVALID_PARENT);
+        }
+
         Category category = new Category();
         category.setName(request.getName());
         category.setSlug(slug);
@@ -57,6 +68,8 @@ public class CategoryService {
         category.setUpdatedAt(LocalDateTime.now());
 
         categoryMapper.insert(category);
+        categoryClosureMapper.insertNode(category.getId(), category.getParentId());
+        contentVersions.bumpAfterCommit(ContentScope.CATEGORY, category.getId());
         return toResponse(category);
     }
 
@@ -75,6 +88,13 @@ public class CategoryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 分类树（内存快照，分类或文章变更后首次读取时重建）
+     */
+    public List<CategoryResponse> getTree() {
+        return categoryTree.getRoots();
+    }
+
     public CategoryResponse getBySlug(String slug) {
         LambdaQueryWrapper<Category> query = new LambdaQueryWrapper<>();
         query.eq(Category::getSlug, slug);
@@ -125,6 +145,13 @@ public class CategoryService {
             category.setSlug(slug);
         }
 
+        // 未传 parentId 时保持原父分类；移动时不能挂到自身或自身的后代下
+        Long parentId = request.getParentId();
+        boolean moved = parentId != null && !parentId.equals(category.getParentId());
+        if (moved && (categoryMapper.selectById(parentId) == null || categoryClosureMapper.countPath(id, parentId) > 0)) {
+            throw new BusinessException(ErrorCode.CATEGORY_INVALID_PARENT);
+        }
+
         category.setName(request.getName());
         category.setDescription(request.getDescription());
         category.setParentId(request.getParentId());
@@ -132,6 +159,11 @@ public class CategoryService {
         category.setUpdatedAt(LocalDateTime.now());
 
         categoryMapper.updateById(category);
+        if (moved) {
+            categoryClosureMapper.detachSubtree(id);
+            categoryClosureMapper.attachSubtree(id, parentId);
+        }
+        contentVersions.bumpAfterCommit(ContentScope.CATEGORY, category.getId());
         return toResponse(category);
     }
 
@@ -149,7 +181,16 @@ public class CategoryService {
             throw new BusinessException(ErrorCode.CATEGORY_HAS_POSTS);
         }
 
+        // Check if category has children
+        LambdaQueryWrapper<Category> childQuery = new LambdaQueryWrapper<>();
+        childQuery.eq(Category::getParentId, id);
+        if (categoryMapper.selectCount(childQuery) > 0) {
+            throw new BusinessException(ErrorCode.CATEGORY_HAS_CHILDREN);
+        }
+
+        categoryClosureMapper.deleteNode(id);
         categoryMapper.deleteById(id);
+        contentVersions.bumpAfterCommit(ContentScope.CATEGORY, id);
     }
 
     private CategoryResponse toResponse(Category category) {
@@ -160,6 +201,7 @@ public class CategoryService {
                 .description(category.getDescription())
                 .parentId(category.getParentId())
                 .sortOrder(category.getSortOrder())
+                .postCount(category.getPostCount() != null ? category.getPostCount().longValue() : 0L)
                 .createdAt(category.getCreatedAt())
                 .updatedAt(category.getUpdatedAt())
                 .build();
@@ -1,6 +1,9 @@
 package com.blog.api.service;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.cache.RedisLoadingCache;
 import com.blog.api.dto.config.*;
 import com.blog.api.dto.request.ConfigRequest;
 import com.blog.api.dto.response.ConfigResponse;
@@ -12,14 +15,17 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -29,13 +35,31 @@ public class ConfigService {
 
     private final SiteConfigMapper siteConfigMapper;
     private final ObjectMapper objectMapper;
-    private final StringRedisTemplate redisTemplate;
+    private final ContentVersions contentVersions;
+    private final RedisLoadingCache redisLoadingCache;
 
     // Redis 缓存 key 前缀
     private static final String CACHE_PREFIX = "config:";
     // 缓存过期时间：5 分钟
     private static final Duration CACHE_TTL = Duration.ofMinutes(5);
 
+    /**
+     * 已解析的聚合配置及其对应的 CONFIG 内容版本号
+     */
+    private record ConfigSnapshot(long version, SiteConfigResponse config) {
+    }
+
+    private final Object snapshotLock = new Object();
+    private volatile ConfigSnapshot snapshot;
+
+    // 站点基础配置未设置 siteUrl 时使用的站点 URL
+    @Value("${blog.site-url:http://localhost:3000}")
+    private String defaultSiteUrl;
+
+    // API 对外访问地址（站点前端不代理 /api）
+    @Value("${blog.api-url:http://localhost:8080}")
+    private String apiUrl;
+
     // 配置 key 常量
     public static final String KEY_SITE_BASIC = "site_basic";
     public static final String KEY_SITE_SEO = "site_seo";
@@ -45,45 +69,58 @@ public class ConfigService {
     public static final String KEY_SOCIAL_LINKS = "social_links";
     public static final String KEY_SKILLS = "skills";
 
+    // 聚合配置包含的 key
+    private static final List<String> AGGREGATE_KEYS = List.of(KEY_SITE_BASIC, KEY_SITE_SEO, KEY_SITE_ANALYTICS,
+            KEY_SITE_FOOTER, KEY_AUTHOR, KEY_SOCIAL_LINKS, KEY_SKILLS);
+
     // ==================== 聚合配置 ====================
 
     /**
      * 获取所有站点配置（聚合）
-     * 使用 Redis 缓存整个聚合配置
+     * 返回进程内已解析的快照，快照按 CONFIG 内容版本号失效（写入后递增并广播到所有节点）；
+     * 版本变化后首次读取时重新加载：Redis 中按版本号缓存聚合结果（单飞 + 分布式锁重建），未命中时一次批量查询数据库。
+     * 返回的对象在多个请求间共享，调用方不能修改
      */
     public SiteConfigResponse getAllConfigs() {
-        String cacheKey = CACHE_PREFIX + "all";
-        
-        // 尝试从缓存获取
-        String cachedValue = redisTemplate.opsForValue().get(cacheKey);
-        if (cachedValue != null) {
-            try {
-                return objectMapper.readValue(cachedValue, SiteConfigResponse.class);
-            } catch (JsonProcessingException e) {
-                log.warn("Failed to parse cached site config: {}", e.getMessage());
+        long version = contentVersions.get(ContentScope.CONFIG);
+        ConfigSnapshot current = snapshot;
+        if (current != null && current.version() == version) {
+            return current.config();
+        }
+        synchronized (snapshotLock) {
+            current = snapshot;
+            if (current != null && current.version() == version) {
+                return current.config();
             }
+            SiteConfigResponse config = redisLoadingCache.get(CACHE_PREFIX + "all:" + version,
+                    SiteConfigResponse.class, CACHE_TTL, this::loadAllConfigs);
+            snapshot = new ConfigSnapshot(version, config);
+            return config;
         }
-        
-        // 从数据库获取
-        SiteConfigResponse response = SiteConfigResponse.builder()
-                .basic(getConfig(KEY_SITE_BASIC, SiteBasicConfig.class))
-                .seo(getConfig(KEY_SITE_SEO, SiteSeoConfig.class))
-                .analytics(getConfig(KEY_SITE_ANALYTICS, SiteAnalyticsConfig.class))
-                .footer(getConfig(KEY_SITE_FOOTER, SiteFooterConfig.class))
-                .author(getConfig(KEY_AUTHOR, AuthorConfig.class))
-                .socialLinks(getConfigList(KEY_SOCIAL_LINKS, new TypeReference<List<SocialLinkConfig>>() {}))
-                .skills(getConfigList(KEY_SKILLS, new TypeReference<List<SkillConfig>>() {}))
-                .build();
-        
-        // 存入缓存
-        try {
-            String jsonValue = objectMapper.writeValueAsString(response);
-            redisTemplate.opsForValue().set(cacheKey, jsonValue, CACHE_TTL);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to cache site config: {}", e.getMessage());
+    }
+
+    /**
+     * 一次查询加载聚合配置涉及的全部 key
+     */
+    private SiteConfigResponse loadAllConfigs() {
+        LambdaQueryWrapper<SiteConfig> query = new LambdaQueryWrapper<>();
+        query.select(SiteConfig::getConfigKey, SiteConfig::getConfigValue)
+                .in(SiteConfig::getConfigKey, AGGREGATE_KEYS);
+        Map<String, String> values = new HashMap<>();
+        for (SiteConfig config : siteConfigMapper.selectList(query)) {
+            if (config.getConfigValue() != null) {
+                values.put(config.getConfigKey(), config.getConfigValue());
+            }
         }
-        
-        return response;
+        return SiteConfigResponse.builder()
+                .basic(parseConfig(values, KEY_SITE_BASIC, SiteBasicConfig.class))
+                .seo(parseConfig(values, KEY_SITE_SEO, SiteSeoConfig.class))
+                .analytics(parseConfig(values, KEY_SITE_ANALYTICS, SiteAnalyticsConfig.class))
+                .footer(parseConfig(values, KEY_SITE_FOOTER, SiteFooterConfig.class))
+                .author(parseConfig(values, KEY_AUTHOR, AuthorConfig.class))
+                .socialLinks(parseConfigList(values, KEY_SOCIAL_LINKS, new TypeReference<List<SocialLinkConfig>>() {}))
+                .skills(parseConfigList(values, KEY_SKILLS, new TypeReference<List<SkillConfig>>() {}))
+                .build();
     }
 
     /**
@@ -113,9 +150,39 @@ public class ConfigService {
         if (configs.getSkills() != null) {
             saveConfig(KEY_SKILLS, configs.getSkills());
         }
-        
-        // 清除聚合配置缓存
-        clearAllConfigsCache();
+
+        // 递增版本号，各节点的配置快照随之失效
+        contentVersions.bumpAfterCommit(ContentScope.CONFIG, null);
+    }
+
+    /**
+     * 站点 URL（不含末尾斜杠），优先取站点基础配置，未配置或读取失败时使用默认值
+     * 用于生成站点地图、订阅源中的绝对链接
+     */
+    public String getSiteUrl() {
+        String url = null;
+        try {
+            SiteBasicConfig basic = getAllConfigs().getBasic();
+            url = basic != null ? basic.getSiteUrl() : null;
+        } catch (Exception e) {
+            log.warn("Failed to read site url: {}", e.getMessage());
+        }
+        if (!StringUtils.hasText(url)) {
+            url = defaultSiteUrl;
+        }
+        return withoutTrailingSlash(url);
+    }
+
+    /**
+     * API 对外访问地址（不含末尾斜杠）
+     * 用于站点地图分片、订阅源自身链接等由 API 提供的资源的绝对链接
+     */
+    public String getApiUrl() {
+        return withoutTrailingSlash(apiUrl);
+    }
+
+    private static String withoutTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
     }
 
     // ==================== 单个配置操作 ====================
@@ -162,40 +229,21 @@ public class ConfigService {
             siteConfigMapper.updateById(config);
         }
         
-        // 清除相关缓存
-        clearConfigCache(request.getKey());
-        clearAllConfigsCache();
+        // 递增版本号，各节点的配置快照随之失效
+        contentVersions.bumpAfterCommit(ContentScope.CONFIG, config.getId());
 
         return toResponse(config);
     }
 
     // ==================== 泛型配置方法 ====================
 
-    private <T> T getConfig(String key, Class<T> clazz) {
-        // 先查 Redis 缓存
-        String cacheKey = CACHE_PREFIX + key;
-        String cachedValue = redisTemplate.opsForValue().get(cacheKey);
-        
-        if (cachedValue != null) {
-            try {
-                return objectMapper.readValue(cachedValue, clazz);
-            } catch (JsonProcessingException e) {
-                log.warn("Failed to parse cached config for key: {}", key);
-            }
-        }
-        
-        // 查数据库
+    private <T> T parseConfig(Map<String, String> values, String key, Class<T> clazz) {
         try {
-            SiteConfig config = getConfigEntity(key);
-            if (config == null || config.getConfigValue() == null) {
+            String value = values.get(key);
+            if (value == null) {
                 return clazz.getDeclaredConstructor().newInstance();
             }
-            T result = objectMapper.readValue(config.getConfigValue(), clazz);
-            
-            // 存入缓存
-            redisTemplate.opsForValue().set(cacheKey, config.getConfigValue(), CACHE_TTL);
-            
-            return result;
+            return objectMapper.readValue(value, clazz);
         } catch (Exception e) {
             log.warn("Failed to parse config for key: {}, error: {}", key, e.getMessage());
             try {
@@ -206,31 +254,13 @@ public class ConfigService {
         }
     }
 
-    private <T> List<T> getConfigList(String key, TypeReference<List<T>> typeRef) {
-        // 先查 Redis 缓存
-        String cacheKey = CACHE_PREFIX + key;
-        String cachedValue = redisTemplate.opsForValue().get(cacheKey);
-        
-        if (cachedValue != null) {
-            try {
-                return objectMapper.readValue(cachedValue, typeRef);
-            } catch (JsonProcessingException e) {
-                log.warn("Failed to parse cached config list for key: {}", key);
-            }
-        }
-        
-        // 查数据库
+    private <T> List<T> parseConfigList(Map<String, String> values, String key, TypeReference<List<T>> typeRef) {
         try {
-            SiteConfig config = getConfigEntity(key);
-            if (config == null || config.getConfigValue() == null) {
+            String value = values.get(key);
+            if (value == null) {
                 return new ArrayList<>();
             }
-            List<T> result = objectMapper.readValue(config.getConfigValue(), typeRef);
-            
-            // 存入缓存
-            redisTemplate.opsForValue().set(cacheKey, config.getConfigValue(), CACHE_TTL);
-            
-            return result;
+            return objectMapper.readValue(value, typeRef);
         } catch (Exception e) {
             log.warn("Failed to parse config list for key: {}, error: {}", key, e.getMessage());
             return new ArrayList<>();
@@ -257,38 +287,12 @@ public class ConfigService {
                 config.setUpdatedAt(LocalDateTime.now());
                 siteConfigMapper.updateById(config);
             }
-            
-            // 清除该配置的缓存
-            clearConfigCache(key);
-            
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize config for key: {}", key, e);
             throw new RuntimeException("Failed to save config: " + key);
         }
     }
 
-    private SiteConfig getConfigEntity(String key) {
-        LambdaQueryWrapper<SiteConfig> query = new LambdaQueryWrapper<>();
-        query.eq(SiteConfig::getConfigKey, key);
-        return siteConfigMapper.selectOne(query);
-    }
-
-    /**
-     * 清除单个配置的缓存
-     */
-    private void clearConfigCache(String key) {
-        String cacheKey = CACHE_PREFIX + key;
-        redisTemplate.delete(cacheKey);
-    }
-
-    /**
-     * 清除聚合配置的缓存
-     */
-    private void clearAllConfigsCache() {
-        String cacheKey = CACHE_PREFIX + "all";
-        redisTemplate.delete(cacheKey);
-    }
-
     private ConfigResponse toResponse(SiteConfig config) {
         return ConfigResponse.builder()
                 .key(config.getConfigKey())
@@ -1,6 +1,7 @@
 package com.blog.api.service;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.blog.api.counter.ViewCountBuffer;
 import com.blog.api.dto.response.DashboardStatsResponse;
 import com.blog.api.entity.Category;
 import com.blog.api.entity.FriendLink;
@@ -25,6 +26,7 @@ public class DashboardService {
     private final CategoryMapper categoryMapper;
     private final TagMapper tagMapper;
     private final FriendLinkMapper friendLinkMapper;
+    private final ViewCountBuffer viewCountBuffer;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
@@ -46,9 +48,13 @@ public class DashboardService {
         if (totalViewCount == null) {
             totalViewCount = 0L;
         }
+        // 加上尚未落库的浏览增量
+        totalViewCount += viewCountBuffer.getTotalPendingCount();
 
-        // Recent posts (limit 5)
-        LambdaQueryWrapper<Post> query = new LambdaQueryWrapper<>();
+        // Recent posts (limit 5)，只查询卡片需要的列
+        LambdaQueryWrapper<Post> query = new LambdaQueryWrapper<Post>()
+                .select(Post::getId, Post::getTitle, Post::getStatus, Post::getViewCount,
+                        Post::getPublishedAt, Post::getCreatedAt);
         query.orderByDesc(Post::getCreatedAt).last("LIMIT 5");
         List<Post> recentPosts = postMapper.selectList(query);
 
@@ -57,7 +63,8 @@ public class DashboardService {
                         .id(post.getId())
                         .title(post.getTitle())
                         .status(post.getStatus())
-                        .viewCount(post.getViewCount())
+                        .viewCount((int) ((post.getViewCount() != null ? post.getViewCount() : 0)
+                                + viewCountBuffer.getPendingCount(post.getId())))
                         .publishedAt(post.getPublishedAt() != null ? post.getPublishedAt().format(DATE_FORMATTER) : null)
                         .createdAt(post.getCreatedAt() != null ? post.getCreatedAt().format(DATE_FORMATTER) : null)
                         .build())
@@ -0,0 +1,93 @@
+package com.blog.api.service;
+
+import com.blog.api.dto.config.SiteBasicConfig;
+import com.blog.api.dto.response.CategoryResponse;
+import com.blog.api.dto.response.PostSummaryResponse;
+import com.blog.api.dto.response.TagResponse;
+import com.blog.api.feed.FeedFormat;
+import com.blog.api.feed.FeedRenderer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * 订阅源服务
+ * 取按发布时间倒序的最新已发布文章渲染为 RSS / Atom / JSON Feed 字节，条目顺序与发布时间一致；
+ * 文章链接指向站点，订阅源自身链接指向 API（站点前端不代理 /api）；
+ * 接口通过条件请求和响应字节缓存保证每个内容版本只渲染一次。
+ */
+@Service
+@RequiredArgsConstructor
+public class FeedService {
+
+    /**
+     * 每个订阅源包含的文章数量
+     */
+    public static final int FEED_SIZE = 20;
+
+    private static final String DEFAULT_TITLE = "Blog";
+
+    private final PostService postService;
+    private final CategoryService categoryService;
+    private final TagService tagService;
+    private final ConfigService configService;
+    private final FeedRenderer feedRenderer;
+
+    /**
+     * 全站订阅源
+     *
+     * @param feedPath 订阅源自身的请求路径（相对 API 地址）
+     */
+    public byte[] getFeed(FeedFormat format, String feedPath) {
+        SiteBasicConfig site = siteConfig();
+        String siteUrl = configService.getSiteUrl();
+        List<PostSummaryResponse> posts = latest(null, null);
+        FeedRenderer.Channel channel = new FeedRenderer.Channel(siteUrl, siteTitle(site), site.getDescription(),
+                siteUrl + "/", configService.getApiUrl() + feedPath);
+        return feedRenderer.render(format, channel, posts);
+    }
+
+    /**
+     * 分类订阅源（包含子孙分类的文章）
+     */
+    public byte[] getCategoryFeed(String slug, FeedFormat format, String feedPath) {
+        CategoryResponse category = categoryService.getBySlug(slug);
+        SiteBasicConfig site = siteConfig();
+        String siteUrl = configService.getSiteUrl();
+        List<PostSummaryResponse> posts = latest(category.getId(), null);
+        FeedRenderer.Channel channel = new FeedRenderer.Channel(siteUrl,
+                category.getName() + " - " + siteTitle(site),
+                StringUtils.hasText(category.getDescription()) ? category.getDescription() : site.getDescription(),
+                siteUrl + "/categories/" + category.getSlug(), configService.getApiUrl() + feedPath);
+        return feedRenderer.render(format, channel, posts);
+    }
+
+    /**
+     * 标签订阅源
+     */
+    public byte[] getTagFeed(String slug, FeedFormat format, String feedPath) {
+        TagResponse tag = tagService.getBySlug(slug);
+        SiteBasicConfig site = siteConfig();
+        String siteUrl = configService.getSiteUrl();
+        List<PostSummaryResponse> posts = latest(null, tag.getId());
+        FeedRenderer.Channel channel = new FeedRenderer.Channel(siteUrl,
+                tag.getName() + " - " + siteTitle(site), site.getDescription(),
+                siteUrl + "/tags/" + tag.getSlug(), configService.getApiUrl() + feedPath);
+        return feedRenderer.render(format, channel, posts);
+    }
+
+    private List<PostSummaryResponse> latest(Long categoryId, Long tagId) {
+        return postService.getLatestPublished(FEED_SIZE, categoryId, tagId);
+    }
+
+    private SiteBasicConfig siteConfig() {
+        SiteBasicConfig basic = configService.getAllConfigs().getBasic();
+        return basic != null ? basic : new SiteBasicConfig();
+    }
+
+    private static String siteTitle(SiteBasicConfig site) {
+        return StringUtils.hasText(site.getTitle()) ? site.getTitle() : DEFAULT_TITLE;
+    }
+}
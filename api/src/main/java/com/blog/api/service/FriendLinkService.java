@@ -1,6 +1,8 @@
 package com.blog.api.service;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
 import com.blog.api.dto.request.FriendLinkRequest;
 import com.blog.api.dto.response.FriendLinkResponse;
 import com.blog.api.entity.FriendLink;
@@ -20,6 +22,7 @@ import java.util.stream.Collectors;
 public class FriendLinkService {
 
     private final FriendLinkMapper friendLinkMapper;
+    private final ContentVersions contentVersions;
 
     @Transactional
     public FriendLinkResponse create(FriendLinkRequest request) {
@@ -41,6 +44,7 @@ public class FriendLinkService {
         link.setUpdatedAt(LocalDateTime.now());
 
         friendLinkMapper.insert(link);
+        contentVersions.bumpAfterCommit(ContentScope.FRIEND_LINK, link.getId());
         return toResponse(link);
     }
 
@@ -89,6 +93,7 @@ public class FriendLinkService {
         link.setUpdatedAt(LocalDateTime.now());
 
         friendLinkMapper.updateById(link);
+        contentVersions.bumpAfterCommit(ContentScope.FRIEND_LINK, link.getId());
         return toResponse(link);
     }
 
@@ -99,6 +104,7 @@ public class FriendLinkService {
             throw new BusinessException(ErrorCode.FRIEND_LINK_NOT_FOUND);
         }
         friendLinkMapper.deleteById(id);
+        contentVersions.bumpAfterCommit(ContentScope.FRIEND_LINK, id);
     }
 
     private FriendLinkResponse toResponse(FriendLink link) {
@@ -0,0 +1,158 @@
+package com.blog.api.service;
+
+import com.blog.api.dto.response.PostResponse;
+import com.blog.api.dto.response.PostSummaryResponse;
+import com.blog.api.entity.Post;
+import com.blog.api.loader.PostRelationLoaders;
+import com.blog.api.mapper.PostMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+/**
+ * 文章响应组装器
+ * 单篇和列表统一走批量加载器：分类、标签、作者各一次 IN 查询，避免 N+1
+ */
+@Component
+@RequiredArgsConstructor
+public class PostAssembler {
+
+    private final PostMapper postMapper;
+
+    public PostResponse toResponse(Post post) {
+        return toResponses(List.of(post)).get(0);
+    }
+
+    public List<PostResponse> toResponses(List<Post> posts) {
+        return assemble(posts, this::build);
+    }
+
+    /**
+     * 列表项转换（不含正文），posts 通常来自 {@link PostMapper#summaryQuery()}
+     */
+    public List<PostSummaryResponse> toSummaries(List<Post> posts) {
+        return assemble(posts, this::buildSummary);
+    }
+
+    private <T> List<T> assemble(List<Post> posts, BiFunction<Post, Relations, T> builder) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        PostRelationLoaders loaders = PostRelationLoaders.current(postMapper);
+
+        // 先登记所有 key，再统一批量加载
+        List<Relations> relations = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            relations.add(new Relations(
+                    loaders.categories().load(post.getCategoryId()),
+                    loaders.tagsByPostId().load(post.getId()),
+                    loaders.authors().load(post.getAuthorId())));
+        }
+        loaders.dispatchAll();
+
+        List<T> responses = new ArrayList<>(posts.size());
+        for (int i = 0; i < posts.size(); i++) {
+            responses.add(builder.apply(posts.get(i), relations.get(i)));
+        }
+        return responses;
+    }
+
+    private PostResponse build(Post post, Relations relations) {
+        PostResponse.PostResponseBuilder builder = PostResponse.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .slug(post.getSlug())
+                .summary(post.getSummary())
+                .content(post.getContent())
+                .cover(normalizeCoverPath(post.getCover()))
+                .authorId(post.getAuthorId())
+                .categoryId(post.getCategoryId())
+                .status(post.getStatus())
+                .viewCount(post.getViewCount())
+                .publishedAt(post.getPublishedAt())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt());
+
+        // 设置分类信息
+        PostMapper.CategoryInfo category = relations.category().join();
+        if (category != null) {
+            builder.categoryName(category.getName());
+            builder.categorySlug(category.getSlug());
+        }
+
+        // 设置作者信息
+        PostMapper.AuthorInfo author = relations.author().join();
+        if (author != null) {
+            builder.authorName(StringUtils.hasText(author.getNickname()) ? author.getNickname() : author.getUsername());
+        }
+
+        // 设置标签信息
+        List<PostResponse.TagInfo> tags = relations.tags().join();
+        if (!tags.isEmpty()) {
+            builder.tags(tags);
+        }
+
+        return builder.build();
+    }
+
+    private PostSummaryResponse buildSummary(Post post, Relations relations) {
+        PostSummaryResponse.PostSummaryResponseBuilder builder = PostSummaryResponse.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .slug(post.getSlug())
+                .summary(post.getSummary())
+                .cover(normalizeCoverPath(post.getCover()))
+                .authorId(post.getAuthorId())
+                .categoryId(post.getCategoryId())
+                .status(post.getStatus())
+                .viewCount(post.getViewCount())
+                .publishedAt(post.getPublishedAt())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt());
+
+        PostMapper.CategoryInfo category = relations.category().join();
+        if (category != null) {
+            builder.categoryName(category.getName());
+            builder.categorySlug(category.getSlug());
+        }
+
+        PostMapper.AuthorInfo author = relations.author().join();
+        if (author != null) {
+            builder.authorName(StringUtils.hasText(author.getNickname()) ? author.getNickname() : author.getUsername());
+        }
+
+        List<PostResponse.TagInfo> tags = relations.tags().join();
+        if (!tags.isEmpty()) {
+            builder.tags(tags);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 规范化封面图片路径
+     * 如果路径不以 http 开头且不以 /uploads 开头，则添加 /uploads 前缀
+     */
+    private String normalizeCoverPath(String cover) {
+        if (cover == null || cover.isBlank()) {
+            return cover;
+        }
+        // 已经是完整 URL 或已包含 /uploads 前缀
+        if (cover.startsWith("http://") || cover.startsWith("https://") || cover.startsWith("/uploads")) {
+            return cover;
+        }
+        // 添加 /uploads 前缀
+        return "/uploads/" + cover;
+    }
+
+    private record Relations(CompletableFuture<PostMapper.CategoryInfo> category,
+                             CompletableFuture<List<PostResponse.TagInfo>> tags,
+                             CompletableFuture<PostMapper.AuthorInfo> author) {
+    }
+}
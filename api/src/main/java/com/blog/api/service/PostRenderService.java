@@ -0,0 +1,284 @@
+package com.blog.api.service;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.dto.response.PostRenderResponse;
+import com.blog.api.entity.Post;
+import com.blog.api.entity.PostRender;
+import com.blog.api.exception.BusinessException;
+import com.blog.api.exception.ErrorCode;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.mapper.PostRenderMapper;
+import com.blog.api.render.MarkdownRenderer;
+import com.blog.api.render.RenderResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 文章渲染服务
+ * 写入时把 Markdown 渲染为 HTML 并持久化到 post_render，按内容哈希 + 渲染器版本跳过重复渲染；
+ * 渲染器版本变化时通过 Fork/Join 并行重新渲染存量文章
+ */
+@Slf4j
+@Service
+public class PostRenderService {
+
+    /**
+     * 批量重渲染时每批读取的文章数
+     */
+    private static final int BATCH_SIZE = 100;
+
+    /**
+     * Fork/Join 拆分阈值：不超过该数量的文章直接在当前任务中渲染
+     */
+    private static final int SPLIT_THRESHOLD = 4;
+
+    private static final TypeReference<List<RenderResult.TocEntry>> TOC_TYPE = new TypeReference<>() {
+    };
+
+    private final PostMapper postMapper;
+    private final PostRenderMapper postRenderMapper;
+    private final MarkdownRenderer markdownRenderer;
+    private final ObjectMapper objectMapper;
+    private final ContentVersions contentVersions;
+    private final boolean rerenderOnStartup;
+    private final ForkJoinPool renderPool;
+    private final AtomicBoolean rerendering = new AtomicBoolean();
+
+    public PostRenderService(PostMapper postMapper,
+                             PostRenderMapper postRenderMapper,
+                             MarkdownRenderer markdownRenderer,
+                             ObjectMapper objectMapper,
+                             ContentVersions contentVersions,
+                             @Value("${blog.render.rerender-on-startup:true}") boolean rerenderOnStartup,
+                             @Value("${blog.render.parallelism:0}") int parallelism) {
+        this.postMapper = postMapper;
+        this.postRenderMapper = postRenderMapper;
+        this.markdownRenderer = markdownRenderer;
+        this.objectMapper = objectMapper;
+        this.contentVersions = contentVersions;
+        this.rerenderOnStartup = rerenderOnStartup;
+        this.renderPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 内容或渲染器版本变化时重新渲染并保存
+     *
+     * @return 是否执行了渲染
+     */
+    public boolean renderIfChanged(Post post) {
+        String contentHash = hash(post.getContent());
+        PostRender existing = postRenderMapper.selectFingerprint(post.getId());
+        if (existing != null && contentHash.equals(existing.getContentHash()) && isCurrentVersion(existing)) {
+            return false;
+        }
+        postRenderMapper.upsertBatch(List.of(render(post.getId(), post.getContent(), contentHash)));
+        return true;
+    }
+
+    /**
+     * 获取渲染结果；尚未渲染、内容已变化（如写入时渲染失败）或版本过期时即时渲染并保存
+     */
+    public PostRenderResponse getByPostId(Long postId) {
+        Post post = postMapper.selectOne(new LambdaQueryWrapper<Post>()
+                .select(Post::getId, Post::getContent)
+                .eq(Post::getId, postId));
+        if (post == null) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
+        String contentHash = hash(post.getContent());
+        PostRender render = postRenderMapper.selectById(postId);
+        if (render == null || !contentHash.equals(render.getContentHash()) || !isCurrentVersion(render)) {
+            render = render(post.getId(), post.getContent(), contentHash);
+            postRenderMapper.upsertBatch(List.of(render));
+        }
+        return toResponse(render);
+    }
+
+    /**
+     * 批量重新渲染
+     *
+     * @param force true 表示重新渲染全部文章，false 只渲染缺失、内容已变化或版本过期的文章
+     * @return 成功渲染的文章数
+     */
+    public int rerender(boolean force) {
+        if (!rerendering.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.CONFLICT, "Re-render already in progress");
+        }
+        try {
+            List<Long> postIds = force
+                    ? postMapper.selectObjs(new LambdaQueryWrapper<Post>().select(Post::getId).orderByAsc(Post::getId))
+                            .stream().map(id -> ((Number) id).longValue()).toList()
+                    : postRenderMapper.selectOutdatedPostIds(MarkdownRenderer.RENDERER_VERSION);
+            if (postIds.isEmpty()) {
+                return 0;
+            }
+
+            long start = System.currentTimeMillis();
+            int rendered = 0;
+            for (int from = 0; from < postIds.size(); from += BATCH_SIZE) {
+                List<Long> batchIds = postIds.subList(from, Math.min(from + BATCH_SIZE, postIds.size()));
+                List<Post> posts = postMapper.selectList(new LambdaQueryWrapper<Post>()
+                        .select(Post::getId, Post::getContent)
+                        .in(Post::getId, batchIds));
+                List<PostRender> renders = renderPool.invoke(new RenderTask(posts, 0, posts.size()));
+                if (!renders.isEmpty()) {
+                    postRenderMapper.upsertBatch(renders);
+                    rendered += renders.size();
+                }
+            }
+            if (rendered > 0) {
+                contentVersions.bump(ContentScope.POST, null);
+            }
+            log.info("Re-rendered {} of {} posts in {} ms (renderer version {}, parallelism {})",
+                    rendered, postIds.size(), System.currentTimeMillis() - start,
+                    MarkdownRenderer.RENDERER_VERSION, renderPool.getParallelism());
+            return rendered;
+        } finally {
+            rerendering.set(false);
+        }
+    }
+
+    /**
+     * 启动后在后台补齐缺失、内容已变化或版本过期的渲染结果，失败不影响启动
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!rerenderOnStartup) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                rerender(false);
+            } catch (Exception e) {
+                log.warn("Startup re-render failed: {}", e.getMessage());
+            }
+        }, "post-rerender");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderPool.shutdownNow();
+    }
+
+    private PostRender render(Long postId, String content, String contentHash) {
+        RenderResult result = markdownRenderer.render(content);
+        PostRender render = new PostRender();
+        render.setPostId(postId);
+        render.setContentHash(contentHash);
+        render.setRendererVersion(MarkdownRenderer.RENDERER_VERSION);
+        render.setHtml(result.html());
+        render.setToc(writeToc(result.toc()));
+        render.setWordCount(result.wordCount());
+        render.setReadingTime(result.readingTimeMinutes());
+        render.setRenderedAt(LocalDateTime.now());
+        return render;
+    }
+
+    private boolean isCurrentVersion(PostRender render) {
+        return Integer.valueOf(MarkdownRenderer.RENDERER_VERSION).equals(render.getRendererVersion());
+    }
+
+    private PostRenderResponse toResponse(PostRender render) {
+        return PostRenderResponse.builder()
+                .postId(render.getPostId())
+                .contentHash(render.getContentHash())
+                .rendererVersion(render.getRendererVersion())
+                .html(render.getHtml())
+                .toc(readToc(render.getToc()))
+                .wordCount(render.getWordCount())
+                .readingTime(render.getReadingTime())
+                .renderedAt(render.getRenderedAt())
+                .build();
+    }
+
+    private String writeToc(List<RenderResult.TocEntry> toc) {
+        try {
+            return objectMapper.writeValueAsString(toc);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize toc", e);
+        }
+    }
+
+    private List<RenderResult.TocEntry> readToc(String toc) {
+        if (toc == null || toc.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(toc, TOC_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to parse stored toc: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest((content != null ? content : "").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 按区间二分拆分的渲染任务；单篇渲染失败只记录日志并跳过
+     */
+    private class RenderTask extends RecursiveTask<List<PostRender>> {
+
+        private final List<Post> posts;
+        private final int from;
+        private final int to;
+
+        RenderTask(List<Post> posts, int from, int to) {
+            this.posts = posts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<PostRender> compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                List<PostRender> renders = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    Post post = posts.get(i);
+                    try {
+                        renders.add(render(post.getId(), post.getContent(), hash(post.getContent())));
+                    } catch (Exception e) {
+                        log.warn("Failed to render post {}: {}", post.getId(), e.getMessage());
+                    }
+                }
+                return renders;
+            }
+            int mid = (from + to) >>> 1;
+            RenderTask left = new RenderTask(posts, from, mid);
+            left.fork();
+            List<PostRender> right = new RenderTask(posts, mid, to).compute();
+            List<PostRender> merged = new ArrayList<>(left.join());
+            merged.addAll(right);
+            return merged;
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package com.blog.api.service;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.cache.PostDetailCache;
+import com.blog.api.counter.TrendingCounter;
+import com.blog.api.counter.ViewCountBuffer;
 import com.blog.api.dto.request.PostRequest;
+import com.blog.api.dto.response.CursorPageResponse;
 import com.blog.api.dto.response.PageResponse;
+import com.blog.api.dto.response.PostRenderResponse;
 import com.blog.api.dto.response.PostResponse;
-import com.blog.api.entity.Category;
+import com.blog.api.dto.response.PostSummaryResponse;
 import com.blog.api.entity.Post;
 import com.blog.api.entity.PostTag;
-import com.blog.api.entity.Tag;
 import com.blog.api.entity.User;
 import com.blog.api.exception.BusinessException;
 import com.blog.api.exception.ErrorCode;
@@ -17,30 +24,46 @@ import com.blog.api.mapper.PostMapper;
 import com.blog.api.mapper.PostTagMapper;
 import com.blog.api.mapper.TagMapper;
 import com.blog.api.mapper.UserMapper;
+import com.blog.api.search.PostNavigationIndex;
+import com.blog.api.search.RelatedPostIndex;
+import com.blog.api.util.PageCursor;
 import com.blog.api.util.SlugUtils;
+import com.blog.api.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
     private final PostMapper postMapper;
     private final PostTagMapper postTagMapper;
-    private final CategoryMapper categoryMapper;
     private final TagMapper tagMapper;
+    private final CategoryMapper categoryMapper;
     private final UserMapper userMapper;
+    private final PostDetailCache postDetailCache;
+    private final PostAssembler postAssembler;
+    private final ViewCountBuffer viewCountBuffer;
+    private final TrendingCounter trendingCounter;
+    private final PostRenderService postRenderService;
+    private final ContentVersions contentVersions;
+    private final RelatedPostIndex relatedPostIndex;
+    private final PostNavigationIndex postNavigationIndex;
 
     @Transactional
     public PostResponse create(PostRequest request, String username) {
@@ -84,71 +107,171 @@ public class PostService {
         postMapper.insert(post);
 
         // Save tags
-        savePostTags(post.getId(), request.getTagIds());
+        List<Long> tagIds = savePostTags(post.getId(), request.getTagIds());
+        adjustPostCounts(false, null, List.of(), isPublished(post), post.getCategoryId(), tagIds);
+
+        renderContent(post);
+        evictCache(post.getId(), post.getSlug());
 
-        return toResponse(post);
+        return postAssembler.toResponse(post);
     }
 
     public PostResponse getById(Long id) {
-        Post post = postMapper.selectById(id);
-        if (post == null) {
-            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
-        }
-        return toResponse(post);
+        return withCurrentViews(postDetailCache.getById(id, () -> {
+            Post post = postMapper.selectById(id);
+            if (post == null) {
+                throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+            }
+            return postAssembler.toResponse(post);
+        }));
     }
 
+    /**
+     * 文章详情（前台）；上一篇 / 下一篇导航在缓存之外附加，相邻文章变化时无需失效本文缓存
+     */
     public PostResponse getBySlug(String slug) {
-        LambdaQueryWrapper<Post> query = new LambdaQueryWrapper<>();
-        query.eq(Post::getSlug, slug);
-        Post post = postMapper.selectOne(query);
-        if (post == null) {
-            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
-        }
-        return toResponse(post);
+        return postNavigationIndex.attach(withCurrentViews(postDetailCache.getBySlug(slug, () -> {
+            LambdaQueryWrapper<Post> query = new LambdaQueryWrapper<>();
+            query.eq(Post::getSlug, slug);
+            Post post = postMapper.selectOne(query);
+            if (post == null) {
+                throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+            }
+            return postAssembler.toResponse(post);
+        })));
     }
 
-    public PageResponse<PostResponse> getPage(int page, int size, Integer status, Long categoryId) {
+    /**
+     * @param includeDescendants 分类筛选是否包含全部子孙分类
+     */
+    public PageResponse<PostSummaryResponse> getPage(int page, int size, Integer status, Long categoryId,
+                                                     boolean includeDescendants) {
         Page<Post> pageParam = new Page<>(page + 1, size);
-        LambdaQueryWrapper<Post> query = new LambdaQueryWrapper<>();
+        LambdaQueryWrapper<Post> query = PostMapper.summaryQuery();
 
         if (status != null) {
             query.eq(Post::getStatus, status);
         }
-        if (categoryId != null) {
-            query.eq(Post::getCategoryId, categoryId);
-        }
+        applyCategoryFilter(query, categoryId, includeDescendants);
         query.orderByDesc(Post::getCreatedAt);
 
         Page<Post> result = postMapper.selectPage(pageParam, query);
 
-        // 批量转换，避免 N+1 查询
-        List<PostResponse> content = toResponseList(result.getRecords());
+        // 只查列表列，批量转换，避免 N+1 查询
+        List<PostSummaryResponse> content = postAssembler.toSummaries(result.getRecords());
+        content.forEach(this::applyPendingViews);
 
         return PageResponse.of(content, page, size, result.getTotal());
     }
 
-    public PageResponse<PostResponse> getPageByTagId(int page, int size, Long tagId) {
-        Page<Post> pageParam = new Page<>(page + 1, size);
-        
-        // Get post IDs by tag ID
-        List<Long> postIds = postMapper.selectPostIdsByTagId(tagId);
-        if (postIds.isEmpty()) {
-            return PageResponse.of(List.of(), page, size, 0);
+    /**
+     * 游标分页：按 (created_at, id) 倒序 seek，不使用 OFFSET
+     *
+     * @param cursor     上一页返回的 nextCursor，为空表示第一页
+     * @param includeDescendants 分类筛选是否包含全部子孙分类
+     * @param tagIds     标签筛选，可为空
+     * @param matchAll   true 表示必须包含全部标签，false 表示包含任一标签
+     * @param withTotal  是否额外查询总数
+     */
+    public CursorPageResponse<PostSummaryResponse> getCursorPage(String cursor, int size, Integer status, Long categoryId,
+                                                          boolean includeDescendants, List<Long> tagIds,
+                                                          boolean matchAll, boolean withTotal) {
+        PageCursor position = PageCursor.decode(cursor);
+
+        LambdaQueryWrapper<Post> query = PostMapper.summaryQuery();
+        applyListFilter(query, status, categoryId, includeDescendants, tagIds, matchAll);
+        if (position != null) {
+            query.and(w -> w.lt(Post::getCreatedAt, position.createdAt())
+                    .or(o -> o.eq(Post::getCreatedAt, position.createdAt()).lt(Post::getId, position.id())));
+        }
+        query.orderByDesc(Post::getCreatedAt)
+             .orderByDesc(Post::getId)
+             .last("LIMIT " + (size + 1));
+
+        List<Post> posts = postMapper.selectList(query);
+        String nextCursor = null;
+        if (posts.size() > size) {
+            posts = posts.subList(0, size);
+            Post last = posts.get(size - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getId()).encode();
         }
 
-        LambdaQueryWrapper<Post> query = new LambdaQueryWrapper<>();
-        query.in(Post::getId, postIds)
-             .eq(Post::getStatus, 1) // Only published posts
-             .orderByDesc(Post::getCreatedAt);
+        Long total = null;
+        if (withTotal) {
+            LambdaQueryWrapper<Post> countQuery = new LambdaQueryWrapper<>();
+            applyListFilter(countQuery, status, categoryId, includeDescendants, tagIds, matchAll);
+            total = postMapper.selectCount(countQuery);
+        }
 
-        Page<Post> result = postMapper.selectPage(pageParam, query);
+        List<PostSummaryResponse> content = postAssembler.toSummaries(posts);
+        content.forEach(this::applyPendingViews);
 
-        // 批量转换，避免 N+1 查询
-        List<PostResponse> content = toResponseList(result.getRecords());
+        return CursorPageResponse.of(content, size, nextCursor, total);
+    }
+
+    /**
+     * 最新发布的已发布文章（按发布时间倒序，不查询总数），供订阅源使用
+     *
+     * @param categoryId 分类筛选（包含子孙分类），可为空
+     * @param tagId      标签筛选，可为空
+     */
+    public List<PostSummaryResponse> getLatestPublished(int size, Long categoryId, Long tagId) {
+        LambdaQueryWrapper<Post> query = PostMapper.summaryQuery();
+        applyListFilter(query, 1, categoryId, true, tagId != null ? List.of(tagId) : null, false);
+        query.orderByDesc(Post::getPublishedAt)
+             .orderByDesc(Post::getId)
+             .last("LIMIT " + size);
+
+        List<PostSummaryResponse> content = postAssembler.toSummaries(postMapper.selectList(query));
+        content.forEach(this::applyPendingViews);
+        return content;
+    }
+
+    public PageResponse<PostSummaryResponse> getPageByTagId(int page, int size, Long tagId) {
+        return getPageByTags(page, size, List.of(tagId), null, false, false);
+    }
+
+    /**
+     * 按标签分页查询已发布文章（单条 post_tag -> post 连接查询）
+     *
+     * @param categoryId 分类筛选，可为空
+     * @param includeDescendants 分类筛选是否包含全部子孙分类
+     * @param matchAll   true 表示必须包含全部标签，false 表示包含任一标签
+     */
+    public PageResponse<PostSummaryResponse> getPageByTags(int page, int size, List<Long> tagIds, Long categoryId,
+                                                    boolean includeDescendants, boolean matchAll) {
+        List<Long> distinctTagIds = tagIds.stream().distinct().toList();
+        Page<Post> pageParam = new Page<>(page + 1, size);
+        IPage<Post> result = postMapper.selectPublishedPageByTags(pageParam, distinctTagIds, categoryId,
+                includeDescendants, matchAll);
+
+        // 只查列表列，批量转换，避免 N+1 查询
+        List<PostSummaryResponse> content = postAssembler.toSummaries(result.getRecords());
+        content.forEach(this::applyPendingViews);
 
         return PageResponse.of(content, page, size, result.getTotal());
     }
 
+    /**
+     * 相关文章（按标签加权 Jaccard + 同分类排序，结果来自内存索引）
+     */
+    public List<PostSummaryResponse> getRelated(Long id, int limit) {
+        List<Long> ids = relatedPostIndex.related(id, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> posts = postMapper.selectList(PostMapper.summaryQuery()
+                        .in(Post::getId, ids)
+                        .eq(Post::getStatus, 1))
+                .stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        // 保持相似度顺序
+        List<Post> ordered = ids.stream().map(posts::get).filter(Objects::nonNull).toList();
+        List<PostSummaryResponse> content = postAssembler.toSummaries(ordered);
+        content.forEach(this::applyPendingViews);
+        return content;
+    }
+
     @Transactional
     public PostResponse update(Long id, PostRequest request) {
         Post post = postMapper.selectById(id);
@@ -156,6 +279,11 @@ public class PostService {
             throw new BusinessException(ErrorCode.POST_NOT_FOUND);
         }
 
+        String oldSlug = post.getSlug();
+        boolean wasPublished = isPublished(post);
+        Long oldCategoryId = post.getCategoryId();
+        List<Long> oldTagIds = postMapper.selectTagIdsByPostId(id);
+
         // Handle slug update
         String slug = request.getSlug();
         if (StringUtils.hasText(slug) && !slug.equals(post.getSlug())) {
@@ -183,12 +311,17 @@ public class PostService {
         postMapper.updateById(post);
 
         // Update tags
+        List<Long> tagIds = oldTagIds;
         if (request.getTagIds() != null) {
             postTagMapper.deleteByPostId(post.getId());
-            savePostTags(post.getId(), request.getTagIds());
+            tagIds = savePostTags(post.getId(), request.getTagIds());
         }
+        adjustPostCounts(wasPublished, oldCategoryId, oldTagIds, isPublished(post), post.getCategoryId(), tagIds);
+
+        renderContent(post);
+        evictCache(post.getId(), oldSlug, post.getSlug());
 
-        return toResponse(post);
+        return postAssembler.toResponse(post);
     }
 
     @Transactional
@@ -197,178 +330,168 @@ public class PostService {
         if (post == null) {
             throw new BusinessException(ErrorCode.POST_NOT_FOUND);
         }
+        List<Long> tagIds = postMapper.selectTagIdsByPostId(id);
         postTagMapper.deleteByPostId(id);
         postMapper.deleteById(id);
+        adjustPostCounts(isPublished(post), post.getCategoryId(), tagIds, false, null, List.of());
+
+        evictCache(id, post.getSlug());
     }
 
-    /**
-     * 原子更新浏览量（解决并发问题）
-     */
-    public void incrementViewCount(Long id) {
-        postMapper.incrementViewCount(id);
+    public PostRenderResponse getRendered(Long id) {
+        return postRenderService.getByPostId(id);
     }
 
-    private void savePostTags(Long postId, List<Long> tagIds) {
-        if (tagIds != null && !tagIds.isEmpty()) {
-            for (Long tagId : tagIds) {
-                PostTag postTag = new PostTag();
-                postTag.setPostId(postId);
-                postTag.setTagId(tagId);
-                postTagMapper.insert(postTag);
-            }
+    /**
+     * 写入时预渲染 Markdown；失败不影响保存，读取时发现内容哈希不一致会重新渲染，启动时的补齐也会覆盖
+     */
+    private void renderContent(Post post) {
+        try {
+            postRenderService.renderIfChanged(post);
+        } catch (Exception e) {
+            log.warn("Failed to render post {}: {}", post.getId(), e.getMessage());
         }
     }
 
     /**
-     * 批量转换文章列表，避免 N+1 查询
+     * 记录浏览量（写缓冲，定时批量落库；同时计入热门统计）
+     * 接口无需登录，只统计已发布的文章，未知 ID 直接丢弃，避免任意 ID 写入浏览量日志和热门统计的 Redis 分桶
      */
-    private List<PostResponse> toResponseList(List<Post> posts) {
-        if (posts.isEmpty()) {
-            return List.of();
+    public void incrementViewCount(Long id) {
+        boolean published;
+        try {
+            published = postNavigationIndex.isPublished(id);
+        } catch (Exception e) {
+            log.warn("Failed to check post {} before recording a view: {}", id, e.getMessage());
+            return;
         }
-
-        // 收集所有分类 ID
-        Set<Long> categoryIds = posts.stream()
-                .map(Post::getCategoryId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        // 收集所有文章 ID
-        List<Long> postIds = posts.stream()
-                .map(Post::getId)
-                .collect(Collectors.toList());
-
-        // 批量查询分类
-        Map<Long, PostMapper.CategoryInfo> categoryMap = Map.of();
-        if (!categoryIds.isEmpty()) {
-            categoryMap = postMapper.selectCategoriesByIds(new ArrayList<>(categoryIds))
-                    .stream()
-                    .collect(Collectors.toMap(PostMapper.CategoryInfo::getId, Function.identity()));
+        if (!published) {
+            return;
         }
+        viewCountBuffer.increment(id);
+        trendingCounter.record(id);
+    }
+
+    /**
+     * 返回带当前浏览量的副本（缓存中的对象是共享的，不能直接修改）；
+     * 缓存中的浏览量只在数据库不可用时作为基数，浏览量落库后无需失效详情缓存
+     */
+    private PostResponse withCurrentViews(PostResponse response) {
+        return response.toBuilder()
+                .viewCount((int) viewCountBuffer.getViewCount(response.getId(), baseViewCount(response)))
+                .build();
+    }
 
-        // 批量查询标签
-        Map<Long, List<PostResponse.TagInfo>> postTagsMap = Map.of();
-        if (!postIds.isEmpty()) {
-            postTagsMap = postMapper.selectTagsByPostIds(postIds)
-                    .stream()
-                    .collect(Collectors.groupingBy(
-                            PostMapper.TagWithPostId::getPostId,
-                            Collectors.mapping(
-                                    t -> PostResponse.TagInfo.builder()
-                                            .id(t.getId())
-                                            .name(t.getName())
-                                            .slug(t.getSlug())
-                                            .build(),
-                                    Collectors.toList()
-                            )
-                    ));
+    private void applyPendingViews(PostSummaryResponse response) {
+        long pending = viewCountBuffer.getPendingCount(response.getId());
+        if (pending > 0) {
+            long base = response.getViewCount() != null ? response.getViewCount() : 0;
+            response.setViewCount((int) (base + pending));
         }
+    }
 
-        // 转换
-        final Map<Long, PostMapper.CategoryInfo> finalCategoryMap = categoryMap;
-        final Map<Long, List<PostResponse.TagInfo>> finalPostTagsMap = postTagsMap;
-
-        return posts.stream()
-                .map(post -> {
-                    PostResponse.PostResponseBuilder builder = PostResponse.builder()
-                            .id(post.getId())
-                            .title(post.getTitle())
-                            .slug(post.getSlug())
-                            .summary(post.getSummary())
-                            .content(post.getContent())
-                            .cover(normalizeCoverPath(post.getCover()))
-                            .authorId(post.getAuthorId())
-                            .categoryId(post.getCategoryId())
-                            .status(post.getStatus())
-                            .viewCount(post.getViewCount())
-                            .publishedAt(post.getPublishedAt())
-                            .createdAt(post.getCreatedAt())
-                            .updatedAt(post.getUpdatedAt());
-
-                    // 设置分类信息
-                    if (post.getCategoryId() != null) {
-                        PostMapper.CategoryInfo category = finalCategoryMap.get(post.getCategoryId());
-                        if (category != null) {
-                            builder.categoryName(category.getName());
-                            builder.categorySlug(category.getSlug());
-                        }
-                    }
-
-                    // 设置标签信息
-                    List<PostResponse.TagInfo> tags = finalPostTagsMap.getOrDefault(post.getId(), List.of());
-                    if (!tags.isEmpty()) {
-                        builder.tags(tags);
-                    }
-
-                    return builder.build();
-                })
-                .collect(Collectors.toList());
+    private long baseViewCount(PostResponse response) {
+        return response.getViewCount() != null ? response.getViewCount() : 0;
     }
 
     /**
-     * 单个文章转换（用于详情查询）
+     * 列表筛选条件；标签条件使用 EXISTS 按 post_tag(post_id, tag_id) 唯一索引逐行探测，
+     * 适合按 created_at 顺序扫描的游标分页
      */
-    private PostResponse toResponse(Post post) {
-        PostResponse.PostResponseBuilder builder = PostResponse.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .slug(post.getSlug())
-                .summary(post.getSummary())
-                .content(post.getContent())
-                .cover(normalizeCoverPath(post.getCover()))
-                .authorId(post.getAuthorId())
-                .categoryId(post.getCategoryId())
-                .status(post.getStatus())
-                .viewCount(post.getViewCount())
-                .publishedAt(post.getPublishedAt())
-                .createdAt(post.getCreatedAt())
-                .updatedAt(post.getUpdatedAt());
-
-        // Get category name
-        if (post.getCategoryId() != null) {
-            Category category = categoryMapper.selectById(post.getCategoryId());
-            if (category != null) {
-                builder.categoryName(category.getName());
-                builder.categorySlug(category.getSlug());
+    private void applyListFilter(LambdaQueryWrapper<Post> query, Integer status, Long categoryId,
+                                 boolean includeDescendants, List<Long> tagIds, boolean matchAll) {
+        if (status != null) {
+            query.eq(Post::getStatus, status);
+        }
+        applyCategoryFilter(query, categoryId, includeDescendants);
+        if (tagIds == null || tagIds.isEmpty()) {
+            return;
+        }
+        List<Long> distinctTagIds = tagIds.stream().distinct().toList();
+        if (matchAll) {
+            for (Long tagId : distinctTagIds) {
+                query.exists("SELECT 1 FROM post_tag pt WHERE pt.post_id = post.id AND pt.tag_id = {0}", tagId);
             }
+        } else {
+            String placeholders = IntStream.range(0, distinctTagIds.size())
+                    .mapToObj(i -> "{" + i + "}")
+                    .collect(Collectors.joining(","));
+            query.exists("SELECT 1 FROM post_tag pt WHERE pt.post_id = post.id AND pt.tag_id IN (" + placeholders + ")",
+                    distinctTagIds.toArray());
         }
+    }
 
-        // Get tags
-        List<Long> tagIds = postMapper.selectTagIdsByPostId(post.getId());
-        if (!tagIds.isEmpty()) {
-            List<PostResponse.TagInfo> tags = tagIds.stream()
-                    .map(tagId -> {
-                        Tag tag = tagMapper.selectById(tagId);
-                        if (tag != null) {
-                            return PostResponse.TagInfo.builder()
-                                    .id(tag.getId())
-                                    .name(tag.getName())
-                                    .slug(tag.getSlug())
-                                    .build();
-                        }
-                        return null;
-                    })
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-            builder.tags(tags);
+    /**
+     * 分类筛选；包含子孙分类时通过闭包表主键 (ancestor_id, descendant_id) 取整棵子树，单条 IN 子查询完成
+     */
+    private static void applyCategoryFilter(LambdaQueryWrapper<Post> query, Long categoryId, boolean includeDescendants) {
+        if (categoryId == null) {
+            return;
         }
+        if (includeDescendants) {
+            query.inSql(Post::getCategoryId, "SELECT descendant_id FROM category_closure WHERE ancestor_id = " + categoryId);
+        } else {
+            query.eq(Post::getCategoryId, categoryId);
+        }
+    }
 
-        return builder.build();
+    /**
+     * 事务提交后失效文章详情缓存（所有节点）
+     */
+    private void evictCache(Long id, String... slugs) {
+        // 先递增版本再失效：加载中的读取方看到版本变化后不会把旧数据写回缓存
+        contentVersions.bumpAfterCommit(ContentScope.POST, id);
+        TransactionUtils.afterCommit(() -> postDetailCache.invalidate(id, slugs));
     }
 
     /**
-     * 规范化封面图片路径
-     * 如果路径不以 http 开头且不以 /uploads 开头，则添加 /uploads 前缀
+     * 保存文章标签关联
+     *
+     * @return 实际保存的标签 ID（去重后）
      */
-    private String normalizeCoverPath(String cover) {
-        if (cover == null || cover.isBlank()) {
-            return cover;
+    private List<Long> savePostTags(Long postId, List<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return List.of();
         }
-        // 已经是完整 URL 或已包含 /uploads 前缀
-        if (cover.startsWith("http://") || cover.startsWith("https://") || cover.startsWith("/uploads")) {
-            return cover;
+        List<Long> distinctTagIds = tagIds.stream().filter(Objects::nonNull).distinct().toList();
+        for (Long tagId : distinctTagIds) {
+            PostTag postTag = new PostTag();
+            postTag.setPostId(postId);
+            postTag.setTagId(tagId);
+            postTagMapper.insert(postTag);
         }
-        // 添加 /uploads 前缀
-        return "/uploads/" + cover;
+        return distinctTagIds;
+    }
+
+    /**
+     * 在同一事务中按变更前后的差异增减标签、分类的已发布文章数（只统计已发布文章）
+     */
+    private void adjustPostCounts(boolean wasPublished, Long oldCategoryId, Collection<Long> oldTagIds,
+                                  boolean published, Long newCategoryId, Collection<Long> newTagIds) {
+        Set<Long> before = wasPublished ? new HashSet<>(oldTagIds) : Set.of();
+        Set<Long> after = published ? new HashSet<>(newTagIds) : Set.of();
+        List<Long> removed = before.stream().filter(tagId -> !after.contains(tagId)).sorted().toList();
+        List<Long> added = after.stream().filter(tagId -> !before.contains(tagId)).sorted().toList();
+        if (!removed.isEmpty()) {
+            tagMapper.addPostCount(removed, -1);
+        }
+        if (!added.isEmpty()) {
+            tagMapper.addPostCount(added, 1);
+        }
+
+        Long beforeCategory = wasPublished ? oldCategoryId : null;
+        Long afterCategory = published ? newCategoryId : null;
+        if (!Objects.equals(beforeCategory, afterCategory)) {
+            if (beforeCategory != null) {
+                categoryMapper.addPostCount(beforeCategory, -1);
+            }
+            if (afterCategory != null) {
+                categoryMapper.addPostCount(afterCategory, 1);
+            }
+        }
+    }
+
+    private static boolean isPublished(Post post) {
+        return Integer.valueOf(1).equals(post.getStatus());
     }
 }
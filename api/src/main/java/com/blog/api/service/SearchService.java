@@ -0,0 +1,125 @@
+package com.blog.api.service;
+
+import com.blog.api.dto.response.PageResponse;
+import com.blog.api.dto.response.PostSearchResponse;
+import com.blog.api.dto.response.SuggestResponse;
+import com.blog.api.entity.Tag;
+import com.blog.api.exception.BusinessException;
+import com.blog.api.exception.ErrorCode;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.mapper.TagMapper;
+import com.blog.api.search.PostSearchIndex;
+import com.blog.api.search.SearchResult;
+import com.blog.api.search.SuggestIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 文章全文检索与搜索建议服务
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final PostSearchIndex postSearchIndex;
+    private final SuggestIndex suggestIndex;
+    private final PostMapper postMapper;
+    private final TagMapper tagMapper;
+
+    public PostSearchResponse search(String keyword, Long categoryId, Long tagId, int page, int size) {
+        if (!StringUtils.hasText(keyword)) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "Keyword is required");
+        }
+        String text = keyword.trim();
+        if (text.length() > MAX_QUERY_LENGTH) {
+            text = text.substring(0, MAX_QUERY_LENGTH);
+        }
+
+        SearchResult result = postSearchIndex.search(text, categoryId, tagId, page, size);
+
+        List<PostSearchResponse.Hit> hits = result.hits().stream()
+                .map(hit -> PostSearchResponse.Hit.builder()
+                        .id(hit.id())
+                        .title(hit.title())
+                        .slug(hit.slug())
+                        .summary(hit.summary())
+                        .cover(hit.cover())
+                        .categoryId(hit.categoryId())
+                        .createdAt(hit.createdAt())
+                        .score(hit.score())
+                        .titleHighlight(hit.titleHighlight())
+                        .summaryHighlight(hit.summaryHighlight())
+                        .contentHighlight(hit.contentHighlight())
+                        .build())
+                .toList();
+
+        return PostSearchResponse.builder()
+                .hits(PageResponse.of(hits, page, size, result.totalHits()))
+                .categories(categoryFacets(result.categoryCounts()))
+                .tags(tagFacets(result.tagCounts()))
+                .build();
+    }
+
+    /**
+     * 输入联想：按前缀（支持拼音全拼 / 首字母）匹配文章标题、标签、分类，空输入返回空列表
+     */
+    public List<SuggestResponse> suggest(String prefix, int limit) {
+        if (!StringUtils.hasText(prefix)) {
+            return List.of();
+        }
+        return suggestIndex.suggest(prefix, limit).stream()
+                .map(entry -> SuggestResponse.builder()
+                        .type(entry.type())
+                        .id(entry.id())
+                        .text(entry.text())
+                        .slug(entry.slug())
+                        .build())
+                .toList();
+    }
+
+    private List<PostSearchResponse.FacetValue> categoryFacets(Map<String, Long> counts) {
+        if (counts.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostMapper.CategoryInfo> categories = postMapper.selectCategoriesByIds(toIds(counts)).stream()
+                .collect(Collectors.toMap(PostMapper.CategoryInfo::getId, Function.identity()));
+        List<PostSearchResponse.FacetValue> facets = new ArrayList<>();
+        counts.forEach((id, count) -> {
+            PostMapper.CategoryInfo category = categories.get(Long.valueOf(id));
+            // 已删除的分类不返回
+            if (category != null) {
+                facets.add(new PostSearchResponse.FacetValue(category.getId(), category.getName(), category.getSlug(), count));
+            }
+        });
+        return facets;
+    }
+
+    private List<PostSearchResponse.FacetValue> tagFacets(Map<String, Long> counts) {
+        if (counts.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Tag> tags = tagMapper.selectBatchIds(toIds(counts)).stream()
+                .collect(Collectors.toMap(Tag::getId, Function.identity()));
+        List<PostSearchResponse.FacetValue> facets = new ArrayList<>();
+        counts.forEach((id, count) -> {
+            Tag tag = tags.get(Long.valueOf(id));
+            if (tag != null) {
+                facets.add(new PostSearchResponse.FacetValue(tag.getId(), tag.getName(), tag.getSlug(), count));
+            }
+        });
+        return facets;
+    }
+
+    private static List<Long> toIds(Map<String, Long> counts) {
+        return counts.keySet().stream().map(Long::valueOf).toList();
+    }
+}
@@ -2,6 +2,8 @@ package com.blog.api.service;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
 import com.blog.api.dto.request.TagRequest;
 import com.blog.api.dto.response.PageResponse;
 import com.blog.api.dto.response.TagResponse;
@@ -24,6 +26,7 @@ import java.util.stream.Collectors;
 public class TagService {
 
     private final TagMapper tagMapper;
+    private final ContentVersions contentVersions;
 
     @Transactional
     public TagResponse create(TagRequest request) {
@@ -52,6 +55,7 @@ public class TagService {
         tag.setUpdatedAt(LocalDateTime.now());
 
         tagMapper.insert(tag);
+        contentVersions.bumpAfterCommit(ContentScope.TAG, tag.getId());
         return toResponse(tag);
     }
 
@@ -70,6 +74,20 @@ public class TagService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 标签云：按已发布文章数降序，直接读取反范式计数，无需聚合查询
+     */
+    public List<TagResponse> getCloud(int limit) {
+        LambdaQueryWrapper<Tag> query = new LambdaQueryWrapper<>();
+        query.gt(Tag::getPostCount, 0)
+                .orderByDesc(Tag::getPostCount)
+                .orderByAsc(Tag::getId)
+                .last("LIMIT " + limit);
+        return tagMapper.selectList(query).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
     public TagResponse getBySlug(String slug) {
         LambdaQueryWrapper<Tag> query = new LambdaQueryWrapper<>();
         query.eq(Tag::getSlug, slug);
@@ -124,6 +142,7 @@ public class TagService {
         tag.setUpdatedAt(LocalDateTime.now());
 
         tagMapper.updateById(tag);
+        contentVersions.bumpAfterCommit(ContentScope.TAG, tag.getId());
         return toResponse(tag);
     }
 
@@ -134,6 +153,7 @@ public class TagService {
             throw new BusinessException(ErrorCode.TAG_NOT_FOUND);
         }
         tagMapper.deleteById(id);
+        contentVersions.bumpAfterCommit(ContentScope.TAG, id);
     }
 
     private TagResponse toResponse(Tag tag) {
@@ -141,6 +161,7 @@ public class TagService {
                 .id(tag.getId())
                 .name(tag.getName())
                 .slug(tag.getSlug())
+                .postCount(tag.getPostCount() != null ? tag.getPostCount().longValue() : 0L)
                 .createdAt(tag.getCreatedAt())
                 .updatedAt(tag.getUpdatedAt())
                 .build();
@@ -1,25 +1,143 @@
 package com.blog.api.service;
 
-import lombok.RequiredArgsConstructor;
+import com.blog.api.cache.RedisCircuitBreaker;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 令牌黑名单
+ * 以 Redis 为准（多节点共享）；本节点登出的令牌同时记入进程内有界缓存（按令牌剩余有效期过期）。
+ * Redis 熔断期间只使用本地黑名单，写入失败的令牌暂存（同样有界），在熔断恢复、下一次写入成功或定时重试时补写。
+ * 熔断期间无法得知其他节点登出的令牌，这是为了保证认证请求不被 Redis 故障阻塞而做的取舍。
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class TokenService {
 
-    private final StringRedisTemplate redisTemplate;
     private static final String TOKEN_BLACKLIST_PREFIX = "token:blacklist:";
 
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    // 令牌 -> 过期时间（毫秒时间戳）
+    private final Cache<String, Long> localBlacklist;
+    // 尚未写入 Redis 的令牌 -> 过期时间
+    private final Cache<String, Long> pendingSync;
+
+    public TokenService(StringRedisTemplate redisTemplate,
+                        RedisCircuitBreaker redisCircuitBreaker,
+                        @Value("${blog.redis.local-blacklist-size:10000}") long localBlacklistSize) {
+        this.redisTemplate = redisTemplate;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.localBlacklist = boundedUntilExpiry(localBlacklistSize);
+        this.pendingSync = boundedUntilExpiry(localBlacklistSize);
+    }
+
+    /**
+     * 有容量上限、条目在令牌过期时自动移除的缓存
+     */
+    private static Cache<String, Long> boundedUntilExpiry(long maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String token, Long expiresAt, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Long expiresAt, long currentTime, long currentDuration) {
+                        return expireAfterCreate(token, expiresAt, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Long expiresAt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisCircuitBreaker.addRecoveryListener(this::syncPending);
+    }
+
     public void addToBlacklist(String token, long expirationMillis) {
+        long expiresAt = System.currentTimeMillis() + expirationMillis;
+        localBlacklist.put(token, expiresAt);
         String key = TOKEN_BLACKLIST_PREFIX + token;
-        redisTemplate.opsForValue().set(key, "1", expirationMillis, TimeUnit.MILLISECONDS);
+        boolean written = redisCircuitBreaker.run(
+                () -> redisTemplate.opsForValue().set(key, "1", expirationMillis, TimeUnit.MILLISECONDS));
+        if (!written) {
+            pendingSync.put(token, expiresAt);
+            log.warn("Redis unavailable, token blacklisted locally until redis recovers");
+        } else {
+            // 单次失败未触发熔断时不会有恢复通知，借这次成功的写入补写
+            syncPending();
+        }
     }
 
     public boolean isBlacklisted(String token) {
+        if (localBlacklist.getIfPresent(token) != null) {
+            return true;
+        }
         String key = TOKEN_BLACKLIST_PREFIX + token;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        return redisCircuitBreaker.execute(() -> Boolean.TRUE.equals(redisTemplate.hasKey(key)), () -> false);
+    }
+
+    /**
+     * 暂存待补写到 Redis 的令牌数
+     */
+    public int pendingSyncCount() {
+        pendingSync.cleanUp();
+        return (int) pendingSync.estimatedSize();
+    }
+
+    /**
+     * 定时重试补写，覆盖写入失败但熔断未打开（没有恢复通知）的情况
+     */
+    @Scheduled(initialDelay = 5_000, fixedDelay = 5_000)
+    public void retryPending() {
+        if (redisCircuitBreaker.isAvailable()) {
+            syncPending();
+        }
+    }
+
+    /**
+     * 一次管道补写暂存的令牌，已过期的直接丢弃
+     */
+    void syncPending() {
+        if (pendingSync.asMap().isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Map<String, Long> batch = new HashMap<>(pendingSync.asMap());
+        batch.values().removeIf(expiresAt -> expiresAt <= now);
+        boolean written = batch.isEmpty() || redisCircuitBreaker.run(() -> redisTemplate.executePipelined(
+                (RedisCallback<Object>) connection -> {
+                    StringRedisConnection conn = (StringRedisConnection) connection;
+                    batch.forEach((token, expiresAt) ->
+                            conn.pSetEx(TOKEN_BLACKLIST_PREFIX + token, Math.max(1, expiresAt - now), "1"));
+                    return null;
+                }));
+        if (written) {
+            batch.forEach(pendingSync.asMap()::remove);
+            pendingSync.asMap().values().removeIf(expiresAt -> expiresAt <= now);
+            log.info("Synced {} locally blacklisted tokens to redis", batch.size());
+        }
     }
 }
@@ -0,0 +1,83 @@
+package com.blog.api.service;
+
+import com.blog.api.counter.TrendingCounter;
+import com.blog.api.counter.TrendingCounter.TrendingWindow;
+import com.blog.api.dto.response.PostSummaryResponse;
+import com.blog.api.entity.Post;
+import com.blog.api.exception.BusinessException;
+import com.blog.api.exception.ErrorCode;
+import com.blog.api.mapper.PostMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 热门文章服务
+ * 排名来自 Redis 中按时间衰减的浏览计数，批量查询文章摘要后在本地缓存几秒，
+ * 热门接口的并发请求只会触发一次 Redis 合并和一次数据库查询；Redis 不可用时退化为按累计浏览量排序。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(5);
+
+    private final TrendingCounter trendingCounter;
+    private final PostMapper postMapper;
+    private final PostAssembler postAssembler;
+
+    private final Cache<String, List<PostSummaryResponse>> localCache = Caffeine.newBuilder()
+            .maximumSize(100)
+            .expireAfterWrite(LOCAL_TTL)
+            .build();
+
+    /**
+     * @param window 时间窗口：24h / 7d / 30d
+     */
+    public List<PostSummaryResponse> getTrending(String window, int limit) {
+        TrendingWindow trendingWindow = TrendingWindow.fromCode(window);
+        if (trendingWindow == null) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "window must be one of 24h, 7d, 30d");
+        }
+        return localCache.get(trendingWindow.code() + ":" + limit, key -> load(trendingWindow, limit));
+    }
+
+    private List<PostSummaryResponse> load(TrendingWindow window, int limit) {
+        List<Long> ids;
+        try {
+            // 多取一些，抵消已删除或已下线的文章
+            ids = trendingCounter.top(window, limit * 2);
+        } catch (Exception e) {
+            log.warn("Failed to load trending posts from redis, falling back to view count: {}", e.getMessage());
+            return postAssembler.toSummaries(postMapper.selectList(PostMapper.summaryQuery()
+                    .eq(Post::getStatus, 1)
+                    .orderByDesc(Post::getViewCount)
+                    .last("LIMIT " + limit)));
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Post> posts = postMapper.selectList(PostMapper.summaryQuery()
+                        .in(Post::getId, ids)
+                        .eq(Post::getStatus, 1))
+                .stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> ordered = ids.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .toList();
+        return postAssembler.toSummaries(ordered);
+    }
+}
@@ -0,0 +1,287 @@
+package com.blog.api.sitemap;
+
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.exception.BusinessException;
+import com.blog.api.exception.ErrorCode;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.service.ConfigService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 站点地图生成器
+ * 文章按 ID 区间分片（每片最多 50000 个 URL，第 0 片额外包含固定页面），由站点地图索引引用全部分片；
+ * 分片直接从 MyBatis 流式结果写出 gzip 压缩的 XML，内存占用与文章数量无关。
+ * 生成结果缓存在磁盘上，文章变更时只失效其 ID 所在的分片和索引，下次请求时重新生成；
+ * 页面链接使用站点 URL，索引中的分片链接使用 API 地址（分片由 API 提供）；
+ * 站点 URL 变化或无法确定具体文章时全部失效。磁盘上的文件只有在本进程内生成后才会被使用，
+ * 停机期间的变更不会读到旧文件。
+ */
+@Slf4j
+@Component
+public class SitemapGenerator {
+
+    /**
+     * 单个站点地图的 URL 数量上限（sitemaps.org 协议规定）
+     */
+    public static final int MAX_URLS = 50_000;
+
+    /**
+     * 第 0 片包含的固定页面
+     */
+    private static final List<String> STATIC_PATHS = List.of("/", "/posts", "/archives", "/categories", "/tags");
+
+    /**
+     * 每个分片覆盖的文章 ID 数量，为固定页面预留位置，保证任何分片都不超过上限
+     */
+    static final int SHARD_SIZE = MAX_URLS - STATIC_PATHS.size();
+
+    private static final String NAMESPACE = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    private static final String INDEX_FILE = "sitemap.xml.gz";
+    private static final String SHARD_PREFIX = "sitemap-";
+    private static final String GZIP_SUFFIX = ".xml.gz";
+    private static final XMLOutputFactory XML_OUTPUT = XMLOutputFactory.newFactory();
+
+    private final PostMapper postMapper;
+    private final ConfigService configService;
+    private final ContentVersions contentVersions;
+    private final Path directory;
+
+    private final Object generateLock = new Object();
+    private final Set<Long> freshShards = ConcurrentHashMap.newKeySet();
+    private volatile boolean indexFresh;
+    private volatile Set<Long> shards = Set.of();
+
+    public SitemapGenerator(PostMapper postMapper, ConfigService configService, ContentVersions contentVersions,
+                            @Value("${blog.sitemap.path:./data/sitemap}") String path) {
+        this.postMapper = postMapper;
+        this.configService = configService;
+        this.contentVersions = contentVersions;
+        this.directory = Path.of(path);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        contentVersions.addListener(change -> {
+            if (change.scope() == ContentScope.POST && change.entityId() != null) {
+                freshShards.remove(shardOf(change.entityId()));
+                indexFresh = false;
+            } else if (change.scope() == ContentScope.POST || change.scope() == ContentScope.CONFIG) {
+                invalidateAll();
+            }
+        });
+    }
+
+    /**
+     * 获取站点地图索引文件（gzip），必要时重新生成
+     */
+    public Path index() throws IOException {
+        Path file = directory.resolve(INDEX_FILE);
+        if (indexFresh && Files.exists(file)) {
+            return file;
+        }
+        synchronized (generateLock) {
+            if (!indexFresh || !Files.exists(file)) {
+                // 先标记再查询，生成期间到达的变更会重新清除标记
+                indexFresh = true;
+                try {
+                    writeIndex(file);
+                } catch (IOException | RuntimeException e) {
+                    indexFresh = false;
+                    throw e;
+                }
+            }
+            return file;
+        }
+    }
+
+    /**
+     * 获取分片文件（gzip），必要时只重新生成该分片
+     */
+    public Path shard(long shard) throws IOException {
+        index();
+        if (!shards.contains(shard)) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "Sitemap shard not found: " + shard);
+        }
+        Path file = directory.resolve(SHARD_PREFIX + shard + GZIP_SUFFIX);
+        if (freshShards.contains(shard) && Files.exists(file)) {
+            return file;
+        }
+        synchronized (generateLock) {
+            if (!freshShards.contains(shard) || !Files.exists(file)) {
+                freshShards.add(shard);
+                try {
+                    writeShard(file, shard);
+                } catch (IOException | RuntimeException e) {
+                    freshShards.remove(shard);
+                    throw e;
+                }
+            }
+            return file;
+        }
+    }
+
+    /**
+     * 全部失效（下次请求时重新生成）
+     */
+    public void invalidateAll() {
+        freshShards.clear();
+        indexFresh = false;
+    }
+
+    static long shardOf(long postId) {
+        return Math.max(postId - 1, 0) / SHARD_SIZE;
+    }
+
+    private void writeIndex(Path file) throws IOException {
+        List<PostMapper.SitemapShard> rows = postMapper.selectSitemapShards(SHARD_SIZE);
+        String apiUrl = configService.getApiUrl();
+        writeGzip(file, xml -> {
+            xml.writeStartElement("sitemapindex");
+            xml.writeDefaultNamespace(NAMESPACE);
+            // 第 0 片包含固定页面，即使还没有已发布文章也始终存在
+            if (rows.isEmpty() || rows.get(0).getShard() != 0) {
+                writeIndexEntry(xml, apiUrl, 0, null);
+            }
+            for (PostMapper.SitemapShard row : rows) {
+                writeIndexEntry(xml, apiUrl, row.getShard(), row.getLastModified());
+            }
+            xml.writeEndElement();
+        });
+
+        Set<Long> listed = rows.stream().map(PostMapper.SitemapShard::getShard).collect(Collectors.toSet());
+        listed.add(0L);
+        shards = Set.copyOf(listed);
+        deleteUnlistedShards(listed);
+        log.debug("Generated sitemap index with {} shards", listed.size());
+    }
+
+    private void writeShard(Path file, long shard) throws IOException {
+        long fromId = shard * SHARD_SIZE + 1;
+        long toId = fromId + SHARD_SIZE - 1;
+        String baseUrl = configService.getSiteUrl();
+        long start = System.currentTimeMillis();
+        writeGzip(file, xml -> {
+            xml.writeStartElement("urlset");
+            xml.writeDefaultNamespace(NAMESPACE);
+            if (shard == 0) {
+                for (String path : STATIC_PATHS) {
+                    writeUrl(xml, baseUrl + path, null);
+                }
+            }
+            postMapper.streamSitemapEntries(fromId, toId, context -> {
+                PostMapper.SitemapEntry entry = context.getResultObject();
+                LocalDateTime lastModified = entry.getUpdatedAt() != null ? entry.getUpdatedAt() : entry.getPublishedAt();
+                try {
+                    writeUrl(xml, baseUrl + "/posts/" + entry.getId(), lastModified);
+                } catch (XMLStreamException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            xml.writeEndElement();
+        });
+        log.debug("Generated sitemap shard {} in {} ms", shard, System.currentTimeMillis() - start);
+    }
+
+    private static void writeIndexEntry(XMLStreamWriter xml, String apiUrl, long shard, LocalDateTime lastModified)
+            throws XMLStreamException {
+        xml.writeStartElement("sitemap");
+        writeElement(xml, "loc", apiUrl + "/api/blog/" + SHARD_PREFIX + shard + ".xml");
+        if (lastModified != null) {
+            writeElement(xml, "lastmod", lastModified.toLocalDate().toString());
+        }
+        xml.writeEndElement();
+    }
+
+    private static void writeUrl(XMLStreamWriter xml, String loc, LocalDateTime lastModified) throws XMLStreamException {
+        xml.writeStartElement("url");
+        writeElement(xml, "loc", loc);
+        if (lastModified != null) {
+            writeElement(xml, "lastmod", lastModified.toLocalDate().toString());
+        }
+        xml.writeEndElement();
+    }
+
+    private static void writeElement(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(text);
+        xml.writeEndElement();
+    }
+
+    /**
+     * 写入临时文件后原子替换，读取方不会看到写了一半的文件
+     */
+    private void writeGzip(Path file, XmlBody body) throws IOException {
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, SHARD_PREFIX, ".tmp");
+        try {
+            try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                XMLStreamWriter xml = XML_OUTPUT.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+                xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+                body.write(xml);
+                xml.writeEndDocument();
+                xml.close();
+            } catch (XMLStreamException e) {
+                throw new IOException("Failed to write sitemap " + file.getFileName(), e);
+            } catch (IllegalStateException e) {
+                if (e.getCause() instanceof XMLStreamException cause) {
+                    throw new IOException("Failed to write sitemap " + file.getFileName(), cause);
+                }
+                throw e;
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void deleteUnlistedShards(Set<Long> listed) {
+        try (var files = Files.list(directory)) {
+            files.filter(file -> {
+                String name = file.getFileName().toString();
+                if (!name.startsWith(SHARD_PREFIX) || !name.endsWith(GZIP_SUFFIX)) {
+                    return false;
+                }
+                String number = name.substring(SHARD_PREFIX.length(), name.length() - GZIP_SUFFIX.length());
+                try {
+                    return !listed.contains(Long.parseLong(number));
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }).forEach(file -> {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.debug("Failed to delete stale sitemap {}: {}", file, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            log.debug("Failed to list sitemap directory: {}", e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface XmlBody {
+        void write(XMLStreamWriter xml) throws XMLStreamException;
+    }
+}
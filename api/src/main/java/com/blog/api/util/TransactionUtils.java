@@ -0,0 +1,33 @@
+package com.blog.api.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 事务工具类
+ */
+public class TransactionUtils {
+
+    private TransactionUtils() {
+        // 工具类不允许实例化
+    }
+
+    /**
+     * 在当前事务提交后执行任务；没有活动事务时立即执行
+     * 用于缓存失效等副作用，避免并发读在提交前把旧数据重新写回缓存
+     *
+     * @param task 待执行的任务
+     */
+    public static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.blog.api.web;
+
+import java.lang.annotation.*;
+
+/**
+ * 标记响应可整体缓存的热点 GET 接口
+ * 缓存序列化后的 JSON 及其 gzip / Brotli 压缩版本，命中时直接写出字节；
+ * 失效依赖同一方法上 {@link ConditionalGet} 声明的作用域
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedResponse {
+}
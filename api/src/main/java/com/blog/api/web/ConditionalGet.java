@@ -0,0 +1,21 @@
+package com.blog.api.web;
+
+import com.blog.api.cache.ContentScope;
+
+import java.lang.annotation.*;
+
+/**
+ * 标记支持条件请求的 GET 接口
+ * ETag / Last-Modified 由所依赖作用域的内容版本号计算，
+ * 请求携带的 If-None-Match / If-Modified-Since 未过期时直接返回 304，不执行接口方法
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConditionalGet {
+
+    /**
+     * 响应内容依赖的作用域，任一作用域版本变化都会使 ETag 失效
+     */
+    ContentScope[] value();
+}
@@ -0,0 +1,58 @@
+package com.blog.api.web;
+
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 条件请求拦截器
+ * 在执行 {@link ConditionalGet} 标注的接口前，根据内存中的内容版本号生成 ETag 和 Last-Modified，
+ * 客户端缓存仍然有效时直接返回 304。版本号在读取数据之前取得，因此不会把新版本号配给旧数据。
+ * 注意：浏览量不参与版本计算，304 响应中的浏览量可能滞后。
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String CACHE_CONTROL = "no-cache";
+
+    private final ContentVersions contentVersions;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+
+        ContentScope[] scopes = conditionalGet.value();
+        StringBuilder etag = new StringBuilder(scopes.length * 10);
+        long lastModified = 0;
+        for (ContentScope scope : scopes) {
+            long version = contentVersions.get(scope);
+            if (!etag.isEmpty()) {
+                etag.append('-');
+            }
+            etag.append(Long.toString(version, 36));
+            lastModified = Math.max(lastModified, version);
+        }
+
+        // 允许缓存，但每次使用前必须重新验证
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        return !new ServletWebRequest(request, response).checkNotModified(etag.toString(), lastModified);
+    }
+}
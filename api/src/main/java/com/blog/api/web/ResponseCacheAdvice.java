@@ -0,0 +1,70 @@
+package com.blog.api.web;
+
+import com.blog.api.cache.ResponseBytesCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 在 {@link CachedResponse} 接口的响应体序列化前，把序列化结果及其压缩版本写入响应字节缓存
+ * （使用与消息转换器相同的 ObjectMapper，缓存字节与实际输出一致；接口直接返回 byte[] 时按原样缓存）
+ */
+@Slf4j
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ResponseCacheAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ResponseBytesCache responseBytesCache;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(CachedResponse.class)
+                && (MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType)
+                || ByteArrayHttpMessageConverter.class.isAssignableFrom(converterType));
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        HttpServletResponse httpResponse = servletResponse.getServletResponse();
+        String key = (String) httpRequest.getAttribute(ResponseCacheInterceptor.KEY_ATTRIBUTE);
+        long[] versions = (long[]) httpRequest.getAttribute(ResponseCacheInterceptor.VERSIONS_ATTRIBUTE);
+        if (key == null || versions == null || httpResponse.getStatus() != HttpServletResponse.SC_OK) {
+            return body;
+        }
+
+        ConditionalGet conditionalGet = returnType.getMethodAnnotation(ConditionalGet.class);
+        try {
+            if (body instanceof byte[] raw) {
+                responseBytesCache.put(key, selectedContentType.toString(), raw, conditionalGet.value(), versions);
+            } else {
+                byte[] bytes = objectMapper.writeValueAsBytes(body);
+                responseBytesCache.put(key, MediaType.APPLICATION_JSON_VALUE, bytes, conditionalGet.value(), versions);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to cache response for {}: {}", key, e.getMessage());
+        }
+        return body;
+    }
+}
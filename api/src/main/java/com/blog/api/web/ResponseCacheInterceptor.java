@@ -0,0 +1,111 @@
+package com.blog.api.web;
+
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ResponseBytesCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+
+/**
+ * 响应字节缓存拦截器
+ * 命中时按 Accept-Encoding 直接写出预压缩的字节并结束请求；
+ * 未命中时记录版本快照和缓存 key，由 {@link ResponseCacheAdvice} 在序列化时写入缓存。
+ * 需注册在 {@link ConditionalGetInterceptor} 之后，304 优先。
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheInterceptor implements HandlerInterceptor {
+
+    static final String KEY_ATTRIBUTE = ResponseCacheInterceptor.class.getName() + ".key";
+    static final String VERSIONS_ATTRIBUTE = ResponseCacheInterceptor.class.getName() + ".versions";
+
+    private static final String BROTLI = "br";
+    private static final String GZIP = "gzip";
+
+    private final ResponseBytesCache responseBytesCache;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !handlerMethod.hasMethodAnnotation(CachedResponse.class)) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        boolean head = "HEAD".equals(request.getMethod());
+        if (conditionalGet == null || !("GET".equals(request.getMethod()) || head)) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String key = request.getRequestURI() + (request.getQueryString() != null ? "?" + request.getQueryString() : "");
+        ResponseBytesCache.Entry entry = responseBytesCache.get(key);
+        if (entry == null) {
+            ContentScope[] scopes = conditionalGet.value();
+            request.setAttribute(KEY_ATTRIBUTE, key);
+            request.setAttribute(VERSIONS_ATTRIBUTE, responseBytesCache.snapshot(scopes));
+            return true;
+        }
+
+        byte[] body = entry.identity();
+        String accepted = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (entry.brotli() != null && accepts(accepted, BROTLI)) {
+            body = entry.brotli();
+            setEncoding(response, BROTLI);
+        } else if (entry.gzip() != null && accepts(accepted, GZIP)) {
+            body = entry.gzip();
+            setEncoding(response, GZIP);
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.contentType());
+        response.setContentLength(body.length);
+        if (!head) {
+            response.getOutputStream().write(body);
+        }
+        return false;
+    }
+
+    /**
+     * 压缩后的字节与原始字节不同，强 ETag 降级为弱 ETag（If-None-Match 使用弱比较，仍可命中 304）
+     */
+    private void setEncoding(HttpServletResponse response, String encoding) {
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        if (etag != null && !etag.startsWith("W/")) {
+            response.setHeader(HttpHeaders.ETAG, "W/" + etag);
+        }
+    }
+
+    /**
+     * 判断 Accept-Encoding 是否接受指定编码（q=0 表示拒绝）
+     */
+    public static boolean accepts(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (!tokens[0].trim().equalsIgnoreCase(encoding)) {
+                continue;
+            }
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
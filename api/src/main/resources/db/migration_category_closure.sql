@@ -0,0 +1,24 @@
+-- 添加分类闭包表 category_closure，并根据现有 parent_id 回填全部祖先路径（需要 MySQL 8 递归 CTE）
+-- 执行此 SQL 来更新现有数据库
+
+CREATE TABLE IF NOT EXISTS category_closure (
+    ancestor_id BIGINT NOT NULL COMMENT 'Ancestor category ID',
+    descendant_id BIGINT NOT NULL COMMENT 'Descendant category ID',
+    depth INT NOT NULL COMMENT 'Distance from ancestor to descendant',
+    PRIMARY KEY (ancestor_id, descendant_id),
+    INDEX idx_descendant (descendant_id),
+    FOREIGN KEY (ancestor_id) REFERENCES category(id) ON DELETE CASCADE,
+    FOREIGN KEY (descendant_id) REFERENCES category(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Category Closure Table';
+
+INSERT IGNORE INTO category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM category
+    UNION ALL
+    SELECT c.parent_id, p.descendant_id, p.depth + 1
+    FROM paths p
+    INNER JOIN category c ON c.id = p.ancestor_id
+    WHERE c.parent_id IS NOT NULL AND p.depth < 32
+)
+SELECT ancestor_id, descendant_id, depth FROM paths
+WHERE ancestor_id IN (SELECT id FROM category);
@@ -0,0 +1,4 @@
+-- 为订阅源按发布时间取最新文章添加复合索引 (status, published_at, id)
+-- 执行此 SQL 来更新现有数据库
+
+ALTER TABLE post ADD INDEX idx_status_published (status, published_at, id);
@@ -0,0 +1,5 @@
+-- 为文章列表游标分页添加复合索引 (status/category_id, created_at, id)
+-- 执行此 SQL 来更新现有数据库
+
+ALTER TABLE post ADD INDEX idx_status_created (status, created_at, id);
+ALTER TABLE post ADD INDEX idx_category_created (category_id, created_at, id);
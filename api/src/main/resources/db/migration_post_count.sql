@@ -0,0 +1,13 @@
+-- 为标签和分类添加已发布文章计数（反范式），并按现有数据回填
+-- 执行此 SQL 来更新现有数据库
+
+ALTER TABLE category ADD COLUMN post_count INT NOT NULL DEFAULT 0 COMMENT 'Published post count' AFTER sort_order;
+ALTER TABLE tag ADD COLUMN post_count INT NOT NULL DEFAULT 0 COMMENT 'Published post count' AFTER slug;
+ALTER TABLE tag ADD INDEX idx_post_count (post_count);
+
+UPDATE category c
+SET c.post_count = (SELECT COUNT(*) FROM post p WHERE p.category_id = c.id AND p.status = 1);
+
+UPDATE tag t
+SET t.post_count = (SELECT COUNT(*) FROM post_tag pt INNER JOIN post p ON p.id = pt.post_id AND p.status = 1
+                    WHERE pt.tag_id = t.id);
@@ -0,0 +1,15 @@
+-- 添加文章渲染结果表 post_render（Markdown 预渲染 HTML、目录、字数、阅读时间）
+-- 执行此 SQL 来更新现有数据库；存量文章会在应用启动后自动补齐渲染结果
+
+CREATE TABLE IF NOT EXISTS post_render (
+    post_id BIGINT PRIMARY KEY COMMENT 'Post ID',
+    content_hash CHAR(64) NOT NULL COMMENT 'SHA-256 of Markdown content',
+    renderer_version INT NOT NULL COMMENT 'Renderer version',
+    html LONGTEXT COMMENT 'Sanitized HTML',
+    toc TEXT COMMENT 'Table of contents (JSON)',
+    word_count INT DEFAULT 0 COMMENT 'Word count',
+    reading_time INT DEFAULT 0 COMMENT 'Reading time in minutes',
+    rendered_at DATETIME COMMENT 'Rendered at',
+    INDEX idx_renderer_version (renderer_version),
+    FOREIGN KEY (post_id) REFERENCES post(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Post Render Table';
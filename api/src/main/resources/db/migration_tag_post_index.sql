@@ -0,0 +1,5 @@
+-- 将 post_tag 的 tag_id 单列索引替换为 (tag_id, post_id) 覆盖索引，供按标签筛选文章的连接查询使用
+-- 执行此 SQL 来更新现有数据库（先添加新索引，外键 tag_id 仍有可用索引后再删除旧索引）
+
+ALTER TABLE post_tag ADD INDEX idx_tag_post (tag_id, post_id);
+ALTER TABLE post_tag DROP INDEX idx_tag_id;
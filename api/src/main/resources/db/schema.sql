@@ -29,20 +29,34 @@ CREATE TABLE IF NOT EXISTS category (
     description VARCHAR(255) COMMENT 'Description',
     parent_id BIGINT DEFAULT NULL COMMENT 'Parent category ID',
     sort_order INT DEFAULT 0 COMMENT 'Sort order',
+    post_count INT NOT NULL DEFAULT 0 COMMENT 'Published post count',
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT 'Created at',
     updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT 'Updated at',
     INDEX idx_slug (slug),
     INDEX idx_parent_id (parent_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Category Table';
 
+-- Category Closure Table (ancestor/descendant paths, including self with depth 0)
+CREATE TABLE IF NOT EXISTS category_closure (
+    ancestor_id BIGINT NOT NULL COMMENT 'Ancestor category ID',
+    descendant_id BIGINT NOT NULL COMMENT 'Descendant category ID',
+    depth INT NOT NULL COMMENT 'Distance from ancestor to descendant',
+    PRIMARY KEY (ancestor_id, descendant_id),
+    INDEX idx_descendant (descendant_id),
+    FOREIGN KEY (ancestor_id) REFERENCES category(id) ON DELETE CASCADE,
+    FOREIGN KEY (descendant_id) REFERENCES category(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Category Closure Table';
+
 -- Tag Table
 CREATE TABLE IF NOT EXISTS tag (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     name VARCHAR(50) NOT NULL COMMENT 'Tag name',
     slug VARCHAR(50) NOT NULL UNIQUE COMMENT 'URL slug',
+    post_count INT NOT NULL DEFAULT 0 COMMENT 'Published post count',
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT 'Created at',
     updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT 'Updated at',
-    INDEX idx_slug (slug)
+    INDEX idx_slug (slug),
+    INDEX idx_post_count (post_count)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Tag Table';
 
 -- Post Table
@@ -64,17 +78,34 @@ CREATE TABLE IF NOT EXISTS post (
     INDEX idx_author_id (author_id),
     INDEX idx_category_id (category_id),
     INDEX idx_status (status),
+    INDEX idx_status_created (status, created_at, id),
+    INDEX idx_status_published (status, published_at, id),
+    INDEX idx_category_created (category_id, created_at, id),
     FOREIGN KEY (author_id) REFERENCES user(id) ON DELETE CASCADE,
     FOREIGN KEY (category_id) REFERENCES category(id) ON DELETE SET NULL
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Post Table';
 
+-- Post Render Table (rendered Markdown cache)
+CREATE TABLE IF NOT EXISTS post_render (
+    post_id BIGINT PRIMARY KEY COMMENT 'Post ID',
+    content_hash CHAR(64) NOT NULL COMMENT 'SHA-256 of Markdown content',
+    renderer_version INT NOT NULL COMMENT 'Renderer version',
+    html LONGTEXT COMMENT 'Sanitized HTML',
+    toc TEXT COMMENT 'Table of contents (JSON)',
+    word_count INT DEFAULT 0 COMMENT 'Word count',
+    reading_time INT DEFAULT 0 COMMENT 'Reading time in minutes',
+    rendered_at DATETIME COMMENT 'Rendered at',
+    INDEX idx_renderer_version (renderer_version),
+    FOREIGN KEY (post_id) REFERENCES post(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Post Render Table';
+
 -- Post-Tag Relation Table
 CREATE TABLE IF NOT EXISTS post_tag (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     post_id BIGINT NOT NULL COMMENT 'Post ID',
     tag_id BIGINT NOT NULL COMMENT 'Tag ID',
     INDEX idx_post_id (post_id),
-    INDEX idx_tag_id (tag_id),
+    INDEX idx_tag_post (tag_id, post_id),
     UNIQUE KEY uk_post_tag (post_id, tag_id),
     FOREIGN KEY (post_id) REFERENCES post(id) ON DELETE CASCADE,
     FOREIGN KEY (tag_id) REFERENCES tag(id) ON DELETE CASCADE
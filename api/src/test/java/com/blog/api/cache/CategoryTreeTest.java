@@ -0,0 +1,60 @@
+package com.blog.api.cache;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.blog.api.dto.response.CategoryResponse;
+import com.blog.api.entity.Category;
+import com.blog.api.mapper.CategoryMapper;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CategoryTreeTest {
+
+    @BeforeAll
+    static void initTableInfo() {
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), Category.class);
+    }
+
+    @Test
+    @DisplayName("Tree - Built From Parent Ids And Reused Until Version Changes")
+    void getRoots_BuildAndReuse() {
+        CategoryMapper categoryMapper = mock(CategoryMapper.class);
+        ContentVersions contentVersions = mock(ContentVersions.class);
+        when(contentVersions.get(ContentScope.CATEGORY)).thenReturn(1L);
+        when(contentVersions.get(ContentScope.POST)).thenReturn(1L);
+        when(categoryMapper.selectList(any())).thenReturn(List.of(
+                category(1L, null), category(2L, 1L), category(3L, 2L), category(4L, 99L)));
+        CategoryTree tree = new CategoryTree(categoryMapper, contentVersions);
+
+        List<CategoryResponse> roots = tree.getRoots();
+
+        assertEquals(List.of(1L, 4L), roots.stream().map(CategoryResponse::getId).toList());
+        CategoryResponse child = roots.get(0).getChildren().get(0);
+        assertEquals(2L, child.getId());
+        assertEquals(3L, child.getChildren().get(0).getId());
+        assertSame(roots, tree.getRoots());
+        verify(categoryMapper, times(1)).selectList(any());
+
+        when(contentVersions.get(ContentScope.POST)).thenReturn(2L);
+        assertNotSame(roots, tree.getRoots());
+        verify(categoryMapper, times(2)).selectList(any());
+    }
+
+    private static Category category(Long id, Long parentId) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName("Category " + id);
+        category.setSlug("category-" + id);
+        category.setParentId(parentId);
+        category.setPostCount(1);
+        return category;
+    }
+}
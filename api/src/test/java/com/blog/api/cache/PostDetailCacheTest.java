@@ -0,0 +1,78 @@
+package com.blog.api.cache;
+
+import com.blog.api.dto.response.PostResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PostDetailCacheTest {
+
+    @Test
+    @DisplayName("Redis Failure - Invalidation Deferred And Replayed Later")
+    @SuppressWarnings("unchecked")
+    void invalidate_Deferred() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.delete(anyCollection()))
+                .thenThrow(new RedisConnectionFailureException("timeout"))
+                .thenReturn(2L);
+        PostDetailCache cache = new PostDetailCache(redisTemplate, new ObjectMapper(),
+                mock(RedisMessageListenerContainer.class), mock(ContentVersions.class), mock(RedisBatchCache.class),
+                new RedisCircuitBreaker(5, Duration.ofSeconds(10)), 100, Duration.ofSeconds(60), Duration.ofMinutes(10));
+
+        cache.invalidate(1L, "hello");
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+
+        cache.syncPending();
+
+        verify(redisTemplate, times(2)).delete(argThat((List<String> keys) ->
+                keys.containsAll(List.of("post:detail:id:1", "post:detail:slug:hello"))));
+        verify(redisTemplate).convertAndSend(eq("post:detail:invalidate"), argThat((String body) ->
+                body.contains("id:1") && body.contains("slug:hello")));
+
+        cache.syncPending();
+        verify(redisTemplate, times(2)).delete(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Load Raced By Invalidation - Result Returned But Not Written Back")
+    @SuppressWarnings("unchecked")
+    void get_InvalidatedDuringLoad() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        ContentVersions contentVersions = mock(ContentVersions.class);
+        when(contentVersions.get(ContentScope.POST)).thenReturn(1L);
+        RedisBatchCache redisBatchCache = mock(RedisBatchCache.class);
+        PostDetailCache cache = new PostDetailCache(redisTemplate, new ObjectMapper(),
+                mock(RedisMessageListenerContainer.class), contentVersions, redisBatchCache,
+                new RedisCircuitBreaker(5, Duration.ofSeconds(10)), 100, Duration.ofSeconds(60), Duration.ofMinutes(10));
+        AtomicInteger loads = new AtomicInteger();
+
+        PostResponse loaded = cache.getById(1L, () -> {
+            loads.incrementAndGet();
+            // 加载期间文章被更新并失效
+            when(contentVersions.get(ContentScope.POST)).thenReturn(2L);
+            return PostResponse.builder().id(1L).slug("hello").build();
+        });
+
+        assertEquals(1L, loaded.getId());
+        verify(redisBatchCache, never()).putAll(anyMap(), any());
+        cache.getById(1L, () -> {
+            loads.incrementAndGet();
+            return PostResponse.builder().id(1L).slug("hello").build();
+        });
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,78 @@
+package com.blog.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisBatchCacheTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private StringRedisConnection connection;
+    private RedisBatchCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        connection = mock(StringRedisConnection.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+            return List.of();
+        });
+        cache = new RedisBatchCache(redisTemplate, new ObjectMapper(), new RedisCircuitBreaker(5, Duration.ofSeconds(10)));
+    }
+
+    @Test
+    @DisplayName("Read Through - One MGET, Misses Loaded Together And Written In One Pipeline")
+    void getAll_ReadThrough() {
+        when(valueOperations.multiGet(List.of("tag:1", "tag:2", "tag:3"))).thenReturn(Arrays.asList("\"one\"", null, null));
+        List<Collection<Long>> loaderCalls = new ArrayList<>();
+
+        Map<Long, String> result = cache.getAll(List.of(1L, 2L, 3L), id -> "tag:" + id, String.class,
+                Duration.ofMinutes(5), missing -> {
+                    loaderCalls.add(missing);
+                    return Map.of(2L, "two");
+                });
+
+        assertEquals(Map.of(1L, "one", 2L, "two"), result);
+        assertEquals(List.of(List.of(2L, 3L)), loaderCalls);
+        verify(valueOperations, times(1)).multiGet(anyCollection());
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(connection).set("tag:2", "\"two\"", Expiration.from(5, TimeUnit.MINUTES),
+                RedisStringCommands.SetOption.upsert());
+        assertEquals(2, cache.stats().getBatchCount());
+        assertEquals(1, cache.stats().getRemoteHitCount());
+        assertEquals(2, cache.stats().getRemoteMissCount());
+    }
+
+    @Test
+    @DisplayName("Redis Down - Treated As Misses")
+    void getAll_RedisDown() {
+        when(valueOperations.multiGet(anyCollection())).thenThrow(new RuntimeException("down"));
+
+        assertTrue(cache.getAll(List.of("a", "b")).isEmpty());
+        assertEquals(2, cache.stats().getRemoteMissCount());
+    }
+}
@@ -0,0 +1,50 @@
+package com.blog.api.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisCircuitBreakerTest {
+
+    @Test
+    @DisplayName("Breaker - Opens After Consecutive Failures And Short-Circuits Calls")
+    void execute_Opens() {
+        RedisCircuitBreaker breaker = new RedisCircuitBreaker(3, Duration.ofMinutes(1));
+        AtomicInteger attempts = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("fallback", breaker.execute(() -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("redis down");
+            }, () -> "fallback"));
+        }
+
+        assertEquals(3, attempts.get());
+        assertEquals(RedisCircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(2, breaker.stats().getRejectedCount());
+        assertEquals(1, breaker.stats().getOpenCount());
+    }
+
+    @Test
+    @DisplayName("Breaker - Half-Open Probe Success Closes And Notifies Recovery Listeners")
+    void execute_Recovers() throws Exception {
+        RedisCircuitBreaker breaker = new RedisCircuitBreaker(1, Duration.ZERO);
+        CountDownLatch recovered = new CountDownLatch(1);
+        breaker.addRecoveryListener(recovered::countDown);
+
+        assertFalse(breaker.run(() -> {
+            throw new IllegalStateException("redis down");
+        }));
+        assertEquals(RedisCircuitBreaker.State.HALF_OPEN, breaker.state());
+
+        assertEquals("ok", breaker.execute(() -> "ok", () -> "fallback"));
+        assertEquals(RedisCircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(recovered.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,108 @@
+package com.blog.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisLoadingCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ValueOperations<String, String> valueOperations;
+    private RedisLoadingCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        cache = new RedisLoadingCache(redisTemplate, objectMapper,
+                new RedisCircuitBreaker(5, Duration.ofSeconds(10)), 1.0, Duration.ofSeconds(10), Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Miss - Concurrent Callers Share A Single Load")
+    void get_SingleFlight() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(pool.submit(() -> cache.get("config:all", String.class, Duration.ofMinutes(5), () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "value";
+            })));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 7; i++) {
+                results.add(pool.submit(() -> cache.get("config:all", String.class, Duration.ofMinutes(5), () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            // 等待其余调用方进入单飞等待
+            long deadline = System.currentTimeMillis() + 5000;
+            while (cache.stats().getCoalescedCount() < 7 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(7, cache.stats().getCoalescedCount());
+        verify(valueOperations, times(1)).set(eq("config:all"), anyString(), eq(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("Hit - Cached Envelope Returned Without Loading")
+    void get_Hit() throws Exception {
+        long now = System.currentTimeMillis();
+        RedisLoadingCache.Envelope envelope = new RedisLoadingCache.Envelope(
+                objectMapper.valueToTree("cached"), 10, now + 300_000);
+        when(valueOperations.get("config:all")).thenReturn(objectMapper.writeValueAsString(envelope));
+
+        assertEquals("cached", cache.get("config:all", String.class, Duration.ofMinutes(5), () -> fail("loaded")));
+        assertEquals(1, cache.stats().getRemoteHitCount());
+    }
+
+    @Test
+    @DisplayName("Early Refresh - Never Far From Expiry, Always Once Expired")
+    void shouldRefreshEarly() {
+        long now = System.currentTimeMillis();
+
+        assertFalse(cache.shouldRefreshEarly(new RedisLoadingCache.Envelope(null, 10, now + 300_000), now));
+        assertTrue(cache.shouldRefreshEarly(new RedisLoadingCache.Envelope(null, 10, now), now));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
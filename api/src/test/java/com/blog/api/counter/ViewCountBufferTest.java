@@ -0,0 +1,176 @@
+package com.blog.api.counter;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.blog.api.entity.Post;
+import com.blog.api.mapper.PostMapper;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    @Mock
+    private PostMapper postMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path journalDir;
+
+    private ViewCountBuffer buffer;
+
+    @BeforeAll
+    static void initTableInfo() {
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), Post.class);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        buffer = newBuffer(DataSize.ofKilobytes(4));
+    }
+
+    @Test
+    @DisplayName("Flush - Writes Merged Deltas In One Batch")
+    void flush_WritesMergedDeltas() {
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+
+        assertEquals(2, buffer.getPendingCount(1L));
+        assertEquals(3, buffer.getTotalPendingCount());
+
+        buffer.flush();
+
+        assertEquals(Map.of(1L, 2L, 2L, 1L), flushedDeltas(1));
+        assertEquals(0, buffer.getTotalPendingCount());
+    }
+
+    @Test
+    @DisplayName("Flush - Failed Write Keeps Pending Counts")
+    void flush_FailureKeepsPending() {
+        buffer.increment(1L);
+        when(postMapper.batchIncrementViewCount(anyList())).thenThrow(new RuntimeException("db down"));
+
+        buffer.flush();
+
+        assertEquals(1, buffer.getPendingCount(1L));
+    }
+
+    @Test
+    @DisplayName("Flush - Failed Later Batch Rolls Back The Epoch And Retry Writes Each Delta Once")
+    void flush_FailedBatchRollsBack() {
+        for (long postId = 1; postId <= 501; postId++) {
+            buffer.increment(postId);
+        }
+        List<Integer> batchSizes = new ArrayList<>();
+        when(postMapper.batchIncrementViewCount(anyList())).thenAnswer(invocation -> {
+            batchSizes.add(invocation.<List<?>>getArgument(0).size());
+            return batchSizes.size() == 2 ? failWith("db down") : 0;
+        });
+
+        buffer.flush();
+
+        verify(transactionManager).rollback(any());
+        assertEquals(501, buffer.getTotalPendingCount());
+
+        buffer.flush();
+
+        verify(transactionManager).commit(any());
+        assertEquals(0, buffer.getTotalPendingCount());
+        assertEquals(List.of(500, 1, 500, 1), batchSizes);
+    }
+
+    @Test
+    @DisplayName("View Count - Base From Database Plus Pending, Unchanged Across A Flush")
+    void getViewCount_AcrossFlush() {
+        when(postMapper.selectObjs(any())).thenReturn(List.of(10L), List.of(12L));
+        buffer.increment(1L);
+        buffer.increment(1L);
+
+        assertEquals(12, buffer.getViewCount(1L, 0));
+
+        buffer.flush();
+
+        assertEquals(12, buffer.getViewCount(1L, 0));
+        verify(postMapper, times(2)).selectObjs(any());
+    }
+
+    @Test
+    @DisplayName("Init - Replays Unflushed Journal After Crash")
+    void init_ReplaysJournal() throws Exception {
+        buffer.increment(7L);
+        buffer.increment(7L);
+
+        // 模拟崩溃：不执行 flush，直接在同一目录上重新启动
+        ViewCountBuffer restarted = newBuffer(DataSize.ofKilobytes(4));
+
+        assertEquals(2, restarted.getPendingCount(7L));
+        restarted.flush();
+        assertEquals(Map.of(7L, 2L), flushedDeltas(1));
+    }
+
+    @Test
+    @DisplayName("Increment - Rotates Full Segment Without Losing Counts")
+    void increment_RotatesFullSegment() throws Exception {
+        // 64 字节 = 16 字节头 + 6 条记录
+        ViewCountBuffer small = newBuffer(DataSize.ofBytes(64));
+        for (int i = 0; i < 20; i++) {
+            small.increment(3L);
+        }
+
+        assertEquals(20, small.getPendingCount(3L));
+        small.flush();
+        try (Stream<Path> files = Files.list(journalDir)) {
+            // 只剩下当前活动段
+            assertTrue(files.count() <= 2);
+        }
+        assertEquals(0, small.getPendingCount(3L));
+    }
+
+    private ViewCountBuffer newBuffer(DataSize segmentSize) throws Exception {
+        ViewCountBuffer viewCountBuffer = new ViewCountBuffer(postMapper, new TransactionTemplate(transactionManager),
+                journalDir.toString(), segmentSize, 100, Duration.ofSeconds(60));
+        viewCountBuffer.init();
+        return viewCountBuffer;
+    }
+
+    private static int failWith(String message) {
+        throw new RuntimeException(message);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> flushedDeltas(int expectedCalls) {
+        ArgumentCaptor<List<PostMapper.ViewCountDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(postMapper, times(expectedCalls)).batchIncrementViewCount(captor.capture());
+        return captor.getAllValues().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toMap(PostMapper.ViewCountDelta::getPostId, PostMapper.ViewCountDelta::getDelta, Long::sum));
+    }
+}
@@ -0,0 +1,103 @@
+package com.blog.api.export;
+
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.cache.ResponseBytesCache;
+import com.blog.api.dto.response.PostResponse;
+import com.blog.api.entity.Post;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.search.ArchiveIndex;
+import com.blog.api.search.PostNavigationIndex;
+import com.blog.api.service.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StaticExporterTest {
+
+    @TempDir
+    Path root;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private PostMapper postMapper;
+    private PostAssembler postAssembler;
+    private PostNavigationIndex postNavigationIndex;
+    private StaticExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        postMapper = mock(PostMapper.class);
+        postAssembler = mock(PostAssembler.class);
+        postNavigationIndex = mock(PostNavigationIndex.class);
+        when(postNavigationIndex.attach(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        exporter = new StaticExporter(postMapper, postAssembler, mock(PostService.class), mock(CategoryService.class),
+                mock(TagService.class), mock(FriendLinkService.class), mock(ConfigService.class), mock(FeedService.class),
+                mock(ArchiveIndex.class), postNavigationIndex, mock(ResponseBytesCache.class), objectMapper, mock(ContentVersions.class),
+                false, root.toString(), 10, 2);
+    }
+
+    @Test
+    @DisplayName("Post - Exported By Id And Slug With Gzip And Manifest")
+    void doExport_WritesPostFiles() throws Exception {
+        publish(7L, "hello-world", "Hello");
+
+        exporter.doExport(Set.of(), Set.of(7L));
+
+        Path byId = root.resolve("api/blog/posts/7.json");
+        Path bySlug = root.resolve("api/blog/posts/slug/hello-world.json");
+        assertTrue(Files.exists(byId));
+        assertTrue(Files.exists(Path.of(bySlug + ".gz")));
+        JsonNode body = objectMapper.readTree(bySlug.toFile());
+        assertEquals("Hello", body.get("data").get("title").asText());
+        JsonNode manifest = objectMapper.readTree(root.resolve(StaticExporter.MANIFEST_FILE).toFile());
+        assertEquals("/api/blog/posts/slug/hello-world",
+                manifest.get("api/blog/posts/slug/hello-world.json").get("url").asText());
+    }
+
+    @Test
+    @DisplayName("Post - Unchanged Content Not Rewritten, Renamed Slug And Unpublished Post Removed")
+    void doExport_IncrementalChanges() throws Exception {
+        publish(7L, "hello-world", "Hello");
+        exporter.doExport(Set.of(), Set.of(7L));
+        Path byId = root.resolve("api/blog/posts/7.json");
+        FileTime marker = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(byId, marker);
+
+        exporter.doExport(Set.of(), Set.of(7L));
+        assertEquals(marker, Files.getLastModifiedTime(byId));
+
+        publish(7L, "hello-again", "Hello");
+        exporter.doExport(Set.of(), Set.of(7L));
+        assertFalse(Files.exists(root.resolve("api/blog/posts/slug/hello-world.json")));
+        assertFalse(Files.exists(root.resolve("api/blog/posts/slug/hello-world.json.gz")));
+        assertTrue(Files.exists(root.resolve("api/blog/posts/slug/hello-again.json")));
+
+        Post draft = new Post();
+        draft.setId(7L);
+        draft.setStatus(0);
+        when(postMapper.selectById(7L)).thenReturn(draft);
+        exporter.doExport(Set.of(), Set.of(7L));
+        assertFalse(Files.exists(byId));
+        assertFalse(Files.exists(root.resolve("api/blog/posts/slug/hello-again.json")));
+    }
+
+    private void publish(Long id, String slug, String title) {
+        Post post = new Post();
+        post.setId(id);
+        post.setSlug(slug);
+        post.setStatus(1);
+        when(postMapper.selectById(id)).thenReturn(post);
+        PostResponse response = PostResponse.builder().id(id).slug(slug).title(title).build();
+        when(postAssembler.toResponse(post)).thenReturn(response);
+    }
+}
@@ -0,0 +1,87 @@
+package com.blog.api.feed;
+
+import com.blog.api.dto.response.PostResponse;
+import com.blog.api.dto.response.PostSummaryResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedRendererTest {
+
+    private static final FeedRenderer.Channel CHANNEL = new FeedRenderer.Channel("https://blog.example.com",
+            "My <Blog>", "Notes & thoughts", "https://blog.example.com/", "https://blog.example.com/api/blog/feed.xml");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FeedRenderer renderer = new FeedRenderer(objectMapper);
+
+    @Test
+    @DisplayName("RSS - Well Formed With Escaped Text And Categories")
+    void render_Rss() throws Exception {
+        Document document = parse(renderer.render(FeedFormat.RSS, CHANNEL, List.of(post())));
+
+        assertEquals("My <Blog>", document.getElementsByTagName("title").item(0).getTextContent());
+        assertEquals("https://blog.example.com/posts/7", document.getElementsByTagName("guid").item(0).getTextContent());
+        assertEquals(3, document.getElementsByTagName("category").getLength());
+        assertEquals(1, document.getElementsByTagName("pubDate").getLength());
+    }
+
+    @Test
+    @DisplayName("Atom - Entry Has Id, Updated And Author")
+    void render_Atom() throws Exception {
+        Document document = parse(renderer.render(FeedFormat.ATOM, CHANNEL, List.of(post())));
+
+        assertEquals("feed", document.getDocumentElement().getLocalName());
+        assertEquals(1, document.getElementsByTagName("entry").getLength());
+        assertEquals(2, document.getElementsByTagName("author").getLength());
+        assertTrue(document.getElementsByTagName("updated").item(0).getTextContent().startsWith("2024-05-02T"));
+    }
+
+    @Test
+    @DisplayName("JSON Feed - Required Fields Present")
+    void render_Json() throws Exception {
+        JsonNode feed = objectMapper.readTree(renderer.render(FeedFormat.JSON, CHANNEL, List.of(post())));
+
+        assertEquals("https://jsonfeed.org/version/1.1", feed.get("version").asText());
+        JsonNode item = feed.get("items").get(0);
+        assertEquals("https://blog.example.com/posts/7", item.get("id").asText());
+        assertEquals("Summary <b>", item.get("content_text").asText());
+        assertEquals(3, item.get("tags").size());
+    }
+
+    @Test
+    @DisplayName("Format - Resolved By Extension")
+    void fromExtension() {
+        assertEquals(FeedFormat.ATOM, FeedFormat.fromExtension("atom"));
+        assertNull(FeedFormat.fromExtension("html"));
+    }
+
+    private static Document parse(byte[] bytes) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(bytes));
+    }
+
+    private static PostSummaryResponse post() {
+        PostResponse.TagInfo spring = PostResponse.TagInfo.builder().id(1L).name("Spring").build();
+        PostResponse.TagInfo redis = PostResponse.TagInfo.builder().id(2L).name("Redis").build();
+        return PostSummaryResponse.builder()
+                .id(7L)
+                .title("Caching & ETags")
+                .summary("Summary <b>")
+                .authorName("admin")
+                .categoryName("Backend")
+                .publishedAt(LocalDateTime.of(2024, 5, 1, 8, 0))
+                .updatedAt(LocalDateTime.of(2024, 5, 2, 8, 0))
+                .tags(List.of(spring, redis))
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.blog.api.render;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkdownRendererTest {
+
+    private final MarkdownRenderer renderer = new MarkdownRenderer();
+
+    @Test
+    @DisplayName("Render - Headings Produce Toc With Matching Anchors")
+    void render_ExtractsToc() {
+        RenderResult result = renderer.render("# Intro\n\ntext\n\n## Getting Started\n\n## 安装\n");
+
+        assertEquals(3, result.toc().size());
+        assertEquals(1, result.toc().get(0).level());
+        assertEquals("Getting Started", result.toc().get(1).text());
+        for (RenderResult.TocEntry entry : result.toc()) {
+            assertTrue(result.html().contains("id=\"" + entry.anchor() + "\""), entry.anchor());
+        }
+    }
+
+    @Test
+    @DisplayName("Render - Script And Event Handlers Are Removed")
+    void render_SanitizesHtml() {
+        RenderResult result = renderer.render("hello <script>alert(1)</script> <img src=\"/uploads/a.png\" onerror=\"x()\">");
+
+        assertFalse(result.html().contains("<script"));
+        assertFalse(result.html().contains("onerror"));
+        assertTrue(result.html().contains("src=\"/uploads/a.png\""));
+    }
+
+    @Test
+    @DisplayName("Render - Counts CJK Characters And Latin Words")
+    void render_CountsWords() {
+        RenderResult result = renderer.render("你好世界 hello world");
+
+        assertEquals(6, result.wordCount());
+        assertEquals(1, result.readingTimeMinutes());
+    }
+
+    @Test
+    @DisplayName("Render - Blank Content")
+    void render_Blank() {
+        RenderResult result = renderer.render("  ");
+
+        assertEquals("", result.html());
+        assertEquals(0, result.wordCount());
+        assertEquals(0, result.readingTimeMinutes());
+    }
+}
@@ -0,0 +1,91 @@
+package com.blog.api.search;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.dto.response.ArchiveResponse;
+import com.blog.api.entity.Post;
+import com.blog.api.mapper.PostMapper;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ArchiveIndexTest {
+
+    private PostMapper postMapper;
+    private ArchiveIndex index;
+
+    @BeforeAll
+    static void initTableInfo() {
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), Post.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        postMapper = mock(PostMapper.class);
+        index = new ArchiveIndex(postMapper, mock(ContentVersions.class));
+        when(postMapper.selectList(any())).thenReturn(List.of(
+                post(1L, 1, LocalDateTime.of(2023, 12, 5, 10, 0)),
+                post(2L, 1, LocalDateTime.of(2024, 1, 3, 10, 0)),
+                post(3L, 1, LocalDateTime.of(2024, 1, 20, 10, 0))));
+        index.reload();
+    }
+
+    @Test
+    @DisplayName("Reload - Groups By Year And Month, Newest First")
+    void reload_Grouped() {
+        ArchiveResponse archive = index.snapshot().archive();
+
+        assertEquals(3, archive.getTotal());
+        assertEquals(List.of(2024, 2023), archive.getYears().stream().map(ArchiveResponse.Year::getYear).toList());
+        ArchiveResponse.Month january = archive.getYears().get(0).getMonths().get(0);
+        assertEquals(1, january.getMonth());
+        assertEquals(List.of(3L, 2L), january.getPosts().stream().map(ArchiveResponse.Item::getId).toList());
+        assertEquals(1, index.snapshot().years().get(2023).getTotal());
+    }
+
+    @Test
+    @DisplayName("Refresh - Moves Post And Bumps Revision")
+    void refresh_Moved() {
+        long revision = index.snapshot().revision();
+        when(postMapper.selectOne(any())).thenReturn(post(1L, 1, LocalDateTime.of(2024, 1, 10, 10, 0)));
+
+        index.refresh(1L);
+
+        ArchiveIndex.Snapshot snapshot = index.snapshot();
+        assertTrue(snapshot.revision() > revision);
+        assertEquals(1, snapshot.archive().getYears().size());
+        assertEquals(List.of(3L, 1L, 2L), snapshot.archive().getYears().get(0).getMonths().get(0).getPosts()
+                .stream().map(ArchiveResponse.Item::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Refresh - Unpublished Post Is Removed")
+    void refresh_Unpublished() {
+        when(postMapper.selectOne(any())).thenReturn(post(3L, 0, LocalDateTime.of(2024, 1, 20, 10, 0)));
+
+        index.refresh(3L);
+
+        assertEquals(2, index.snapshot().archive().getTotal());
+        assertEquals(1, index.snapshot().years().get(2024).getTotal());
+    }
+
+    private static Post post(Long id, int status, LocalDateTime publishedAt) {
+        Post post = new Post();
+        post.setId(id);
+        post.setTitle("Post " + id);
+        post.setSlug("post-" + id);
+        post.setStatus(status);
+        post.setPublishedAt(publishedAt);
+        return post;
+    }
+}
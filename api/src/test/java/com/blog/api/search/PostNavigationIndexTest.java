@@ -0,0 +1,112 @@
+package com.blog.api.search;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.blog.api.cache.ContentChange;
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.dto.response.PostResponse;
+import com.blog.api.entity.Post;
+import com.blog.api.mapper.PostMapper;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PostNavigationIndexTest {
+
+    private PostMapper postMapper;
+    private ContentVersions contentVersions;
+    private Consumer<ContentChange> listener;
+    private PostNavigationIndex index;
+
+    @BeforeAll
+    static void initTableInfo() {
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), Post.class);
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        postMapper = mock(PostMapper.class);
+        contentVersions = mock(ContentVersions.class);
+        when(contentVersions.get(ContentScope.POST)).thenReturn(100L);
+        index = new PostNavigationIndex(postMapper, contentVersions);
+        index.subscribe();
+        ArgumentCaptor<Consumer<ContentChange>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(contentVersions).addListener(captor.capture());
+        listener = captor.getValue();
+        when(postMapper.selectList(any())).thenReturn(List.of(
+                post(1L, 1, 10L, LocalDateTime.of(2024, 1, 1, 10, 0)),
+                post(2L, 1, 20L, LocalDateTime.of(2024, 1, 2, 10, 0)),
+                post(3L, 1, 10L, LocalDateTime.of(2024, 1, 3, 10, 0)),
+                post(4L, 1, 20L, LocalDateTime.of(2024, 1, 3, 10, 0))));
+    }
+
+    @Test
+    @DisplayName("Navigate - Adjacent Posts Globally And Within Category, Ties Broken By Id")
+    void navigate_Adjacent() {
+        PostNavigationIndex.Navigation navigation = index.navigate(3L);
+
+        assertEquals(2L, navigation.previous().getId());
+        assertEquals(4L, navigation.next().getId());
+        assertEquals(1L, navigation.previousInCategory().getId());
+        assertNull(navigation.nextInCategory());
+        assertNull(index.navigate(1L).previous());
+        assertNull(index.navigate(99L));
+        assertTrue(index.isPublished(3L));
+        assertFalse(index.isPublished(99L));
+    }
+
+    @Test
+    @DisplayName("Change Event - Applied Incrementally Once The Version Advances")
+    void navigate_AppliesChange() {
+        index.navigate(1L);
+        when(postMapper.selectOne(any())).thenReturn(post(1L, 1, 20L, LocalDateTime.of(2024, 2, 1, 10, 0)));
+        listener.accept(new ContentChange(ContentScope.POST, 1L, 101L, false));
+        when(contentVersions.get(ContentScope.POST)).thenReturn(101L);
+
+        PostNavigationIndex.Navigation navigation = index.navigate(1L);
+
+        assertEquals(4L, navigation.previous().getId());
+        assertNull(navigation.next());
+        assertEquals(4L, navigation.previousInCategory().getId());
+        assertNull(index.navigate(3L).previousInCategory());
+        assertEquals(List.of(2L, 4L), index.neighbours(3L));
+        verify(postMapper, times(1)).selectList(any());
+    }
+
+    @Test
+    @DisplayName("Attach - Unpublished Post Left Untouched")
+    void attach_Unpublished() {
+        PostResponse draft = PostResponse.builder().id(3L).status(0).build();
+        PostResponse published = PostResponse.builder().id(3L).status(1).build();
+
+        assertSame(draft, index.attach(draft));
+        PostResponse attached = index.attach(published);
+        assertNotSame(published, attached);
+        assertNull(published.getPrevious());
+        assertEquals(List.of(2L, 4L, 1L), PostNavigationIndex.neighbours(attached));
+    }
+
+    private static Post post(Long id, int status, Long categoryId, LocalDateTime publishedAt) {
+        Post post = new Post();
+        post.setId(id);
+        post.setTitle("Post " + id);
+        post.setSlug("post-" + id);
+        post.setStatus(status);
+        post.setCategoryId(categoryId);
+        post.setPublishedAt(publishedAt);
+        return post;
+    }
+}
@@ -0,0 +1,139 @@
+package com.blog.api.search;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.entity.Post;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.render.MarkdownRenderer;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class PostSearchIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    private PostMapper postMapper;
+    private PostSearchIndex index;
+
+    @BeforeAll
+    static void initTableInfo() {
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), Post.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        postMapper = mock(PostMapper.class);
+        ContentVersions contentVersions = new ContentVersions(mock(StringRedisTemplate.class), mock(RedisMessageListenerContainer.class));
+        index = new PostSearchIndex(postMapper, new MarkdownRenderer(), contentVersions, indexDir.toString(), 2);
+        index.open();
+
+        when(postMapper.selectBatchIds(anyList())).thenReturn(List.of(
+                post(1L, "Spring Boot 入门教程", "## 搜索引擎\n\n使用 **Lucene** 构建搜索引擎", 10L, 1),
+                post(2L, "Redis 缓存实践", "缓存穿透与缓存雪崩", 20L, 1),
+                post(3L, "草稿：搜索引擎", "未发布", 10L, 0)));
+        when(postMapper.selectTagsByPostIds(anyList())).thenReturn(List.of(
+                tag(100L, 1L), tag(101L, 1L), tag(100L, 2L)));
+        index.update(List.of(1L, 2L, 3L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("Search - Chinese Bigrams Match And Highlight")
+    void search_Chinese() {
+        SearchResult result = index.search("搜索引擎", null, null, 0, 10);
+
+        assertEquals(1, result.totalHits());
+        SearchResult.Hit hit = result.hits().get(0);
+        assertEquals(1L, hit.id());
+        assertNotNull(hit.contentHighlight());
+        assertTrue(hit.contentHighlight().contains("<mark>"));
+        assertFalse(hit.contentHighlight().contains("**"), "markdown markup should be stripped");
+        assertEquals(1L, result.categoryCounts().get("10"));
+        assertEquals(1L, result.tagCounts().get("101"));
+    }
+
+    @Test
+    @DisplayName("Search - English Terms And Tag Filter")
+    void search_EnglishWithFilter() {
+        assertEquals(1, index.search("redis", null, null, 0, 10).totalHits());
+        assertEquals(2, index.search("缓存 | spring", null, null, 0, 10).totalHits());
+        assertEquals(0, index.search("redis", null, 101L, 0, 10).totalHits());
+    }
+
+    @Test
+    @DisplayName("Search - Page Beyond The Result Window Is Empty")
+    void search_PageBeyondWindow() {
+        SearchResult result = index.search("redis", null, null, Integer.MAX_VALUE, 10);
+
+        assertTrue(result.hits().isEmpty());
+        assertEquals(1, result.totalHits());
+    }
+
+    @Test
+    @DisplayName("Update - Unpublished Post Is Removed From Index")
+    void update_RemovesUnpublished() {
+        when(postMapper.selectBatchIds(anyList())).thenReturn(List.of(post(2L, "Redis 缓存实践", "", 20L, 0)));
+
+        index.update(List.of(2L));
+
+        assertEquals(0, index.search("redis", null, null, 0, 10).totalHits());
+    }
+
+    @Test
+    @DisplayName("Rebuild - Failed Batch Rolls Back Instead Of Committing An Empty Index")
+    void rebuild_FailureRollsBack() {
+        when(postMapper.selectObjs(any())).thenReturn(List.of(1L, 2L));
+        when(postMapper.selectBatchIds(anyList())).thenThrow(new IllegalStateException("db down"));
+
+        assertThrows(IllegalStateException.class, () -> index.rebuild());
+        index.commit();
+        // 从磁盘重新打开，确认落盘的仍是重建前的索引
+        index.close();
+        index = new PostSearchIndex(postMapper, new MarkdownRenderer(), mock(ContentVersions.class), indexDir.toString(), 2);
+        index.open();
+
+        assertEquals(1, index.search("redis", null, null, 0, 10).totalHits());
+        assertEquals(1, index.search("搜索引擎", null, null, 0, 10).totalHits());
+    }
+
+    private static Post post(Long id, String title, String content, Long categoryId, int status) {
+        Post post = new Post();
+        post.setId(id);
+        post.setTitle(title);
+        post.setSlug("post-" + id);
+        post.setContent(content);
+        post.setCategoryId(categoryId);
+        post.setStatus(status);
+        post.setCreatedAt(LocalDateTime.now());
+        return post;
+    }
+
+    private static PostMapper.TagWithPostId tag(Long tagId, Long postId) {
+        PostMapper.TagWithPostId tag = new PostMapper.TagWithPostId();
+        tag.setId(tagId);
+        tag.setPostId(postId);
+        return tag;
+    }
+}
@@ -0,0 +1,99 @@
+package com.blog.api.search;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.entity.Post;
+import com.blog.api.entity.PostTag;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.mapper.PostTagMapper;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RelatedPostIndexTest {
+
+    private PostMapper postMapper;
+    private PostTagMapper postTagMapper;
+    private RelatedPostIndex index;
+
+    @BeforeAll
+    static void initTableInfo() {
+        // LambdaQueryWrapper 需要实体元数据
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), Post.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        postMapper = mock(PostMapper.class);
+        postTagMapper = mock(PostTagMapper.class);
+        index = new RelatedPostIndex(postMapper, postTagMapper, mock(ContentVersions.class));
+
+        // 1: {100, 101}  2: {100, 101, 102}  3: {100}  4: {102}，与 1 同分类  5: 无标签
+        when(postMapper.selectList(any())).thenReturn(List.of(
+                post(1L, 10L, 1), post(2L, 20L, 1), post(3L, 20L, 1), post(4L, 10L, 1), post(5L, 30L, 1)));
+        when(postTagMapper.selectList(any())).thenReturn(List.of(
+                postTag(1L, 100L), postTag(1L, 101L),
+                postTag(2L, 100L), postTag(2L, 101L), postTag(2L, 102L),
+                postTag(3L, 100L),
+                postTag(4L, 102L)));
+        index.reload();
+    }
+
+    @Test
+    @DisplayName("Related - Ranked By Weighted Jaccard Plus Category")
+    void related_Ranked() {
+        assertEquals(List.of(2L, 3L, 4L), index.related(1L, 10));
+        assertEquals(List.of(2L), index.related(1L, 1));
+        assertTrue(index.related(5L, 10).isEmpty());
+        assertTrue(index.related(99L, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Refresh - Unpublished Post Is Removed From Neighbours")
+    void refresh_Unpublished() {
+        assertTrue(index.related(1L, 10).contains(2L));
+        when(postMapper.selectOne(any())).thenReturn(post(2L, 20L, 0));
+
+        index.refresh(2L);
+
+        assertEquals(List.of(3L, 4L), index.related(1L, 10));
+        assertTrue(index.related(2L, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Refresh - Retagged Post Becomes Related")
+    void refresh_Retagged() {
+        when(postMapper.selectOne(any())).thenReturn(post(5L, 30L, 1));
+        when(postMapper.selectTagIdsByPostId(eq(5L))).thenReturn(List.of(100L, 101L));
+
+        index.refresh(5L);
+
+        assertTrue(index.related(1L, 10).contains(5L));
+        assertEquals(1L, index.related(5L, 10).get(0));
+    }
+
+    private static Post post(Long id, Long categoryId, int status) {
+        Post post = new Post();
+        post.setId(id);
+        post.setCategoryId(categoryId);
+        post.setStatus(status);
+        return post;
+    }
+
+    private static PostTag postTag(Long postId, Long tagId) {
+        PostTag postTag = new PostTag();
+        postTag.setPostId(postId);
+        postTag.setTagId(tagId);
+        return postTag;
+    }
+}
@@ -0,0 +1,49 @@
+package com.blog.api.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestTrieTest {
+
+    @Test
+    @DisplayName("Lookup - Ranks By Weight And Deduplicates Entries")
+    void lookup_RankedByWeight() {
+        SuggestTrie trie = SuggestTrie.builder(10)
+                .add(entry(SuggestType.POST, 1, "Spring Boot 入门", 10), SuggestIndex.keysOf("Spring Boot 入门"))
+                .add(entry(SuggestType.POST, 2, "Spring Cloud 实战", 50), SuggestIndex.keysOf("Spring Cloud 实战"))
+                .add(entry(SuggestType.TAG, 3, "Spring", 100), Set.of("Spring", "spring"))
+                .build();
+
+        List<SuggestTrie.Entry> result = trie.lookup("SPR", 10);
+
+        assertEquals(List.of(3L, 2L, 1L), result.stream().map(SuggestTrie.Entry::id).toList());
+        assertEquals(2, trie.lookup("spr", 2).size());
+        assertTrue(trie.lookup("xyz", 10).isEmpty());
+        assertTrue(trie.lookup(" ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Lookup - Word Suffix, Full Pinyin And Initials")
+    void lookup_PinyinAndSuffix() {
+        SuggestTrie trie = SuggestTrie.builder(10)
+                .add(entry(SuggestType.POST, 1, "Spring Boot 入门教程", 10), SuggestIndex.keysOf("Spring Boot 入门教程"))
+                .add(entry(SuggestType.CATEGORY, 2, "后端开发", 5), SuggestIndex.keysOf("后端开发"))
+                .build();
+
+        assertEquals(1L, trie.lookup("boot", 10).get(0).id());
+        assertEquals(1L, trie.lookup("入门", 10).get(0).id());
+        assertEquals(1L, trie.lookup("sbrm", 10).get(0).id());
+        assertEquals(2L, trie.lookup("houduan", 10).get(0).id());
+        assertEquals(2L, trie.lookup("hdkf", 10).get(0).id());
+        assertEquals(2L, trie.lookup("开发", 10).get(0).id());
+    }
+
+    private static SuggestTrie.Entry entry(SuggestType type, long id, String text, long weight) {
+        return new SuggestTrie.Entry(type, id, text, "slug-" + id, weight);
+    }
+}
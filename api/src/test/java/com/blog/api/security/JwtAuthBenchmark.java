@@ -0,0 +1,75 @@
+package com.blog.api.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 每个认证请求的令牌处理开销
+ * <ul>
+ *   <li>legacy：改造前的过滤器路径，每次请求两次创建密钥和解析器并两次验签</li>
+ *   <li>singleVerify：密钥和解析器只创建一次，每次请求验签一次（关闭已验证令牌缓存）</li>
+ *   <li>cachedVerify：命中已验证令牌缓存</li>
+ * </ul>
+ * 运行：在 api 目录执行 {@code mvn test-compile} 后直接运行本类的 main 方法，
+ * 或 {@code java -cp target/test-classes:target/classes:<test classpath> org.openjdk.jmh.Main JwtAuthBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-must-be-long-enough";
+
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedProvider = new JwtTokenProvider(SECRET, 86_400_000L, 0);
+        cachedProvider = new JwtTokenProvider(SECRET, 86_400_000L, 10_000);
+        token = cachedProvider.generateToken("admin");
+        cachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public String legacy() {
+        Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token);
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+    }
+
+    @Benchmark
+    public String singleVerify() {
+        Claims claims = uncachedProvider.verify(token);
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public String cachedVerify() {
+        Claims claims = cachedProvider.verify(token);
+        return claims.getSubject();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtAuthBenchmark.class.getSimpleName()).build()).run();
+    }
+}
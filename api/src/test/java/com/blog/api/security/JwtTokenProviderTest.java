@@ -0,0 +1,42 @@
+package com.blog.api.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-must-be-long-enough";
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000L, 100);
+
+    @Test
+    @DisplayName("Verify - Valid Token Returns Claims, Cached On Repeat")
+    void verify_Valid() {
+        String token = provider.generateToken("admin");
+
+        Claims claims = provider.verify(token);
+
+        assertEquals("admin", claims.getSubject());
+        assertSame(claims, provider.verify(token));
+        long remaining = provider.getExpirationFromToken(token);
+        assertTrue(remaining > 0 && remaining <= 60_000L);
+    }
+
+    @Test
+    @DisplayName("Verify - Tampered, Foreign, Malformed And Expired Tokens Rejected")
+    void verify_Invalid() {
+        String token = provider.generateToken("admin");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String foreign = new JwtTokenProvider(SECRET + "-other", 60_000L, 100).generateToken("admin");
+        String expired = new JwtTokenProvider(SECRET, -1_000L, 100).generateToken("admin");
+
+        assertNull(provider.verify(tampered));
+        assertNull(provider.verify(foreign));
+        assertNull(provider.verify("not-a-token"));
+        assertNull(provider.verify(expired));
+        assertEquals(0, provider.getExpirationFromToken(expired));
+    }
+}
@@ -0,0 +1,77 @@
+package com.blog.api.service;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.cache.RedisLoadingCache;
+import com.blog.api.dto.response.SiteConfigResponse;
+import com.blog.api.entity.SiteConfig;
+import com.blog.api.mapper.SiteConfigMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ConfigServiceTest {
+
+    private SiteConfigMapper siteConfigMapper;
+    private ContentVersions contentVersions;
+    private RedisLoadingCache redisLoadingCache;
+    private ConfigService configService;
+
+    @BeforeAll
+    static void initTableInfo() {
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), SiteConfig.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        siteConfigMapper = mock(SiteConfigMapper.class);
+        contentVersions = mock(ContentVersions.class);
+        redisLoadingCache = mock(RedisLoadingCache.class);
+        when(redisLoadingCache.get(anyString(), eq(SiteConfigResponse.class), any(Duration.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+        when(siteConfigMapper.selectList(any())).thenReturn(List.of(
+                config(ConfigService.KEY_SITE_BASIC, "{\"title\":\"My Blog\"}"),
+                config(ConfigService.KEY_SKILLS, "[{\"name\":\"Java\"}]"),
+                config(ConfigService.KEY_AUTHOR, "not json")));
+        configService = new ConfigService(siteConfigMapper, new ObjectMapper(), contentVersions, redisLoadingCache);
+    }
+
+    @Test
+    @DisplayName("Snapshot - Loaded Once With A Single Query And Reused Until The Version Changes")
+    void getAllConfigs_Snapshot() {
+        when(contentVersions.get(ContentScope.CONFIG)).thenReturn(1L);
+
+        SiteConfigResponse first = configService.getAllConfigs();
+        assertSame(first, configService.getAllConfigs());
+        assertEquals("My Blog", first.getBasic().getTitle());
+        assertEquals(1, first.getSkills().size());
+        assertNotNull(first.getAuthor());
+        assertTrue(first.getSocialLinks().isEmpty());
+        verify(siteConfigMapper, times(1)).selectList(any());
+        verify(redisLoadingCache).get(eq("config:all:1"), eq(SiteConfigResponse.class), any(Duration.class), any());
+
+        when(contentVersions.get(ContentScope.CONFIG)).thenReturn(2L);
+        assertNotSame(first, configService.getAllConfigs());
+        verify(siteConfigMapper, times(2)).selectList(any());
+    }
+
+    private static SiteConfig config(String key, String value) {
+        SiteConfig config = new SiteConfig();
+        config.setConfigKey(key);
+        config.setConfigValue(value);
+        return config;
+    }
+}
@@ -0,0 +1,111 @@
+package com.blog.api.service;
+
+import com.blog.api.dto.response.PostResponse;
+import com.blog.api.entity.Post;
+import com.blog.api.mapper.PostMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostAssemblerTest {
+
+    @Mock
+    private PostMapper postMapper;
+
+    @InjectMocks
+    private PostAssembler postAssembler;
+
+    @Test
+    @DisplayName("ToResponse - Post With 12 Tags Costs 3 Queries")
+    void toResponse_BatchesRelations() {
+        Post post = post(1L, 10L, 100L);
+
+        when(postMapper.selectCategoriesByIds(List.of(10L))).thenReturn(List.of(category(10L)));
+        when(postMapper.selectAuthorsByIds(List.of(100L))).thenReturn(List.of(author(100L)));
+        when(postMapper.selectTagsByPostIds(List.of(1L))).thenReturn(
+                LongStream.rangeClosed(1, 12).mapToObj(id -> tag(id, 1L)).toList());
+
+        PostResponse response = postAssembler.toResponse(post);
+
+        assertEquals("Category 10", response.getCategoryName());
+        assertEquals("Author 100", response.getAuthorName());
+        assertEquals(12, response.getTags().size());
+        verify(postMapper, times(1)).selectCategoriesByIds(anyList());
+        verify(postMapper, times(1)).selectTagsByPostIds(anyList());
+        verify(postMapper, times(1)).selectAuthorsByIds(anyList());
+        verifyNoMoreInteractions(postMapper);
+    }
+
+    @Test
+    @DisplayName("ToResponses - Shared Keys Are Loaded Once")
+    void toResponses_DeduplicatesKeys() {
+        List<Post> posts = new ArrayList<>();
+        posts.add(post(1L, 10L, 100L));
+        posts.add(post(2L, 10L, 100L));
+        posts.add(post(3L, null, 100L));
+
+        when(postMapper.selectCategoriesByIds(List.of(10L))).thenReturn(List.of(category(10L)));
+        when(postMapper.selectAuthorsByIds(List.of(100L))).thenReturn(List.of(author(100L)));
+        when(postMapper.selectTagsByPostIds(List.of(1L, 2L, 3L))).thenReturn(List.of(tag(5L, 2L)));
+
+        List<PostResponse> responses = postAssembler.toResponses(posts);
+
+        assertEquals(3, responses.size());
+        assertEquals("Category 10", responses.get(1).getCategoryName());
+        assertNull(responses.get(2).getCategoryName());
+        assertNull(responses.get(0).getTags());
+        assertEquals(1, responses.get(1).getTags().size());
+        verify(postMapper, times(1)).selectCategoriesByIds(anyList());
+        verify(postMapper, times(1)).selectTagsByPostIds(anyList());
+        verify(postMapper, times(1)).selectAuthorsByIds(anyList());
+    }
+
+    private Post post(Long id, Long categoryId, Long authorId) {
+        Post post = new Post();
+        post.setId(id);
+        post.setTitle("Post " + id);
+        post.setSlug("post-" + id);
+        post.setCategoryId(categoryId);
+        post.setAuthorId(authorId);
+        post.setStatus(1);
+        post.setViewCount(0);
+        return post;
+    }
+
+    private PostMapper.CategoryInfo category(Long id) {
+        PostMapper.CategoryInfo category = new PostMapper.CategoryInfo();
+        category.setId(id);
+        category.setName("Category " + id);
+        category.setSlug("category-" + id);
+        return category;
+    }
+
+    private PostMapper.AuthorInfo author(Long id) {
+        PostMapper.AuthorInfo author = new PostMapper.AuthorInfo();
+        author.setId(id);
+        author.setUsername("user" + id);
+        author.setNickname("Author " + id);
+        return author;
+    }
+
+    private PostMapper.TagWithPostId tag(Long id, Long postId) {
+        PostMapper.TagWithPostId tag = new PostMapper.TagWithPostId();
+        tag.setId(id);
+        tag.setName("Tag " + id);
+        tag.setSlug("tag-" + id);
+        tag.setPostId(postId);
+        return tag;
+    }
+}
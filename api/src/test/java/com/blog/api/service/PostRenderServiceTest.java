@@ -0,0 +1,85 @@
+package com.blog.api.service;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.dto.response.PostRenderResponse;
+import com.blog.api.entity.Post;
+import com.blog.api.entity.PostRender;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.mapper.PostRenderMapper;
+import com.blog.api.render.MarkdownRenderer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class PostRenderServiceTest {
+
+    private PostMapper postMapper;
+    private PostRenderMapper postRenderMapper;
+    private PostRenderService service;
+
+    @BeforeAll
+    static void initTableInfo() {
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), Post.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        postMapper = mock(PostMapper.class);
+        postRenderMapper = mock(PostRenderMapper.class);
+        service = new PostRenderService(postMapper, postRenderMapper, new MarkdownRenderer(), new ObjectMapper(),
+                mock(ContentVersions.class), false, 1);
+        Post post = new Post();
+        post.setId(1L);
+        post.setContent("# New title");
+        when(postMapper.selectOne(any())).thenReturn(post);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Get - Stored Render Of Previous Content Is Re-rendered")
+    void getByPostId_ContentChanged() {
+        PostRender stale = new PostRender();
+        stale.setPostId(1L);
+        stale.setContentHash(PostRenderService.hash("# Old title"));
+        stale.setRendererVersion(MarkdownRenderer.RENDERER_VERSION);
+        stale.setHtml("<h1>Old title</h1>");
+        when(postRenderMapper.selectById(1L)).thenReturn(stale);
+
+        PostRenderResponse response = service.getByPostId(1L);
+
+        assertTrue(response.getHtml().contains("New title"));
+        assertEquals(PostRenderService.hash("# New title"), response.getContentHash());
+        verify(postRenderMapper).upsertBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Get - Up To Date Render Is Served As Stored")
+    void getByPostId_UpToDate() {
+        PostRender current = new PostRender();
+        current.setPostId(1L);
+        current.setContentHash(PostRenderService.hash("# New title"));
+        current.setRendererVersion(MarkdownRenderer.RENDERER_VERSION);
+        current.setHtml("<h1>stored</h1>");
+        when(postRenderMapper.selectById(1L)).thenReturn(current);
+
+        assertEquals("<h1>stored</h1>", service.getByPostId(1L).getHtml());
+        verify(postRenderMapper, never()).upsertBatch(anyList());
+    }
+}
@@ -0,0 +1,84 @@
+package com.blog.api.service;
+
+import com.blog.api.cache.RedisCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TokenServiceTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private TokenService tokenService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        tokenService = new TokenService(redisTemplate, new RedisCircuitBreaker(1, Duration.ofMinutes(1)), 100);
+    }
+
+    @Test
+    @DisplayName("Redis Down - Token Blacklisted Locally And Synced Later")
+    void addToBlacklist_RedisDown() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(valueOperations).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+
+        tokenService.addToBlacklist("token-a", 60_000);
+
+        assertTrue(tokenService.isBlacklisted("token-a"));
+        assertFalse(tokenService.isBlacklisted("token-b"));
+        verify(redisTemplate, never()).hasKey(anyString());
+        assertEquals(1, tokenService.pendingSyncCount());
+    }
+
+    @Test
+    @DisplayName("Recovery - Pending Tokens Written In One Pipeline")
+    @SuppressWarnings("unchecked")
+    void syncPending() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(valueOperations).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        tokenService = new TokenService(redisTemplate, new RedisCircuitBreaker(5, Duration.ofMinutes(1)), 100);
+        tokenService.addToBlacklist("token-a", 60_000);
+        tokenService.addToBlacklist("token-b", 60_000);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of());
+
+        tokenService.syncPending();
+
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        assertEquals(0, tokenService.pendingSyncCount());
+    }
+
+    @Test
+    @DisplayName("Single Failure Below Threshold - Pending Token Written On Next Successful Write")
+    @SuppressWarnings("unchecked")
+    void addToBlacklist_TransientFailure() {
+        tokenService = new TokenService(redisTemplate, new RedisCircuitBreaker(5, Duration.ofMinutes(1)), 100);
+        doThrow(new RedisConnectionFailureException("timeout"))
+                .doNothing()
+                .when(valueOperations).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of());
+
+        tokenService.addToBlacklist("token-a", 60_000);
+        assertEquals(1, tokenService.pendingSyncCount());
+
+        tokenService.addToBlacklist("token-b", 60_000);
+
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        assertEquals(0, tokenService.pendingSyncCount());
+    }
+}
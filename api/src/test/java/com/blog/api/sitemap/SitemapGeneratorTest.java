@@ -0,0 +1,150 @@
+package com.blog.api.sitemap;
+
+import com.blog.api.cache.ContentChange;
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.exception.BusinessException;
+import com.blog.api.mapper.PostMapper;
+import com.blog.api.service.ConfigService;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SitemapGeneratorTest {
+
+    private static final int SIZE = SitemapGenerator.SHARD_SIZE;
+
+    @TempDir
+    Path directory;
+
+    private PostMapper postMapper;
+    private Consumer<ContentChange> listener;
+    private SitemapGenerator generator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        postMapper = mock(PostMapper.class);
+        ConfigService configService = mock(ConfigService.class);
+        when(configService.getSiteUrl()).thenReturn("https://blog.example.com");
+        when(configService.getApiUrl()).thenReturn("https://api.example.com");
+        ContentVersions contentVersions = mock(ContentVersions.class);
+        generator = new SitemapGenerator(postMapper, configService, contentVersions, directory.toString());
+        generator.subscribe();
+        ArgumentCaptor<Consumer<ContentChange>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(contentVersions).addListener(captor.capture());
+        listener = captor.getValue();
+
+        when(postMapper.selectSitemapShards(SIZE)).thenReturn(List.of(shard(0L), shard(2L)));
+        doAnswer(invocation -> {
+            long fromId = invocation.getArgument(0);
+            ResultHandler<PostMapper.SitemapEntry> handler = invocation.getArgument(2);
+            handler.handleResult(context(entry(fromId)));
+            handler.handleResult(context(entry(fromId + 1)));
+            return null;
+        }).when(postMapper).streamSitemapEntries(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Index - Lists Shards By Id Range")
+    void index_ListsShards() throws IOException {
+        String xml = read(generator.index());
+
+        assertTrue(xml.contains("<loc>https://api.example.com/api/blog/sitemap-0.xml</loc>"));
+        assertTrue(xml.contains("<loc>https://api.example.com/api/blog/sitemap-2.xml</loc>"));
+        assertFalse(xml.contains("sitemap-1.xml"));
+        assertThrows(BusinessException.class, () -> generator.shard(1));
+    }
+
+    @Test
+    @DisplayName("Shard - Streams Posts And Static Pages")
+    void shard_StreamsPosts() throws IOException {
+        String first = read(generator.shard(0));
+        String third = read(generator.shard(2));
+
+        assertTrue(first.contains("<loc>https://blog.example.com/</loc>"));
+        assertTrue(first.contains("<loc>https://blog.example.com/posts/1</loc><lastmod>2024-05-01</lastmod>"));
+        assertFalse(third.contains("<loc>https://blog.example.com/</loc>"));
+        assertTrue(third.contains("/posts/" + (2L * SIZE + 1) + "</loc>"));
+        verify(postMapper).streamSitemapEntries(eq(2L * SIZE + 1), eq(3L * SIZE), any());
+    }
+
+    @Test
+    @DisplayName("Change - Regenerates Only Affected Shard")
+    void change_RegeneratesAffectedShard() throws IOException {
+        generator.shard(0);
+        generator.shard(2);
+        generator.shard(2);
+        verify(postMapper, times(1)).streamSitemapEntries(eq(2L * SIZE + 1), anyLong(), any());
+
+        listener.accept(new ContentChange(ContentScope.POST, 2L * SIZE + 5, 2L, false));
+        generator.shard(0);
+        generator.shard(2);
+
+        verify(postMapper, times(1)).streamSitemapEntries(eq(1L), anyLong(), any());
+        verify(postMapper, times(2)).streamSitemapEntries(eq(2L * SIZE + 1), anyLong(), any());
+        verify(postMapper, times(2)).selectSitemapShards(SIZE);
+    }
+
+    private static String read(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static PostMapper.SitemapShard shard(Long number) {
+        PostMapper.SitemapShard shard = new PostMapper.SitemapShard();
+        shard.setShard(number);
+        shard.setLastModified(LocalDateTime.of(2024, 5, 1, 12, 0));
+        return shard;
+    }
+
+    private static PostMapper.SitemapEntry entry(long id) {
+        PostMapper.SitemapEntry entry = new PostMapper.SitemapEntry();
+        entry.setId(id);
+        entry.setPublishedAt(LocalDateTime.of(2024, 4, 1, 8, 0));
+        entry.setUpdatedAt(LocalDateTime.of(2024, 5, 1, 8, 0));
+        return entry;
+    }
+
+    private static ResultContext<PostMapper.SitemapEntry> context(PostMapper.SitemapEntry entry) {
+        return new ResultContext<>() {
+            @Override
+            public PostMapper.SitemapEntry getResultObject() {
+                return entry;
+            }
+
+            @Override
+            public int getResultCount() {
+                return 1;
+            }
+
+            @Override
+            public boolean isStopped() {
+                return false;
+            }
+
+            @Override
+            public void stop() {
+            }
+        };
+    }
+}
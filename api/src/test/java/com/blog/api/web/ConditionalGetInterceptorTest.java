@@ -0,0 +1,77 @@
+package com.blog.api.web;
+
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ConditionalGetInterceptorTest {
+
+    private ContentVersions contentVersions;
+    private ConditionalGetInterceptor interceptor;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        contentVersions = new ContentVersions(mock(StringRedisTemplate.class), mock(RedisMessageListenerContainer.class));
+        interceptor = new ConditionalGetInterceptor(contentVersions);
+        handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("posts"));
+    }
+
+    @Test
+    @DisplayName("PreHandle - Matching ETag Returns 304 Without Invoking Handler")
+    void preHandle_NotModified() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(get(), first, handler));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertNotNull(first.getHeader(HttpHeaders.LAST_MODIFIED));
+
+        MockHttpServletRequest conditional = get();
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(conditional, second, handler));
+        assertEquals(304, second.getStatus());
+    }
+
+    @Test
+    @DisplayName("PreHandle - Version Bump Invalidates ETag")
+    void preHandle_ModifiedAfterBump() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(get(), first, handler);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        contentVersions.bump(ContentScope.TAG, 1L);
+
+        MockHttpServletRequest conditional = get();
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(conditional, second, handler));
+        assertEquals(200, second.getStatus());
+        assertNotEquals(etag, second.getHeader(HttpHeaders.ETAG));
+    }
+
+    private MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/blog/posts");
+    }
+
+    static class SampleController {
+
+        @ConditionalGet({ContentScope.POST, ContentScope.TAG})
+        public String posts() {
+            return "posts";
+        }
+    }
+}
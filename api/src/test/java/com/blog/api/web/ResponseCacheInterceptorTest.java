@@ -0,0 +1,103 @@
+package com.blog.api.web;
+
+import com.blog.api.cache.ContentScope;
+import com.blog.api.cache.ContentVersions;
+import com.blog.api.cache.ResponseBytesCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.method.HandlerMethod;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ResponseCacheInterceptorTest {
+
+    private static final ContentScope[] SCOPES = {ContentScope.TAG};
+    private static final String BODY = "{\"code\":200,\"data\":[" + "{\"name\":\"tag\"},".repeat(40) + "{}]}";
+
+    private ContentVersions contentVersions;
+    private ResponseBytesCache cache;
+    private ResponseCacheInterceptor interceptor;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        contentVersions = new ContentVersions(mock(StringRedisTemplate.class), mock(RedisMessageListenerContainer.class));
+        cache = new ResponseBytesCache(contentVersions, DataSize.ofMegabytes(1), 5);
+        cache.subscribe();
+        interceptor = new ResponseCacheInterceptor(cache);
+        handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("tags"));
+    }
+
+    @Test
+    @DisplayName("PreHandle - Miss Records Snapshot And Continues")
+    void preHandle_Miss() throws Exception {
+        MockHttpServletRequest request = get("gzip");
+
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), handler));
+        assertEquals("/api/blog/tags", request.getAttribute(ResponseCacheInterceptor.KEY_ATTRIBUTE));
+        assertNotNull(request.getAttribute(ResponseCacheInterceptor.VERSIONS_ATTRIBUTE));
+    }
+
+    @Test
+    @DisplayName("PreHandle - Hit Serves Pre-Compressed Gzip Bytes")
+    void preHandle_HitGzip() throws Exception {
+        cache.put("/api/blog/tags", "application/json", BODY.getBytes(StandardCharsets.UTF_8), SCOPES, cache.snapshot(SCOPES));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setHeader(HttpHeaders.ETAG, "\"abc\"");
+
+        assertFalse(interceptor.preHandle(get("gzip, deflate"), response, handler));
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("W/\"abc\"", response.getHeader(HttpHeaders.ETAG));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertEquals(BODY, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("PreHandle - Hit Without Accept-Encoding Serves Identity")
+    void preHandle_HitIdentity() throws Exception {
+        cache.put("/api/blog/tags", "application/json", BODY.getBytes(StandardCharsets.UTF_8), SCOPES, cache.snapshot(SCOPES));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(get("br;q=0, gzip;q=0"), response, handler));
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(BODY, response.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("PreHandle - Version Bump Evicts Entry")
+    void preHandle_EvictedAfterBump() throws Exception {
+        cache.put("/api/blog/tags", "application/json", BODY.getBytes(StandardCharsets.UTF_8), SCOPES, cache.snapshot(SCOPES));
+
+        contentVersions.bump(ContentScope.TAG, 1L);
+
+        assertTrue(interceptor.preHandle(get("gzip"), new MockHttpServletResponse(), handler));
+    }
+
+    private MockHttpServletRequest get(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blog/tags");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        return request;
+    }
+
+    static class SampleController {
+
+        @ConditionalGet(ContentScope.TAG)
+        @CachedResponse
+        public String tags() {
+            return "tags";
+        }
+    }
+}